@@ -1,31 +1,306 @@
 package com.vishnu.quote.app;
 
+import com.openai.client.OpenAIClient;
 import com.openai.models.ChatModel;
+import com.vishnu.quote.application.DeterministicQuoteSelector;
 import com.vishnu.quote.application.QuoteGenerators;
 import com.vishnu.quote.application.QuoteService;
+import com.vishnu.quote.application.TokenLedger;
 import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.QuoteDeduplicator;
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteSampler;
+import com.vishnu.quote.domain.ServedQuoteListener;
+import com.vishnu.quote.domain.TokenUsageListener;
+import com.vishnu.quote.generator.PrefetchingQuoteGenerator;
+import com.vishnu.quote.infrastructure.ai.LoadBalancingAiTextClient;
+import com.vishnu.quote.infrastructure.audit.NdjsonAuditLog;
+import com.vishnu.quote.infrastructure.audit.ServedQuoteRing;
+import com.vishnu.quote.infrastructure.http.QuoteHttpServer;
+import com.vishnu.quote.infrastructure.journal.QuoteJournal;
 import com.vishnu.quote.infrastructure.openai.OpenAiClientFactory;
 import com.vishnu.quote.infrastructure.openai.OpenAiResponsesTextClient;
+import com.vishnu.quote.infrastructure.repository.BinaryCorpusQuoteRepository;
+import com.vishnu.quote.infrastructure.repository.CompositeQuoteRepository;
+import com.vishnu.quote.infrastructure.repository.CorpusBuilder;
+import com.vishnu.quote.infrastructure.repository.SamplingQuoteRepository;
+import com.vishnu.quote.infrastructure.socket.QuoteSocketServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.UnaryOperator;
 
 public final class App {
 
-    public static void main(String[] args) {
-        QuoteGenerator generator;
+    private static final System.Logger LOG = System.getLogger(App.class.getName());
+
+    private static final long JOURNAL_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final int JOURNAL_MAX_BATCH = 256;
+    private static final long AUDIT_FILE_BYTES = 64L * 1024 * 1024;
+    private static final int AUDIT_RING_CAPACITY = 8192;
+    private static final int AUDIT_MAX_BATCH = 512;
+    private static final int DEFAULT_PORT = 8080;
+    private static final Duration AI_BUDGET = Duration.ofSeconds(8);
+    private static final String DEFAULT_SOCKET = "motivational-quotes.sock";
+    private static final Duration TOKEN_WINDOW = Duration.ofHours(1);
+
+    public static void main(String[] args) throws InterruptedException, IOException {
+        QuoteJournal journal = openJournal(System.getenv("QUOTE_JOURNAL_DIR"));
         try {
-            var openAiClient = OpenAiClientFactory.fromEnvironment();
-            AiTextClient aiTextClient = new OpenAiResponsesTextClient(
-                    openAiClient, ChatModel.GPT_4_1_MINI, 0.9, 60
-            );
-            generator = QuoteGenerators.aiWithClasspathFallback(
-                    aiTextClient, "quotes.txt"
+            QuoteRepository corpus = new BinaryCorpusQuoteRepository("quotes.bin", "quotes.txt");
+            if (args.length > 0 && args[0].equals("serve")) {
+                int port = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_PORT;
+                try (ServedQuoteRing audit = auditRing("http");
+                     ExecutorService prefetch = Executors.newVirtualThreadPerTaskExecutor()) {
+                    QuoteService service = new QuoteService(generator(journal, corpus, prefetching(prefetch)),
+                            audit == null ? ServedQuoteListener.NONE : audit);
+                    serve(port, service, new DeterministicQuoteSelector(corpus, Clock.systemUTC()));
+                }
+            } else if (args.length > 0 && args[0].equals("daemon")) {
+                Path socket = args.length > 1
+                        ? Path.of(args[1])
+                        : Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_SOCKET);
+                try (ServedQuoteRing audit = auditRing("socket");
+                     ExecutorService prefetch = Executors.newVirtualThreadPerTaskExecutor()) {
+                    QuoteService service = new QuoteService(generator(journal, corpus, prefetching(prefetch)),
+                            audit == null ? ServedQuoteListener.NONE : audit);
+                    daemon(socket, service);
+                }
+            } else if (args.length > 0 && args[0].equals("build-corpus")) {
+                buildCorpus(args);
+            } else {
+                String quoteFile = System.getenv("QUOTE_FILE");
+                if (quoteFile == null || quoteFile.isBlank()) {
+                    System.out.println(new QuoteService(
+                            generator(journal, corpus, UnaryOperator.identity())).randomMotivationalQuote());
+                } else {
+                    try (SamplingQuoteRepository quotes = new SamplingQuoteRepository(Path.of(quoteFile))) {
+                        System.out.println(new QuoteService(generator(quotes)).randomMotivationalQuote());
+                    }
+                }
+            }
+        } finally {
+            if (journal != null) {
+                journal.close();
+            }
+        }
+    }
+
+    private static void serve(int port, QuoteService service, DeterministicQuoteSelector selector)
+            throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        QuoteHttpServer server = QuoteHttpServer.start(
+                new InetSocketAddress(port), service, selector, Clock.systemUTC()
+        );
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        System.out.println("Serving quotes on port " + server.port());
+        stopped.await();
+    }
+
+    private static void daemon(Path socket, QuoteService service) throws InterruptedException {
+        CountDownLatch stopped = new CountDownLatch(1);
+        QuoteSocketServer server = QuoteSocketServer.start(socket, service);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.close();
+            stopped.countDown();
+        }));
+        System.out.println("Serving quotes on " + server.path());
+        stopped.await();
+    }
+
+    private static void buildCorpus(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException(
+                    "usage: build-corpus <quotes.txt> <count> [concurrency] [requests-per-second]");
+        }
+        int target = Integer.parseInt(args[2]);
+        CorpusBuilder.Policy defaults = CorpusBuilder.Policy.defaults();
+        // Four requests per quote still missing is plenty unless the model has run out of new quotes.
+        CorpusBuilder.Policy policy = new CorpusBuilder.Policy(
+                args.length > 3 ? Integer.parseInt(args[3]) : defaults.concurrency(),
+                args.length > 4 ? Double.parseDouble(args[4]) : defaults.requestsPerSecond(),
+                defaults.requestTimeout(), defaults.checkpointEvery(), 4L * target);
+        AiTextClient aiTextClient = aiTextClient(
+                OpenAiClientFactory.fromEnvironment(), System.getenv("OPENAI_MODELS"), TokenUsageListener.NONE);
+        String dedup = System.getenv("QUOTE_DEDUP");
+        CorpusBuilder builder = new CorpusBuilder(QuoteGenerators.validatedAiOnly(aiTextClient), policy,
+                () -> Objects.requireNonNullElseGet(deduplicator(dedup), QuoteDeduplicator::exact));
+
+        CorpusBuilder.Result result = builder.build(Path.of(args[1]), target);
+        System.out.printf("%d quotes in %s (%d added, %d duplicates, %d failed requests, %s)%n",
+                result.quotes(), args[1], result.added(), result.duplicates(), result.failures(),
+                result.complete() ? "done" : "incomplete, run again to resume");
+    }
+
+    /**
+     * The journal only adds fallback quotes, so one that cannot be opened, for example because a sealed
+     * segment is corrupt, is logged and left out rather than keeping the service from starting.
+     */
+    private static QuoteJournal openJournal(String journalDir) {
+        if (journalDir == null || journalDir.isBlank()) {
+            return null;
+        }
+        try {
+            return QuoteJournal.open(Path.of(journalDir), JOURNAL_SEGMENT_BYTES, JOURNAL_MAX_BATCH);
+        } catch (UncheckedIOException e) {
+            LOG.log(System.Logger.Level.WARNING, "Running without the quote journal in " + journalDir, e);
+            return null;
+        }
+    }
+
+    private static ServedQuoteRing auditRing(String source) {
+        String auditDir = System.getenv("QUOTE_AUDIT_DIR");
+        if (auditDir == null || auditDir.isBlank()) {
+            return null;
+        }
+        String overflow = System.getenv("QUOTE_AUDIT_OVERFLOW");
+        ServedQuoteRing.OverflowPolicy policy = overflow == null || overflow.isBlank()
+                ? ServedQuoteRing.OverflowPolicy.DROP
+                : ServedQuoteRing.OverflowPolicy.valueOf(overflow.trim().toUpperCase(Locale.ROOT));
+        return ServedQuoteRing.start(AUDIT_RING_CAPACITY, policy, source,
+                NdjsonAuditLog.open(Path.of(auditDir), AUDIT_FILE_BYTES), AUDIT_MAX_BATCH);
+    }
+
+    private static AiTextClient aiTextClient(OpenAIClient openAiClient, String models, TokenUsageListener usage) {
+        if (models == null || models.isBlank()) {
+            return new OpenAiResponsesTextClient(openAiClient, ChatModel.GPT_4_1_MINI, 0.9, 60, usage);
+        }
+        List<LoadBalancingAiTextClient.Endpoint> endpoints = Arrays.stream(models.split(","))
+                .map(String::trim)
+                .filter(model -> !model.isEmpty())
+                .map(model -> new LoadBalancingAiTextClient.Endpoint(
+                        model, new OpenAiResponsesTextClient(openAiClient, ChatModel.of(model), 0.9, 60, usage)))
+                .toList();
+        return endpoints.size() == 1
+                ? endpoints.get(0).client()
+                : new LoadBalancingAiTextClient(endpoints, LoadBalancingAiTextClient.Policy.defaults());
+    }
+
+    private static QuoteDeduplicator deduplicator(String mode) {
+        if (mode == null || mode.isBlank()) {
+            return null;
+        }
+        return switch (mode.trim().toLowerCase(Locale.ROOT)) {
+            case "exact" -> QuoteDeduplicator.exact();
+            case "near" -> QuoteDeduplicator.nearDuplicates(4, 4);
+            default -> throw new IllegalArgumentException("QUOTE_DEDUP must be exact or near: " + mode);
+        };
+    }
+
+    /**
+     * Pre-generates AI quotes on {@code executor}. It wraps only the AI inside the fallback, so corpus quotes
+     * never sit in the pools. Refills run outside the bulkhead and the budget check, but their tokens are
+     * still counted. Once the budget sheds callers, demand for AI quotes stops and the pools drain.
+     */
+    private static UnaryOperator<QuoteGenerator> prefetching(ExecutorService executor) {
+        return ai -> new PrefetchingQuoteGenerator(ai, executor, PrefetchingQuoteGenerator.Policy.defaults());
+    }
+
+    /**
+     * Falls back to the repositories alone when the AI client cannot be set up, but a malformed setting
+     * fails startup instead of quietly switching the AI off.
+     */
+    private static QuoteGenerator generator(
+            QuoteJournal journal, QuoteRepository corpus, UnaryOperator<QuoteGenerator> decorateAi) {
+        QuoteDeduplicator deduplicator = deduplicator(System.getenv("QUOTE_DEDUP"));
+        int maxConcurrency = maxConcurrency();
+        long tokenBudget = tokenBudget();
+        try {
+            TokenLedger ledger = tokenBudget > 0 ? new TokenLedger(TOKEN_WINDOW) : null;
+            AiTextClient aiTextClient = aiTextClient(ledger);
+            QuoteGenerator generator = journal == null
+                    ? QuoteGenerators.aiWithRepositoryFallback(
+                            aiTextClient, corpus, AI_BUDGET, deduplicator, decorateAi)
+                    : QuoteGenerators.aiWithJournalFallback(
+                            aiTextClient, journal, corpus, AI_BUDGET, deduplicator, decorateAi);
+            return limited(generator, corpus, ledger, maxConcurrency, tokenBudget);
+        } catch (Exception e) {
+            return QuoteGenerators.repositoryOnly(
+                    journal == null ? corpus : CompositeQuoteRepository.uniform(List.of(corpus, journal))
             );
+        }
+    }
+
+    /**
+     * A sampled quote file has no size to weigh it against the journal and no quotes to deduplicate
+     * against, so it backs the AI on its own.
+     */
+    private static QuoteGenerator generator(QuoteSampler quotes) {
+        int maxConcurrency = maxConcurrency();
+        long tokenBudget = tokenBudget();
+        try {
+            TokenLedger ledger = tokenBudget > 0 ? new TokenLedger(TOKEN_WINDOW) : null;
+            return limited(QuoteGenerators.aiWithRepositoryFallback(aiTextClient(ledger), quotes, AI_BUDGET),
+                    quotes, ledger, maxConcurrency, tokenBudget);
         } catch (Exception e) {
-            generator = QuoteGenerators.classpathOnly("quotes.txt");
+            return QuoteGenerators.repositoryOnly(quotes);
+        }
+    }
+
+    /**
+     * {@code QUOTE_TOKEN_BUDGET}, or 0 when unset for no budget.
+     */
+    private static long tokenBudget() {
+        String value = System.getenv("QUOTE_TOKEN_BUDGET");
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        long tokenBudget = Long.parseLong(value.trim());
+        if (tokenBudget <= 0) {
+            throw new IllegalArgumentException("QUOTE_TOKEN_BUDGET must be > 0: " + value);
         }
+        return tokenBudget;
+    }
 
-        QuoteService service = new QuoteService(generator);
+    private static AiTextClient aiTextClient(TokenLedger ledger) {
+        return aiTextClient(
+                OpenAiClientFactory.fromEnvironment(),
+                System.getenv("OPENAI_MODELS"),
+                ledger == null ? TokenUsageListener.NONE : ledger.listener(TokenLedger.DEFAULT_TENANT)
+        );
+    }
+
+    /**
+     * {@code QUOTE_AI_MAX_CONCURRENCY}, or 0 when unset for no bulkhead.
+     */
+    private static int maxConcurrency() {
+        String value = System.getenv("QUOTE_AI_MAX_CONCURRENCY");
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        int maxConcurrency = Integer.parseInt(value.trim());
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("QUOTE_AI_MAX_CONCURRENCY must be > 0: " + value);
+        }
+        return maxConcurrency;
+    }
 
-        System.out.println(service.randomMotivationalQuote());
+    /**
+     * Wraps {@code generator} in the bulkhead and token budget configured in the environment, both
+     * shedding to {@code fallback}.
+     */
+    private static QuoteGenerator limited(
+            QuoteGenerator generator, QuoteSampler fallback, TokenLedger ledger, int maxConcurrency, long tokenBudget) {
+        if (maxConcurrency > 0) {
+            generator = QuoteGenerators.withBulkhead(generator, fallback, maxConcurrency);
+        }
+        return ledger == null
+                ? generator
+                : QuoteGenerators.withTokenBudget(generator, fallback, ledger, TokenLedger.DEFAULT_TENANT, tokenBudget);
     }
 }
@@ -0,0 +1,55 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.CacheableQuote;
+import com.vishnu.quote.domain.QuotePeriod;
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+public final class DeterministicQuoteSelector {
+
+    private final QuoteRepository repository;
+    private final Clock clock;
+
+    public DeterministicQuoteSelector(QuoteRepository repository, Clock clock) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+        this.clock = Objects.requireNonNull(clock, "clock");
+    }
+
+    public Optional<CacheableQuote> quoteFor(String key, QuotePeriod period) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(period, "period");
+
+        int size = repository.size();
+        if (size == 0) return Optional.empty();
+
+        Instant now = clock.instant();
+        ZonedDateTime start = period.start(now, clock.getZone());
+        long slot = mix(fnv1a(key) ^ mix(start.toEpochSecond() * 31 + period.ordinal()));
+        int index = (int) Long.remainderUnsigned(slot, size);
+
+        String quote = repository.quoteAt(index);
+        String etag = String.format("\"%016x\"", fnv1a(quote));
+        return Optional.of(new CacheableQuote(quote, etag, period.end(now, clock.getZone()).toInstant()));
+    }
+
+    private static long fnv1a(String text) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : text.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
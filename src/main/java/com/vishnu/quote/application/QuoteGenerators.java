@@ -1,13 +1,28 @@
 package com.vishnu.quote.application;
 
 import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.LocalizedQuoteRepository;
+import com.vishnu.quote.domain.QuoteDeduplicator;
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteSampler;
+import com.vishnu.quote.generator.BulkheadQuoteGenerator;
 import com.vishnu.quote.generator.FallbackQuoteGenerator;
+import com.vishnu.quote.generator.LocalizedRepositoryQuoteGenerator;
 import com.vishnu.quote.generator.MotivationalQuoteGenerator;
+import com.vishnu.quote.generator.QuoteValidator;
 import com.vishnu.quote.generator.RepositoryMotivationalQuoteGenerator;
-import com.vishnu.quote.infrastructure.repository.ClasspathQuoteRepository;
+import com.vishnu.quote.generator.TokenBudgetQuoteGenerator;
+import com.vishnu.quote.infrastructure.journal.JournalingQuoteGenerator;
+import com.vishnu.quote.infrastructure.journal.QuoteJournal;
+import com.vishnu.quote.infrastructure.repository.CompositeQuoteRepository;
+import com.vishnu.quote.infrastructure.repository.CorpusRegistry;
+import com.vishnu.quote.infrastructure.repository.LocalizedClasspathQuoteRepository;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 public final class QuoteGenerators {
 
@@ -19,20 +34,207 @@ public final class QuoteGenerators {
         return new MotivationalQuoteGenerator(aiTextClient);
     }
 
+    /**
+     * Validates every AI quote and fails on bad output instead of falling back, for offline tools that
+     * would rather retry than take a corpus quote.
+     */
+    public static QuoteGenerator validatedAiOnly(AiTextClient aiTextClient) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        return MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+    }
+
+    /**
+     * Reads {@code resourceName} through the shared {@link CorpusRegistry}, so generators over the same
+     * resource hold one copy between them.
+     */
     public static QuoteGenerator classpathOnly(String resourceName) {
         Objects.requireNonNull(resourceName, "resourceName");
-        return new RepositoryMotivationalQuoteGenerator(new ClasspathQuoteRepository(resourceName));
+        return repositoryOnly(CorpusRegistry.shared().acquire(resourceName));
+    }
+
+    public static QuoteGenerator repositoryOnly(QuoteSampler repository) {
+        Objects.requireNonNull(repository, "repository");
+        return new RepositoryMotivationalQuoteGenerator(repository);
+    }
+
+    public static QuoteGenerator localizedClasspath(String resourceName, long memoryBudgetBytes) {
+        return localizedOnly(new LocalizedClasspathQuoteRepository(resourceName, memoryBudgetBytes));
+    }
+
+    public static QuoteGenerator localizedOnly(LocalizedQuoteRepository repository) {
+        Objects.requireNonNull(repository, "repository");
+        return new LocalizedRepositoryQuoteGenerator(repository);
+    }
+
+    public static QuoteGenerator aiWithLocalizedFallback(AiTextClient aiTextClient, LocalizedQuoteRepository repository) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        Objects.requireNonNull(repository, "repository");
+
+        QuoteGenerator primary = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+        QuoteGenerator fallback = new LocalizedRepositoryQuoteGenerator(repository);
+
+        return new FallbackQuoteGenerator(primary, fallback);
     }
 
     public static QuoteGenerator aiWithClasspathFallback(AiTextClient aiTextClient, String resourceName) {
         Objects.requireNonNull(aiTextClient, "aiTextClient");
         Objects.requireNonNull(resourceName, "resourceName");
+        return aiWithRepositoryFallback(aiTextClient, CorpusRegistry.shared().acquire(resourceName));
+    }
+
+    public static QuoteGenerator aiWithRepositoryFallback(AiTextClient aiTextClient, QuoteSampler repository) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        Objects.requireNonNull(repository, "repository");
+
+        QuoteGenerator primary = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+        QuoteGenerator fallback = new RepositoryMotivationalQuoteGenerator(repository);
+
+        return new FallbackQuoteGenerator(primary, fallback);
+    }
+
+    public static QuoteGenerator aiWithRepositoryFallback(
+            AiTextClient aiTextClient, QuoteSampler repository, Duration aiBudget) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        Objects.requireNonNull(repository, "repository");
+
+        QuoteGenerator primary = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+        QuoteGenerator fallback = new RepositoryMotivationalQuoteGenerator(repository);
+
+        return new FallbackQuoteGenerator(primary, fallback, aiBudget);
+    }
 
-        QuoteGenerator primary = new MotivationalQuoteGenerator(aiTextClient);
+    /**
+     * Like {@link #aiWithRepositoryFallback(AiTextClient, QuoteSampler, Duration)}, but an AI quote that
+     * repeats a quote of {@code repository} or an earlier AI quote is rejected and the repository answers
+     * instead. {@code deduplicator} is first made to remember the repository's quotes.
+     */
+    public static QuoteGenerator aiWithRepositoryFallback(AiTextClient aiTextClient, QuoteRepository repository,
+                                                          Duration aiBudget, QuoteDeduplicator deduplicator) {
+        Objects.requireNonNull(deduplicator, "deduplicator");
+        return repositoryFallback(aiTextClient, repository, aiBudget, deduplicator, UnaryOperator.identity());
+    }
+
+    /**
+     * Like {@link #aiWithRepositoryFallback(AiTextClient, QuoteRepository, Duration, QuoteDeduplicator)},
+     * with {@code deduplicator} optional, and with {@code decorateAi} applied to the AI generator alone, inside
+     * the fallback. A decorator that caches or pre-generates quotes this way only ever holds AI quotes.
+     */
+    public static QuoteGenerator aiWithRepositoryFallback(AiTextClient aiTextClient, QuoteRepository repository,
+                                                          Duration aiBudget, QuoteDeduplicator deduplicator,
+                                                          UnaryOperator<QuoteGenerator> decorateAi) {
+        Objects.requireNonNull(aiBudget, "aiBudget");
+        Objects.requireNonNull(decorateAi, "decorateAi");
+        return repositoryFallback(aiTextClient, repository, aiBudget, deduplicator, decorateAi);
+    }
+
+    /**
+     * Sheds calls from {@code generator} to {@code repository} as {@code tenant}'s spend in {@code ledger}'s
+     * window approaches {@code budgetTokens}.
+     */
+    public static QuoteGenerator withTokenBudget(
+            QuoteGenerator generator, QuoteSampler repository, TokenLedger ledger, String tenant, long budgetTokens) {
+        Objects.requireNonNull(generator, "generator");
+        Objects.requireNonNull(repository, "repository");
+        Objects.requireNonNull(ledger, "ledger");
+        Objects.requireNonNull(tenant, "tenant");
+
+        return new TokenBudgetQuoteGenerator(generator, new RepositoryMotivationalQuoteGenerator(repository),
+                () -> ledger.tokensInWindow(tenant), budgetTokens);
+    }
+
+    /**
+     * Lets at most {@code maxConcurrent} calls into {@code generator} at once and sheds the excess to
+     * {@code repository} instead of queueing it behind a slow upstream.
+     */
+    public static QuoteGenerator withBulkhead(QuoteGenerator generator, QuoteSampler repository, int maxConcurrent) {
+        Objects.requireNonNull(generator, "generator");
+        Objects.requireNonNull(repository, "repository");
+
+        return new BulkheadQuoteGenerator(generator, new RepositoryMotivationalQuoteGenerator(repository),
+                BulkheadQuoteGenerator.Policy.of(maxConcurrent));
+    }
+
+    public static QuoteGenerator aiWithJournalFallback(
+            AiTextClient aiTextClient, QuoteJournal journal, QuoteRepository repository) {
+        return journalFallback(aiTextClient, journal, repository, null, null, UnaryOperator.identity());
+    }
+
+    public static QuoteGenerator aiWithJournalFallback(
+            AiTextClient aiTextClient, QuoteJournal journal, QuoteRepository repository, Duration aiBudget) {
+        Objects.requireNonNull(aiBudget, "aiBudget");
+        return journalFallback(aiTextClient, journal, repository, aiBudget, null, UnaryOperator.identity());
+    }
+
+    /**
+     * Like {@link #aiWithJournalFallback(AiTextClient, QuoteJournal, QuoteRepository, Duration)}, but AI
+     * quotes that repeat the repository, the journal or an earlier AI quote are rejected, and so never
+     * journaled.
+     */
+    public static QuoteGenerator aiWithJournalFallback(AiTextClient aiTextClient, QuoteJournal journal,
+                                                       QuoteRepository repository, Duration aiBudget,
+                                                       QuoteDeduplicator deduplicator) {
+        Objects.requireNonNull(aiBudget, "aiBudget");
+        Objects.requireNonNull(deduplicator, "deduplicator");
+        return journalFallback(aiTextClient, journal, repository, aiBudget, deduplicator, UnaryOperator.identity());
+    }
+
+    /**
+     * Like {@link #aiWithJournalFallback(AiTextClient, QuoteJournal, QuoteRepository, Duration,
+     * QuoteDeduplicator)}, with {@code deduplicator} optional, and with {@code decorateAi} applied to the AI
+     * generator alone, inside the fallback and ahead of the journal, so quotes it holds back are journaled
+     * when served rather than when generated.
+     */
+    public static QuoteGenerator aiWithJournalFallback(AiTextClient aiTextClient, QuoteJournal journal,
+                                                       QuoteRepository repository, Duration aiBudget,
+                                                       QuoteDeduplicator deduplicator,
+                                                       UnaryOperator<QuoteGenerator> decorateAi) {
+        Objects.requireNonNull(aiBudget, "aiBudget");
+        Objects.requireNonNull(decorateAi, "decorateAi");
+        return journalFallback(aiTextClient, journal, repository, aiBudget, deduplicator, decorateAi);
+    }
+
+    private static QuoteGenerator repositoryFallback(AiTextClient aiTextClient, QuoteRepository repository,
+                                                     Duration aiBudget, QuoteDeduplicator deduplicator,
+                                                     UnaryOperator<QuoteGenerator> decorateAi) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        Objects.requireNonNull(repository, "repository");
+
+        MotivationalQuoteGenerator ai;
+        if (deduplicator == null) {
+            ai = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+        } else {
+            deduplicator.remember(repository);
+            ai = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults(), deduplicator);
+        }
+        QuoteGenerator primary = decorateAi.apply(ai);
+        QuoteGenerator fallback = new RepositoryMotivationalQuoteGenerator(repository);
+
+        return new FallbackQuoteGenerator(primary, fallback, aiBudget);
+    }
+
+    private static QuoteGenerator journalFallback(AiTextClient aiTextClient, QuoteJournal journal,
+                                                  QuoteRepository repository, Duration aiBudget,
+                                                  QuoteDeduplicator deduplicator,
+                                                  UnaryOperator<QuoteGenerator> decorateAi) {
+        Objects.requireNonNull(aiTextClient, "aiTextClient");
+        Objects.requireNonNull(journal, "journal");
+        Objects.requireNonNull(repository, "repository");
+
+        MotivationalQuoteGenerator ai;
+        if (deduplicator == null) {
+            ai = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults());
+        } else {
+            deduplicator.remember(repository);
+            deduplicator.remember(journal);
+            ai = MotivationalQuoteGenerator.validating(aiTextClient, QuoteValidator.defaults(), deduplicator);
+        }
+        QuoteGenerator primary = new JournalingQuoteGenerator(decorateAi.apply(ai), journal);
         QuoteGenerator fallback = new RepositoryMotivationalQuoteGenerator(
-                new ClasspathQuoteRepository(resourceName)
+                CompositeQuoteRepository.uniform(List.of(repository, journal))
         );
 
-        return new FallbackQuoteGenerator(primary, fallback);
+        return aiBudget == null
+                ? new FallbackQuoteGenerator(primary, fallback)
+                : new FallbackQuoteGenerator(primary, fallback, aiBudget);
     }
 }
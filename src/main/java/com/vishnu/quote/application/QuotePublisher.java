@@ -0,0 +1,178 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An endless stream of quotes that only generates what subscribers ask for. Each subscription runs at most
+ * one upstream call at a time, sized to the outstanding demand (capped at {@code maxBatch}) and issued as a
+ * single {@link QuoteGenerator#generateBatch} call. A new call starts only after the previous batch has
+ * been delivered, so no more than {@code maxBatch} quotes are ever buffered per subscriber.
+ *
+ * <p>Cancelling a subscription interrupts its in-flight call. A generator failure ends the subscription
+ * with {@code onError}; the stream never completes on its own.
+ */
+public final class QuotePublisher implements Flow.Publisher<String> {
+
+    public static final int DEFAULT_MAX_BATCH = 16;
+
+    private final QuoteGenerator generator;
+    private final QuoteRequest request;
+    private final Executor executor;
+    private final int maxBatch;
+
+    public QuotePublisher(QuoteGenerator generator, QuoteRequest request, Executor executor, int maxBatch) {
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.request = Objects.requireNonNull(request, "request");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be > 0");
+        }
+        this.maxBatch = maxBatch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super String> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        QuoteSubscription subscription = new QuoteSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private final class QuoteSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super String> subscriber;
+        private final Queue<String> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+        private volatile FutureTask<List<String>> inFlight;
+        private volatile Throwable failure;
+        private boolean terminated;
+
+        private QuoteSubscription(Flow.Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("request must be > 0 but was " + n);
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (current, add) -> {
+                long sum = current + add;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            FutureTask<List<String>> call = inFlight;
+            if (call != null) {
+                call.cancel(true);
+            }
+            drain();
+        }
+
+        /**
+         * Serialises all signals to the subscriber: whichever thread gets here first delivers, and any
+         * thread that arrives meanwhile just makes it loop once more.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!terminated) {
+                    emit();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            if (cancelled) {
+                terminated = true;
+                buffer.clear();
+                return;
+            }
+            long demand = requested.get();
+            long delivered = 0;
+            String quote;
+            while (delivered < demand && (quote = buffer.poll()) != null) {
+                subscriber.onNext(quote);
+                delivered++;
+                if (cancelled) {
+                    terminated = true;
+                    buffer.clear();
+                    return;
+                }
+            }
+            if (delivered > 0 && demand != Long.MAX_VALUE) {
+                demand = requested.addAndGet(-delivered);
+            }
+
+            Throwable error = failure;
+            if (error != null && buffer.isEmpty()) {
+                terminated = true;
+                subscriber.onError(error);
+                return;
+            }
+            // inFlight is cleared only after the batch is buffered, so check it before the buffer.
+            if (demand > 0 && inFlight == null && buffer.isEmpty()) {
+                fetch((int) Math.min(demand, maxBatch));
+            }
+        }
+
+        private void fetch(int count) {
+            FutureTask<List<String>> call = new FutureTask<>(() -> generator.generateBatch(request, count)) {
+                @Override
+                protected void done() {
+                    completed(this);
+                }
+            };
+            inFlight = call;
+            try {
+                executor.execute(call);
+            } catch (RuntimeException rejected) {
+                inFlight = null;
+                failure = rejected;
+                wip.incrementAndGet();
+            }
+        }
+
+        private void completed(FutureTask<List<String>> call) {
+            if (!call.isCancelled()) {
+                try {
+                    List<String> quotes = call.get();
+                    if (quotes.isEmpty()) {
+                        failure = new IllegalStateException("Generator returned an empty batch");
+                    }
+                    buffer.addAll(quotes);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    failure = e.getCause() != null ? e.getCause() : e;
+                }
+            }
+            inFlight = null;
+            drain();
+        }
+    }
+}
@@ -1,17 +1,63 @@
 package com.vishnu.quote.application;
 
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.domain.ServedQuoteListener;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 public final class QuoteService {
     private final QuoteGenerator generator;
+    private final ServedQuoteListener listener;
 
     public QuoteService(QuoteGenerator generator) {
+        this(generator, ServedQuoteListener.NONE);
+    }
+
+    /**
+     * Reports every single-quote call, with its latency and outcome, to {@code listener}.
+     */
+    public QuoteService(QuoteGenerator generator, ServedQuoteListener listener) {
         this.generator = Objects.requireNonNull(generator);
+        this.listener = Objects.requireNonNull(listener, "listener");
     }
 
     public String randomMotivationalQuote() {
-        return generator.generate();
+        return serve(QuoteRequest.any());
+    }
+
+    public String motivationalQuote(QuoteRequest request) {
+        return serve(Objects.requireNonNull(request, "request"));
+    }
+
+    /**
+     * Quotes for {@code request} as a backpressured stream; generation runs on {@code executor} and only as
+     * fast as subscribers request.
+     */
+    public Flow.Publisher<String> motivationalQuotes(QuoteRequest request, Executor executor) {
+        Objects.requireNonNull(request, "request");
+        return new QuotePublisher(generator, request, executor, QuotePublisher.DEFAULT_MAX_BATCH);
+    }
+
+    private String serve(QuoteRequest request) {
+        if (listener == ServedQuoteListener.NONE) {
+            return generate(request);
+        }
+        long start = System.nanoTime();
+        String quote;
+        try {
+            quote = generate(request);
+        } catch (RuntimeException e) {
+            listener.onServed(request, null, System.nanoTime() - start, e);
+            throw e;
+        }
+        listener.onServed(request, quote, System.nanoTime() - start, null);
+        return quote;
+    }
+
+    private String generate(QuoteRequest request) {
+        return request.isUnconstrained() ? generator.generate() : generator.generate(request);
     }
 }
@@ -0,0 +1,155 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.TokenUsageListener;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Token spend per model and tenant. Lifetime totals are kept in {@link LongAdder}s so concurrent calls
+ * never contend. Each tenant also gets a rolling window of recent spend, which a
+ * {@link com.vishnu.quote.generator.TokenBudgetQuoteGenerator} compares to its budget.
+ *
+ * <p>The window is split into buckets. Each bucket packs its epoch and its count into one long that is
+ * updated with CAS. A bucket from an older epoch is therefore reset and added to in one step, and no
+ * tokens are lost at bucket boundaries. Spend falls out of the window one bucket at a time.
+ */
+public final class TokenLedger {
+
+    public static final String DEFAULT_TENANT = "default";
+    private static final int DEFAULT_BUCKETS = 60;
+
+    private final Map<Key, Account> accounts = new ConcurrentHashMap<>();
+    private final Map<String, RollingWindow> windows = new ConcurrentHashMap<>();
+    private final Duration window;
+    private final long bucketNanos;
+    private final int buckets;
+    private final LongSupplier nanoTime;
+
+    public TokenLedger(Duration window) {
+        this(window, DEFAULT_BUCKETS, System::nanoTime);
+    }
+
+    TokenLedger(Duration window, int buckets, LongSupplier nanoTime) {
+        this.window = Objects.requireNonNull(window, "window");
+        if (buckets <= 0) {
+            throw new IllegalArgumentException("buckets must be > 0");
+        }
+        if (window.toNanos() < buckets) {
+            throw new IllegalArgumentException("window must be at least " + buckets + "ns");
+        }
+        this.buckets = buckets;
+        this.bucketNanos = window.toNanos() / buckets;
+        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime");
+    }
+
+    public Duration window() {
+        return window;
+    }
+
+    /**
+     * A listener that books every call it hears about to {@code tenant}; pass it to the AI client that
+     * serves that tenant.
+     */
+    public TokenUsageListener listener(String tenant) {
+        Objects.requireNonNull(tenant, "tenant");
+        return (model, inputTokens, outputTokens) -> record(model, tenant, inputTokens, outputTokens);
+    }
+
+    public void record(String model, String tenant, long inputTokens, long outputTokens) {
+        Objects.requireNonNull(model, "model");
+        Objects.requireNonNull(tenant, "tenant");
+        if (inputTokens < 0 || outputTokens < 0) {
+            throw new IllegalArgumentException("token counts must be >= 0");
+        }
+        Account account = accounts.computeIfAbsent(new Key(model, tenant), key -> new Account());
+        account.calls.increment();
+        account.inputTokens.add(inputTokens);
+        account.outputTokens.add(outputTokens);
+        windows.computeIfAbsent(tenant, t -> new RollingWindow(buckets))
+                .add(inputTokens + outputTokens, epoch());
+    }
+
+    /**
+     * Tokens {@code tenant} spent within the last {@link #window()}, to bucket precision.
+     */
+    public long tokensInWindow(String tenant) {
+        RollingWindow rolling = windows.get(Objects.requireNonNull(tenant, "tenant"));
+        return rolling == null ? 0 : rolling.sum(epoch());
+    }
+
+    /**
+     * Lifetime totals per model and tenant, sorted by tenant then model.
+     */
+    public List<Usage> snapshot() {
+        return accounts.entrySet().stream()
+                .map(e -> new Usage(e.getKey().model(), e.getKey().tenant(), e.getValue().calls.sum(),
+                        e.getValue().inputTokens.sum(), e.getValue().outputTokens.sum()))
+                .sorted(Comparator.comparing(Usage::tenant).thenComparing(Usage::model))
+                .toList();
+    }
+
+    private long epoch() {
+        return nanoTime.getAsLong() / bucketNanos;
+    }
+
+    public record Usage(String model, String tenant, long calls, long inputTokens, long outputTokens) {
+
+        public long totalTokens() {
+            return inputTokens + outputTokens;
+        }
+    }
+
+    private record Key(String model, String tenant) {
+    }
+
+    private static final class Account {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder inputTokens = new LongAdder();
+        private final LongAdder outputTokens = new LongAdder();
+    }
+
+    private static final class RollingWindow {
+
+        private static final int COUNT_BITS = 40;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+        private static final long EPOCH_MASK = (1L << (Long.SIZE - COUNT_BITS)) - 1;
+
+        private final AtomicLongArray slots;
+
+        private RollingWindow(int buckets) {
+            this.slots = new AtomicLongArray(buckets);
+        }
+
+        private void add(long tokens, long epoch) {
+            int slot = (int) Math.floorMod(epoch, (long) slots.length());
+            long tag = epoch & EPOCH_MASK;
+            long current;
+            long next;
+            do {
+                current = slots.get(slot);
+                long count = (current >>> COUNT_BITS) == tag ? current & COUNT_MASK : 0;
+                next = (tag << COUNT_BITS) | Math.min(COUNT_MASK, count + tokens);
+            } while (!slots.compareAndSet(slot, current, next));
+        }
+
+        private long sum(long epoch) {
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long value = slots.get(i);
+                long age = (epoch - (value >>> COUNT_BITS)) & EPOCH_MASK;
+                if (age < slots.length()) {
+                    total += value & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -3,4 +3,35 @@ package com.vishnu.quote.domain;
 @FunctionalInterface
 public interface AiTextClient {
     String generateText(String prompt);
-}
\ No newline at end of file
+
+    /**
+     * Like {@link #generateText(String)}, but gives up once {@code deadline} passes. Implementations that
+     * talk to a remote service should abort the in-flight call rather than let it finish unobserved.
+     */
+    default String generateText(String prompt, Deadline deadline) {
+        deadline.throwIfExpired("AI text generation");
+        return generateText(prompt);
+    }
+
+    /**
+     * Streams the generated text to {@code listener} as it arrives and returns everything received
+     * before the stream ended or the listener asked to stop. Clients that cannot stream deliver the whole
+     * text in one call.
+     */
+    default String generateText(String prompt, Deadline deadline, TextStreamListener listener) {
+        String text = generateText(prompt, deadline);
+        if (text != null) {
+            listener.onText(text);
+        }
+        return text;
+    }
+
+    /**
+     * Like {@link #generateText(String, Deadline)} for a prompt that asks for {@code lines} answers, one per
+     * line. Clients that cap output tokens per call raise the cap to fit that many answers, and drop a last
+     * line the cap cut off.
+     */
+    default String generateLines(String prompt, int lines, Deadline deadline) {
+        return generateText(prompt, deadline);
+    }
+}
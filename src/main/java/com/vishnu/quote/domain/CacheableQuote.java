@@ -0,0 +1,28 @@
+package com.vishnu.quote.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+public record CacheableQuote(String quote, String etag, Instant expiresAt) {
+
+    public CacheableQuote {
+        Objects.requireNonNull(quote, "quote");
+        Objects.requireNonNull(etag, "etag");
+        Objects.requireNonNull(expiresAt, "expiresAt");
+    }
+
+    public String cacheControl(Instant now) {
+        long maxAge = Math.max(0, Duration.between(now, expiresAt).toSeconds());
+        return "public, max-age=" + maxAge;
+    }
+
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.vishnu.quote.domain;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Point in monotonic time by which a caller needs its answer. Deadlines are passed down the call chain
+ * so each layer can map the remaining budget onto its own timeouts and stop work nobody is waiting for.
+ */
+public final class Deadline {
+
+    private static final Deadline NONE = new Deadline(Long.MAX_VALUE, System::nanoTime, true);
+    private static final Duration UNBOUNDED_REMAINING = Duration.ofNanos(Long.MAX_VALUE);
+
+    private final long expiresAtNanos;
+    private final LongSupplier nanoClock;
+    private final boolean unbounded;
+
+    private Deadline(long expiresAtNanos, LongSupplier nanoClock, boolean unbounded) {
+        this.expiresAtNanos = expiresAtNanos;
+        this.nanoClock = nanoClock;
+        this.unbounded = unbounded;
+    }
+
+    public static Deadline after(Duration budget) {
+        return after(budget, System::nanoTime);
+    }
+
+    public static Deadline after(Duration budget, LongSupplier nanoClock) {
+        Objects.requireNonNull(budget, "budget");
+        Objects.requireNonNull(nanoClock, "nanoClock");
+        if (budget.isNegative()) {
+            throw new IllegalArgumentException("budget must be >= 0");
+        }
+        return new Deadline(nanoClock.getAsLong() + saturatedNanos(budget), nanoClock, false);
+    }
+
+    public static Deadline none() {
+        return NONE;
+    }
+
+    public boolean isUnbounded() {
+        return unbounded;
+    }
+
+    public Duration remaining() {
+        if (unbounded) return UNBOUNDED_REMAINING;
+        return Duration.ofNanos(Math.max(0, expiresAtNanos - nanoClock.getAsLong()));
+    }
+
+    public boolean isExpired() {
+        return !unbounded && expiresAtNanos - nanoClock.getAsLong() <= 0;
+    }
+
+    /**
+     * Returns whichever of this deadline and {@code budget} from now expires first.
+     */
+    public Deadline limitTo(Duration budget) {
+        Deadline candidate = after(budget, unbounded ? System::nanoTime : nanoClock);
+        if (unbounded || candidate.expiresAtNanos - expiresAtNanos < 0) {
+            return candidate;
+        }
+        return this;
+    }
+
+    public void throwIfExpired(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(operation + " deadline exceeded");
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+}
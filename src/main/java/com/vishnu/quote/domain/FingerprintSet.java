@@ -0,0 +1,100 @@
+package com.vishnu.quote.domain;
+
+/**
+ * Open-addressing set of 64-bit fingerprints in one {@code long[]}, with linear probing and no boxing.
+ * Zero marks an empty slot, so a zero fingerprint is tracked by a flag instead. The table doubles once it
+ * is half full. Not thread-safe.
+ */
+public final class FingerprintSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public FingerprintSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * @param expected number of fingerprints to hold before the table has to grow
+     */
+    public FingerprintSet(int expected) {
+        if (expected < 0) {
+            throw new IllegalArgumentException("expected must be >= 0");
+        }
+        int capacity = Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expected * 2 - 1)) << 1);
+        this.slots = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * @return true if {@code fingerprint} was not in the set yet
+     */
+    public boolean add(long fingerprint) {
+        if (fingerprint == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int i = slot(fingerprint);
+        while (slots[i] != 0) {
+            if (slots[i] == fingerprint) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        slots[i] = fingerprint;
+        if (++size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long fingerprint) {
+        if (fingerprint == 0) {
+            return containsZero;
+        }
+        for (int i = slot(fingerprint); slots[i] != 0; i = (i + 1) & mask) {
+            if (slots[i] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes held by the table.
+     */
+    public long sizeInBytes() {
+        return (long) slots.length * Long.BYTES;
+    }
+
+    private int slot(long fingerprint) {
+        return (int) QuoteFingerprint.mix(fingerprint) & mask;
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        mask = slots.length - 1;
+        for (long fingerprint : old) {
+            if (fingerprint != 0) {
+                int i = slot(fingerprint);
+                while (slots[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                slots[i] = fingerprint;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.vishnu.quote.domain;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Quote corpora per language. A locale falls back to less specific ones, e.g. {@code de-AT} to {@code de}
+ * and finally to the root corpus, until a corpus with quotes is found.
+ */
+public interface LocalizedQuoteRepository {
+
+    /**
+     * The most specific non-empty corpus for {@code locale}, or an empty repository if even the root
+     * corpus has no quotes. Never {@code null}.
+     */
+    QuoteRepository forLocale(Locale locale);
+
+    default Optional<String> randomQuote(Locale locale) {
+        return forLocale(locale).randomQuote();
+    }
+}
@@ -0,0 +1,148 @@
+package com.vishnu.quote.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Remembers the quotes it has accepted and rejects repeats. An exact duplicate is a quote whose
+ * {@link QuoteFingerprint} was seen before. With near-duplicate detection on, a quote is also rejected
+ * when any band of its MinHash signature matches a band of an accepted quote (locality-sensitive
+ * hashing). With {@code bands} bands of {@code rows} rows, two quotes sharing a fraction {@code s} of their
+ * word bigrams collide with probability {@code 1 - (1 - s^rows)^bands}. This is an estimate: signatures
+ * are not kept, so a band collision is not double-checked.
+ *
+ * <p>Only fingerprints are stored, eight bytes per accepted quote and band. Safe for concurrent use.
+ */
+public final class QuoteDeduplicator {
+
+    private final FingerprintSet exact = new FingerprintSet();
+    private final FingerprintSet[] bandSets;
+    private final int rows;
+    private long seen;
+    private long exactDuplicates;
+    private long nearDuplicates;
+
+    private QuoteDeduplicator(int bands, int rows) {
+        this.bandSets = new FingerprintSet[bands];
+        for (int i = 0; i < bands; i++) {
+            bandSets[i] = new FingerprintSet();
+        }
+        this.rows = rows;
+    }
+
+    public static QuoteDeduplicator exact() {
+        return new QuoteDeduplicator(0, 0);
+    }
+
+    /**
+     * Also rejects near duplicates. Four bands of four rows flag pairs sharing 70% of their word bigrams
+     * about two times in three, and pairs sharing 90% almost always.
+     */
+    public static QuoteDeduplicator nearDuplicates(int bands, int rows) {
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("bands and rows must be > 0");
+        }
+        return new QuoteDeduplicator(bands, rows);
+    }
+
+    /**
+     * @return true if {@code quote} is new and was accepted, false if it repeats an accepted quote
+     */
+    public boolean add(CharSequence quote) {
+        Objects.requireNonNull(quote, "quote");
+        long fingerprint = QuoteFingerprint.of(quote);
+        long[] bandHashes = bandSets.length == 0 ? null : bandHashes(quote);
+        synchronized (this) {
+            seen++;
+            if (exact.contains(fingerprint)) {
+                exactDuplicates++;
+                return false;
+            }
+            if (bandHashes != null) {
+                for (int band = 0; band < bandSets.length; band++) {
+                    if (bandSets[band].contains(bandHashes[band])) {
+                        nearDuplicates++;
+                        return false;
+                    }
+                }
+                for (int band = 0; band < bandSets.length; band++) {
+                    bandSets[band].add(bandHashes[band]);
+                }
+            }
+            exact.add(fingerprint);
+            return true;
+        }
+    }
+
+    /**
+     * Accepts every quote of {@code repository} without counting them in the statistics, so quotes that
+     * repeat a corpus are rejected later.
+     */
+    public void remember(QuoteRepository repository) {
+        Objects.requireNonNull(repository, "repository");
+        int size = repository.size();
+        for (int i = 0; i < size; i++) {
+            String quote = repository.quoteAt(i);
+            long fingerprint = QuoteFingerprint.of(quote);
+            long[] bandHashes = bandSets.length == 0 ? null : bandHashes(quote);
+            synchronized (this) {
+                exact.add(fingerprint);
+                if (bandHashes != null) {
+                    for (int band = 0; band < bandSets.length; band++) {
+                        bandSets[band].add(bandHashes[band]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The quotes of {@code quotes} that {@link #add(CharSequence)} accepts, in order.
+     */
+    public List<String> distinct(List<String> quotes) {
+        List<String> kept = new ArrayList<>(quotes.size());
+        for (String quote : quotes) {
+            if (add(quote)) {
+                kept.add(quote);
+            }
+        }
+        return kept.size() == quotes.size() ? quotes : List.copyOf(kept);
+    }
+
+    public synchronized long seen() {
+        return seen;
+    }
+
+    public synchronized long accepted() {
+        return seen - exactDuplicates - nearDuplicates;
+    }
+
+    public synchronized long exactDuplicates() {
+        return exactDuplicates;
+    }
+
+    public synchronized long nearDuplicates() {
+        return nearDuplicates;
+    }
+
+    /**
+     * Share of quotes offered so far that were rejected, from 0 to 1.
+     */
+    public synchronized double duplicateRatio() {
+        return seen == 0 ? 0.0 : (exactDuplicates + nearDuplicates) / (double) seen;
+    }
+
+    private long[] bandHashes(CharSequence quote) {
+        long[] signature = QuoteFingerprint.minHash(quote, bandSets.length * rows);
+        long[] bands = new long[bandSets.length];
+        for (int band = 0; band < bands.length; band++) {
+            long hash = band;
+            for (int row = 0; row < rows; row++) {
+                hash = QuoteFingerprint.mix(hash * 31 + signature[band * rows + row]);
+            }
+            bands[band] = hash;
+        }
+        return bands;
+    }
+}
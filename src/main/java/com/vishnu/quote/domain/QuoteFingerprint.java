@@ -0,0 +1,107 @@
+package com.vishnu.quote.domain;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 64-bit fingerprints of a quote's normalized text. Normalizing lower-cases letters, drops punctuation and
+ * symbols, and treats any run of whitespace or punctuation as a single word break. So "Keep going!" and
+ * "keep   going" share a fingerprint. Both fingerprints and MinHash signatures are computed straight from
+ * the characters, without building the normalized string.
+ */
+public final class QuoteFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long WORD_BREAK = ' ';
+
+    private QuoteFingerprint() {
+    }
+
+    /**
+     * Fingerprint of the whole normalized text. Quotes without a letter or digit all share one fingerprint.
+     */
+    public static long of(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        long hash = FNV_OFFSET;
+        boolean pendingBreak = false;
+        boolean any = false;
+        for (int i = 0; i < text.length(); ) {
+            int cp = Character.codePointAt(text, i);
+            i += Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) {
+                pendingBreak = any;
+                continue;
+            }
+            if (pendingBreak) {
+                hash = (hash ^ WORD_BREAK) * FNV_PRIME;
+                pendingBreak = false;
+            }
+            hash = (hash ^ Character.toLowerCase(cp)) * FNV_PRIME;
+            any = true;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * MinHash signature of the normalized text's word bigrams (the single word, for one-word quotes).
+     * Texts sharing a fraction {@code s} of their bigrams agree on each signature entry with probability
+     * {@code s}.
+     */
+    public static long[] minHash(CharSequence text, int hashes) {
+        Objects.requireNonNull(text, "text");
+        if (hashes <= 0) {
+            throw new IllegalArgumentException("hashes must be > 0");
+        }
+        long[] signature = new long[hashes];
+        Arrays.fill(signature, -1L);
+        long previousWord = 0;
+        long word = FNV_OFFSET;
+        boolean inWord = false;
+        int words = 0;
+        for (int i = 0; i <= text.length(); ) {
+            int cp = i < text.length() ? Character.codePointAt(text, i) : ' ';
+            i += i < text.length() ? Character.charCount(cp) : 1;
+            if (Character.isLetterOrDigit(cp)) {
+                word = (word ^ Character.toLowerCase(cp)) * FNV_PRIME;
+                inWord = true;
+                continue;
+            }
+            if (!inWord) {
+                continue;
+            }
+            long current = mix(word);
+            if (words > 0) {
+                update(signature, mix(previousWord * 31 + current));
+            }
+            previousWord = current;
+            words++;
+            word = FNV_OFFSET;
+            inWord = false;
+        }
+        if (words == 1) {
+            update(signature, previousWord);
+        }
+        return signature;
+    }
+
+    private static void update(long[] signature, long shingle) {
+        long seed = shingle;
+        for (int i = 0; i < signature.length; i++) {
+            seed += 0x9e3779b97f4a7c15L;
+            long value = mix(seed);
+            if (Long.compareUnsigned(value, signature[i]) < 0) {
+                signature[i] = value;
+            }
+        }
+    }
+
+    /**
+     * The finalizer of SplitMix64/MurmurHash3, spreading every input bit over the whole word.
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
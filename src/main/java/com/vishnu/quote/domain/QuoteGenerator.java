@@ -1,6 +1,45 @@
 package com.vishnu.quote.domain;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @FunctionalInterface
 public interface QuoteGenerator {
     String generate();
+
+    default String generate(QuoteRequest request) {
+        return generate();
+    }
+
+    default String generate(Deadline deadline) {
+        return generate(QuoteRequest.any(), deadline);
+    }
+
+    default String generate(QuoteRequest request, Deadline deadline) {
+        deadline.throwIfExpired("Quote generation");
+        return request.isUnconstrained() ? generate() : generate(request);
+    }
+
+    /**
+     * Returns between one and {@code count} quotes. Generators that can produce several quotes with one
+     * upstream call override this; the default simply generates them one by one.
+     */
+    default List<String> generateBatch(QuoteRequest request, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be > 0");
+        }
+        List<String> quotes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            quotes.add(request.isUnconstrained() ? generate() : generate(request));
+        }
+        return quotes;
+    }
+
+    /**
+     * Like {@link #generateBatch(QuoteRequest, int)}, but gives up once {@code deadline} passes.
+     */
+    default List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        deadline.throwIfExpired("Quote generation");
+        return generateBatch(request, count);
+    }
 }
@@ -0,0 +1,32 @@
+package com.vishnu.quote.domain;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum QuotePeriod {
+    HOUR,
+    DAY,
+    WEEK;
+
+    public ZonedDateTime start(Instant now, ZoneId zone) {
+        ZonedDateTime local = now.atZone(zone);
+        return switch (this) {
+            case HOUR -> local.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> local.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> local.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+
+    public ZonedDateTime end(Instant now, ZoneId zone) {
+        ZonedDateTime start = start(now, zone);
+        return switch (this) {
+            case HOUR -> start.plusHours(1);
+            case DAY -> start.plusDays(1);
+            case WEEK -> start.plusWeeks(1);
+        };
+    }
+}
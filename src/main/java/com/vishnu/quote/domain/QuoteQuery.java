@@ -0,0 +1,27 @@
+package com.vishnu.quote.domain;
+
+import java.util.Objects;
+
+public record QuoteQuery(String text, Mode mode) {
+
+    public enum Mode {
+        SUBSTRING,
+        TOKENS
+    }
+
+    public QuoteQuery {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(mode, "mode");
+        if (text.isBlank()) {
+            throw new IllegalArgumentException("text must not be blank");
+        }
+    }
+
+    public static QuoteQuery substring(String text) {
+        return new QuoteQuery(text, Mode.SUBSTRING);
+    }
+
+    public static QuoteQuery tokens(String text) {
+        return new QuoteQuery(text, Mode.TOKENS);
+    }
+}
@@ -1,11 +1,43 @@
 package com.vishnu.quote.domain;
 
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
-public interface QuoteRepository {
-    Optional<String> randomQuote();
+/**
+ * A {@link QuoteSampler} whose quotes can also be counted and addressed by index. Consumers that need
+ * {@link #size()} or {@link #quoteAt(int)} take this type; consumers that only draw quotes take
+ * {@link QuoteSampler}, so one-method samplers never have to stub the indexed methods.
+ */
+public interface QuoteRepository extends QuoteSampler {
 
-    default String description() {
-        return getClass().getSimpleName();
+    /**
+     * Picks {@link #randomQuoteOrNull()}.
+     */
+    @Override
+    default Optional<String> randomQuote() {
+        return Optional.ofNullable(randomQuoteOrNull());
+    }
+
+    /**
+     * A random quote, or null if the repository is empty. Unlike calling {@link #randomIndex()} and then
+     * {@link #quoteAt(int)}, the index is picked and read from one view of the repository, so a reload in
+     * between cannot leave the index out of range. Allocation-free wherever {@link #quoteAt(int)} is.
+     */
+    default String randomQuoteOrNull() {
+        int index = randomIndex();
+        return index < 0 ? null : quoteAt(index);
+    }
+
+    int size();
+
+    String quoteAt(int index);
+
+    /**
+     * Index of a random quote suitable for {@link #quoteAt(int)}, or -1 if the repository is empty.
+     * Together they pick a quote without allocating, unlike {@link #randomQuote()}.
+     */
+    default int randomIndex() {
+        int n = size();
+        return n == 0 ? -1 : ThreadLocalRandom.current().nextInt(n);
     }
 }
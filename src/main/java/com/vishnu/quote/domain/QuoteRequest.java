@@ -0,0 +1,85 @@
+package com.vishnu.quote.domain;
+
+import java.util.Locale;
+
+/**
+ * What a caller wants from a quote. A {@code null} field means no preference; {@link Locale#ROOT} is
+ * treated as no language preference.
+ *
+ * <p>{@code topic} and {@code tone} end up in the AI prompt, so they are limited to a short single line of
+ * printable characters, and {@code maxLength} to a range a one-sentence quote can meet. Anything else is
+ * rejected with an {@link IllegalArgumentException}.
+ */
+public record QuoteRequest(String topic, String tone, int maxLength, Locale locale) {
+
+    public static final int NO_LIMIT = 0;
+    public static final int MAX_FIELD_LENGTH = 40;
+    public static final int MIN_LENGTH_LIMIT = 10;
+    public static final int MAX_LENGTH_LIMIT = 1000;
+
+    private static final QuoteRequest ANY = new QuoteRequest(null, null, NO_LIMIT, null);
+
+    public QuoteRequest {
+        topic = normalize("topic", topic);
+        tone = normalize("tone", tone);
+        if (maxLength != NO_LIMIT && (maxLength < MIN_LENGTH_LIMIT || maxLength > MAX_LENGTH_LIMIT)) {
+            throw new IllegalArgumentException(
+                    "maxLength must be " + NO_LIMIT + " or " + MIN_LENGTH_LIMIT + ".." + MAX_LENGTH_LIMIT);
+        }
+        if (Locale.ROOT.equals(locale)) {
+            locale = null;
+        }
+    }
+
+    public QuoteRequest(String topic, String tone, int maxLength) {
+        this(topic, tone, maxLength, null);
+    }
+
+    public static QuoteRequest any() {
+        return ANY;
+    }
+
+    public static QuoteRequest about(String topic) {
+        return new QuoteRequest(topic, null, NO_LIMIT, null);
+    }
+
+    public static QuoteRequest in(Locale locale) {
+        return new QuoteRequest(null, null, NO_LIMIT, locale);
+    }
+
+    public QuoteRequest withTone(String tone) {
+        return new QuoteRequest(topic, tone, maxLength, locale);
+    }
+
+    public QuoteRequest withMaxLength(int maxLength) {
+        return new QuoteRequest(topic, tone, maxLength, locale);
+    }
+
+    public QuoteRequest withLocale(Locale locale) {
+        return new QuoteRequest(topic, tone, maxLength, locale);
+    }
+
+    public boolean isUnconstrained() {
+        return topic == null && tone == null && maxLength == NO_LIMIT && locale == null;
+    }
+
+    private static String normalize(String field, String value) {
+        if (value == null || value.isBlank()) return null;
+        String trimmed = value.trim();
+        if (trimmed.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException(field + " must be at most " + MAX_FIELD_LENGTH + " characters");
+        }
+        if (!trimmed.codePoints().allMatch(QuoteRequest::isPrintable)) {
+            throw new IllegalArgumentException(field + " must be a single line of printable characters");
+        }
+        return trimmed.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isPrintable(int codePoint) {
+        return switch (Character.getType(codePoint)) {
+            case Character.CONTROL, Character.FORMAT, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR,
+                 Character.PRIVATE_USE, Character.SURROGATE, Character.UNASSIGNED -> false;
+            default -> true;
+        };
+    }
+}
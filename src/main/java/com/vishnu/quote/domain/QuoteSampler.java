@@ -0,0 +1,17 @@
+package com.vishnu.quote.domain;
+
+import java.util.Optional;
+
+/**
+ * A source that can draw a random quote. Quotes are already trimmed and never blank. This is the original
+ * one-method repository contract, so lambdas and small adapters only implement {@link #randomQuote()};
+ * sources that can also count and address their quotes implement {@link QuoteRepository}.
+ */
+@FunctionalInterface
+public interface QuoteSampler {
+    Optional<String> randomQuote();
+
+    default String description() {
+        return getClass().getSimpleName();
+    }
+}
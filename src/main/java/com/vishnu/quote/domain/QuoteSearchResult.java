@@ -0,0 +1,21 @@
+package com.vishnu.quote.domain;
+
+import java.util.List;
+import java.util.Objects;
+
+public record QuoteSearchResult(List<String> quotes, int totalMatches, int offset) {
+
+    public QuoteSearchResult {
+        quotes = List.copyOf(Objects.requireNonNull(quotes, "quotes"));
+        if (totalMatches < 0) {
+            throw new IllegalArgumentException("totalMatches must be >= 0");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must be >= 0");
+        }
+    }
+
+    public boolean hasMore() {
+        return offset + quotes.size() < totalMatches;
+    }
+}
@@ -0,0 +1,10 @@
+package com.vishnu.quote.domain;
+
+import java.util.Optional;
+
+public interface SearchableQuoteRepository extends QuoteRepository {
+
+    QuoteSearchResult search(QuoteQuery query, int offset, int limit);
+
+    Optional<String> randomMatch(QuoteQuery query);
+}
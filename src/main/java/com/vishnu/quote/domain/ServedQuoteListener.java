@@ -0,0 +1,18 @@
+package com.vishnu.quote.domain;
+
+/**
+ * Told about every quote a service hands out, or fails to. Called on the serving thread, so
+ * implementations must not block or allocate on the hot path.
+ */
+@FunctionalInterface
+public interface ServedQuoteListener {
+
+    ServedQuoteListener NONE = (request, quote, latencyNanos, failure) -> {
+    };
+
+    /**
+     * @param quote   the quote served, or {@code null} if generation failed
+     * @param failure why generation failed, or {@code null} if a quote was served
+     */
+    void onServed(QuoteRequest request, String quote, long latencyNanos, Throwable failure);
+}
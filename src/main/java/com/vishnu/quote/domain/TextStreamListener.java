@@ -0,0 +1,11 @@
+package com.vishnu.quote.domain;
+
+@FunctionalInterface
+public interface TextStreamListener {
+
+    /**
+     * Called each time more text has arrived. Returning {@code false} stops the generation; the text
+     * received so far is then returned to the caller.
+     */
+    boolean onText(CharSequence textSoFar);
+}
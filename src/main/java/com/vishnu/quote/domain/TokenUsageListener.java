@@ -0,0 +1,14 @@
+package com.vishnu.quote.domain;
+
+/**
+ * Told how many tokens each AI call used. Called on the thread that made the call, so implementations
+ * must be cheap and thread-safe.
+ */
+@FunctionalInterface
+public interface TokenUsageListener {
+
+    TokenUsageListener NONE = (model, inputTokens, outputTokens) -> {
+    };
+
+    void onUsage(String model, long inputTokens, long outputTokens);
+}
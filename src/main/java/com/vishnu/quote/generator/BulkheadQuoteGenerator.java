@@ -0,0 +1,221 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps how many calls run in the primary at once so a traffic spike cannot pile up behind a slow upstream.
+ * A call that finds every permit taken joins a bounded wait queue for at most {@code maxWait} (or the
+ * caller's deadline, if sooner). A call that finds the queue full, or waits without getting a permit, is
+ * shed to the fallback at once. Failures of the primary itself are not shed; they reach the caller.
+ */
+public final class BulkheadQuoteGenerator implements QuoteGenerator {
+
+    public record Policy(int maxConcurrent, int maxQueued, Duration maxWait) {
+        public Policy {
+            if (maxConcurrent <= 0) {
+                throw new IllegalArgumentException("maxConcurrent must be > 0");
+            }
+            if (maxQueued < 0) {
+                throw new IllegalArgumentException("maxQueued must be >= 0");
+            }
+            Objects.requireNonNull(maxWait, "maxWait");
+            if (maxWait.isNegative()) {
+                throw new IllegalArgumentException("maxWait must be >= 0");
+            }
+        }
+
+        /**
+         * Admits {@code maxConcurrent} calls, queues as many again and lets them wait a quarter second.
+         */
+        public static Policy of(int maxConcurrent) {
+            return new Policy(maxConcurrent, maxConcurrent, Duration.ofMillis(250));
+        }
+    }
+
+    private final QuoteGenerator primary;
+    private final QuoteGenerator fallback;
+    private final Policy policy;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder queueNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0);
+
+    public BulkheadQuoteGenerator(QuoteGenerator primary, QuoteGenerator fallback, Policy policy) {
+        this.primary = Objects.requireNonNull(primary, "primary");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.maxWaitNanos = saturatedNanos(policy.maxWait());
+        this.permits = new Semaphore(policy.maxConcurrent());
+    }
+
+    @Override
+    public String generate() {
+        if (!acquire(Deadline.none())) {
+            return fallback.generate();
+        }
+        try {
+            return primary.generate();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        if (!acquire(Deadline.none())) {
+            return fallback.generate(request);
+        }
+        try {
+            return primary.generate(request);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        if (!acquire(deadline)) {
+            // The wait may have used up the deadline; the fallback is local and should answer regardless.
+            return request.isUnconstrained() ? fallback.generate() : fallback.generate(request);
+        }
+        try {
+            return primary.generate(request, deadline);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count) {
+        if (!acquire(Deadline.none())) {
+            return fallback.generateBatch(request, count);
+        }
+        try {
+            return primary.generateBatch(request, count);
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        if (!acquire(deadline)) {
+            return fallback.generateBatch(request, count);
+        }
+        try {
+            return primary.generateBatch(request, count, deadline);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    /**
+     * Calls currently running in the primary.
+     */
+    public int inFlight() {
+        return policy.maxConcurrent() - permits.availablePermits();
+    }
+
+    /**
+     * Calls currently waiting for a permit.
+     */
+    public int waiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Calls let through to the primary, with or without waiting.
+     */
+    public long admitted() {
+        return admitted.sum();
+    }
+
+    /**
+     * Calls shed to the fallback, because the queue was full or the wait ran out.
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Calls that had to wait for a permit, whether they got one or not.
+     */
+    public long queued() {
+        return queued.sum();
+    }
+
+    /**
+     * Time spent waiting for permits, summed over all queued calls.
+     */
+    public Duration totalQueueTime() {
+        return Duration.ofNanos(queueNanos.sum());
+    }
+
+    /**
+     * Longest single wait for a permit so far.
+     */
+    public Duration maxQueueTime() {
+        return Duration.ofNanos(maxQueueNanos.get());
+    }
+
+    private boolean acquire(Deadline deadline) {
+        if (permits.tryAcquire()) {
+            admitted.increment();
+            return true;
+        }
+        if (waiting.incrementAndGet() > policy.maxQueued()) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        long start = System.nanoTime();
+        boolean acquired = false;
+        try {
+            long waitNanos = Math.min(maxWaitNanos, deadline.remaining().toNanos());
+            acquired = waitNanos > 0 && permits.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            long waited = System.nanoTime() - start;
+            queued.increment();
+            queueNanos.add(waited);
+            maxQueueNanos.accumulate(waited);
+        }
+        if (acquired) {
+            admitted.increment();
+        } else {
+            rejected.increment();
+        }
+        return acquired;
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.vishnu.quote.generator;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link FallbackQuoteGenerator} call that needed its fallback. The event spans the fallback call; the
+ * time already spent on the primary is in {@code primaryDuration}.
+ */
+@Name("com.vishnu.quote.Fallback")
+@Label("Quote Fallback")
+@Category({"Motivational Quotes", "Generation"})
+@Description("The primary quote generator failed or came up short and the fallback was used")
+@StackTrace(false)
+final class FallbackEvent extends Event {
+
+    static final String BLANK = "blank";
+
+    private static final EventType TYPE = EventType.getEventType(FallbackEvent.class);
+
+    @Label("Cause")
+    @Description("Class of the primary's exception, or \"blank\" if it returned nothing usable")
+    String cause;
+
+    @Label("Cause Message")
+    String causeMessage;
+
+    @Label("Primary Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    long primaryDuration;
+
+    @Label("Requested")
+    @Description("Quotes asked for; more than one for a batch")
+    int requested;
+
+    @Label("Missing")
+    @Description("Quotes the fallback was asked to supply")
+    int missing;
+
+    @Label("Fallback Failed")
+    boolean fallbackFailed;
+
+    /**
+     * Whether a running recording takes this event. A new event is allocated and timed even when it will
+     * never be committed, so callers check this first and skip the event when nobody is recording.
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
@@ -1,38 +1,171 @@
 package com.vishnu.quote.generator;
 
+import com.vishnu.quote.domain.Deadline;
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public final class FallbackQuoteGenerator implements QuoteGenerator {
 
     private final QuoteGenerator primary;
     private final QuoteGenerator fallback;
+    private final Duration primaryBudget;
 
     public FallbackQuoteGenerator(QuoteGenerator primary, QuoteGenerator fallback) {
         this.primary = Objects.requireNonNull(primary, "primary");
         this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.primaryBudget = null;
+    }
+
+    /**
+     * Gives the primary at most {@code primaryBudget} (or the caller's deadline, if sooner) before the
+     * fallback is used. The primary's in-flight work is cancelled when the budget runs out.
+     */
+    public FallbackQuoteGenerator(QuoteGenerator primary, QuoteGenerator fallback, Duration primaryBudget) {
+        this.primary = Objects.requireNonNull(primary, "primary");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        Objects.requireNonNull(primaryBudget, "primaryBudget");
+        if (primaryBudget.isNegative() || primaryBudget.isZero()) {
+            throw new IllegalArgumentException("primaryBudget must be > 0");
+        }
+        this.primaryBudget = primaryBudget;
     }
 
     @Override
     public String generate() {
+        return generate(QuoteRequest.any(), Deadline.none());
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        return generate(request, Deadline.none());
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(deadline, "deadline");
+        Deadline primaryDeadline = primaryBudget == null ? deadline : deadline.limitTo(primaryBudget);
+
+        boolean traced = FallbackEvent.enabled();
+        long start = traced ? System.nanoTime() : 0L;
         String primaryValue = null;
+        RuntimeException primaryFailure = null;
         try {
-            primaryValue = primary.generate();
-        } catch (RuntimeException ignored) {
+            primaryValue = primaryDeadline.isUnbounded()
+                    ? generate(primary, request)
+                    : primary.generate(request, primaryDeadline);
+        } catch (RuntimeException e) {
+            primaryFailure = e;
         }
 
         if (primaryValue != null && !primaryValue.isBlank()) {
             return primaryValue.trim();
         }
 
+        long primaryNanos = traced ? System.nanoTime() - start : 0L;
+        FallbackEvent event = traced ? beginEvent() : null;
         try {
-            String fallbackValue = fallback.generate();
+            String fallbackValue = generate(fallback, request);
             if (fallbackValue != null && !fallbackValue.isBlank()) {
+                commit(event, primaryFailure, primaryNanos, 1, 1, false);
                 return fallbackValue.trim();
             }
         } catch (RuntimeException ignored) {
         }
+        commit(event, primaryFailure, primaryNanos, 1, 1, true);
         throw new IllegalStateException("Both primary and fallback generators failed to produce a quote.");
     }
+
+    /**
+     * Takes what the primary can deliver in one batch and tops up any shortfall from the fallback.
+     */
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count) {
+        return generateBatch(request, count, Deadline.none());
+    }
+
+    /**
+     * Like {@link #generateBatch(QuoteRequest, int)}, with the primary held to the same budget as
+     * {@link #generate(QuoteRequest, Deadline)}.
+     */
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(deadline, "deadline");
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be > 0");
+        }
+        Deadline primaryDeadline = primaryBudget == null ? deadline : deadline.limitTo(primaryBudget);
+        boolean traced = FallbackEvent.enabled();
+        long start = traced ? System.nanoTime() : 0L;
+        List<String> quotes = new ArrayList<>(count);
+        RuntimeException primaryFailure = null;
+        try {
+            addUsable(quotes, primaryDeadline.isUnbounded()
+                    ? primary.generateBatch(request, count)
+                    : primary.generateBatch(request, count, primaryDeadline), count);
+        } catch (RuntimeException e) {
+            primaryFailure = e;
+        }
+        if (quotes.size() < count) {
+            int missing = count - quotes.size();
+            long primaryNanos = traced ? System.nanoTime() - start : 0L;
+            FallbackEvent event = traced ? beginEvent() : null;
+            try {
+                addUsable(quotes, fallback.generateBatch(request, missing), count);
+            } catch (RuntimeException ignored) {
+            }
+            commit(event, primaryFailure, primaryNanos, count, missing, quotes.size() == count - missing);
+        }
+        if (quotes.isEmpty()) {
+            throw new IllegalStateException("Both primary and fallback generators failed to produce a quote.");
+        }
+        return quotes;
+    }
+
+    private static FallbackEvent beginEvent() {
+        FallbackEvent event = new FallbackEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Does nothing for a {@code null} event, which is what callers hold when no recording was running.
+     */
+    private static void commit(FallbackEvent event, RuntimeException primaryFailure, long primaryNanos,
+                               int requested, int missing, boolean fallbackFailed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.cause = primaryFailure == null ? FallbackEvent.BLANK : primaryFailure.getClass().getName();
+            event.causeMessage = primaryFailure == null ? null : primaryFailure.getMessage();
+            event.primaryDuration = primaryNanos;
+            event.requested = requested;
+            event.missing = missing;
+            event.fallbackFailed = fallbackFailed;
+            event.commit();
+        }
+    }
+
+    private static void addUsable(List<String> quotes, List<String> batch, int count) {
+        for (String quote : batch) {
+            if (quotes.size() == count) {
+                return;
+            }
+            if (quote != null && !quote.isBlank()) {
+                quotes.add(quote.trim());
+            }
+        }
+    }
+
+    private static String generate(QuoteGenerator generator, QuoteRequest request) {
+        return request.isUnconstrained() ? generator.generate() : generator.generate(request);
+    }
 }
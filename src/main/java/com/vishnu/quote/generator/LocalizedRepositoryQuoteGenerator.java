@@ -0,0 +1,42 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.LocalizedQuoteRepository;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Serves quotes from the corpus matching the request's locale, or the root corpus when the request has
+ * none. Other request fields are ignored, as in {@link RepositoryMotivationalQuoteGenerator}.
+ */
+public final class LocalizedRepositoryQuoteGenerator implements QuoteGenerator {
+
+    private final LocalizedQuoteRepository repository;
+
+    public LocalizedRepositoryQuoteGenerator(LocalizedQuoteRepository repository) {
+        this.repository = Objects.requireNonNull(repository, "repository");
+    }
+
+    @Override
+    public String generate() {
+        return pick(repository.forLocale(Locale.ROOT));
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        Locale locale = Objects.requireNonNull(request, "request").locale();
+        return pick(repository.forLocale(locale == null ? Locale.ROOT : locale));
+    }
+
+    private static String pick(QuoteRepository corpus) {
+        int index = corpus.randomIndex();
+        if (index < 0) {
+            throw new IllegalStateException(
+                    "No motivational quote available from repository: " + corpus.description());
+        }
+        return corpus.quoteAt(index);
+    }
+}
@@ -1,25 +1,192 @@
 package com.vishnu.quote.generator;
 
 import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteDeduplicator;
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 public final class MotivationalQuoteGenerator implements QuoteGenerator {
+    private static final String BASE_PROMPT = """
+            Generate exactly one short motivational quote.
+            Requirements:
+            - 1 sentence
+            - No author name
+            - No surrounding quotation marks
+            """;
+    private static final String BATCH_PROMPT = """
+            Generate exactly %d different short motivational quotes, one per line.
+            Requirements:
+            - 1 sentence each
+            - No author name
+            - No surrounding quotation marks
+            - No numbering or bullets
+            """;
+    private static final Pattern LIST_MARKER = Pattern.compile("^\\s*(?:\\d+[.)]|[-*•])\\s+");
+
     private final AiTextClient aiTextClient;
+    private final QuoteValidator validator;
+    private final QuoteDeduplicator deduplicator;
 
     public MotivationalQuoteGenerator(AiTextClient aiTextClient) {
+        this(aiTextClient, null, null);
+    }
+
+    private MotivationalQuoteGenerator(AiTextClient aiTextClient, QuoteValidator validator,
+                                       QuoteDeduplicator deduplicator) {
         this.aiTextClient = Objects.requireNonNull(aiTextClient);
+        this.validator = validator;
+        this.deduplicator = deduplicator;
+    }
+
+    /**
+     * Streams the AI output through {@code validator}, which stops generation once the quote is complete
+     * and rejects output that breaks the prompt's rules with an {@link IllegalStateException}.
+     */
+    public static MotivationalQuoteGenerator validating(AiTextClient aiTextClient, QuoteValidator validator) {
+        return new MotivationalQuoteGenerator(aiTextClient, Objects.requireNonNull(validator, "validator"), null);
+    }
+
+    /**
+     * Like {@link #validating(AiTextClient, QuoteValidator)}, and also rejects quotes {@code deduplicator}
+     * has seen before with an {@link IllegalStateException}, so a fallback can answer instead.
+     */
+    public static MotivationalQuoteGenerator validating(
+            AiTextClient aiTextClient, QuoteValidator validator, QuoteDeduplicator deduplicator) {
+        return new MotivationalQuoteGenerator(aiTextClient, Objects.requireNonNull(validator, "validator"),
+                Objects.requireNonNull(deduplicator, "deduplicator"));
     }
 
     @Override
     public String generate() {
-        return aiTextClient.generateText("""
-                Generate exactly one short motivational quote.
-                Requirements:
-                - 1 sentence
-                - No author name
-                - No surrounding quotation marks
-                """);
+        if (validator != null) {
+            return generate(QuoteRequest.any(), Deadline.none());
+        }
+        return aiTextClient.generateText(BASE_PROMPT);
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        if (validator != null) {
+            return generate(request, Deadline.none());
+        }
+        return aiTextClient.generateText(prompt(Objects.requireNonNull(request, "request")));
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        String prompt = prompt(Objects.requireNonNull(request, "request"));
+        if (validator == null) {
+            return aiTextClient.generateText(prompt, deadline);
+        }
+        QuoteValidator.Session session = validator.start(request);
+        String quote = session.finish(aiTextClient.generateText(prompt, deadline, session));
+        if (deduplicator != null && !deduplicator.add(quote)) {
+            throw new IllegalStateException("AI quote repeats an earlier quote");
+        }
+        return quote;
+    }
+
+    /**
+     * Asks for {@code count} quotes in one AI call, one per line. Lines the validator rejects, and repeats
+     * the deduplicator rejects, are dropped, so fewer than {@code count} quotes may come back; an answer
+     * with no usable line is an error.
+     */
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count) {
+        return generateBatch(request, count, Deadline.none());
+    }
+
+    /**
+     * Like {@link #generateBatch(QuoteRequest, int)}. The client is told how many lines to expect so its
+     * output cap covers all of them, and a last line without sentence-ending punctuation is taken to be
+     * cut off and dropped.
+     */
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(deadline, "deadline");
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be > 0");
+        }
+        if (count == 1) {
+            if (deadline.isUnbounded()) {
+                return List.of(request.isUnconstrained() ? generate() : generate(request));
+            }
+            return List.of(generate(request, deadline));
+        }
+        String prompt = constrained(new StringBuilder(BATCH_PROMPT.formatted(count)), request);
+        String text = aiTextClient.generateLines(prompt, count, deadline);
+        String[] lines = text == null ? new String[0] : text.split("\\R");
+        int last = lines.length - 1;
+        while (last >= 0 && lines[last].isBlank()) {
+            last--;
+        }
+        List<String> quotes = new ArrayList<>(count);
+        for (int i = 0; i <= last; i++) {
+            String quote = LIST_MARKER.matcher(lines[i]).replaceFirst("").strip();
+            if (quotes.size() == count) {
+                break;
+            }
+            if (quote.isEmpty() || (i == last && !hasSentenceEnd(quote))) {
+                continue;
+            }
+            if (validator == null) {
+                quotes.add(quote);
+                continue;
+            }
+            try {
+                String valid = validator.start(request).finish(quote);
+                if (deduplicator == null || deduplicator.add(valid)) {
+                    quotes.add(valid);
+                }
+            } catch (IllegalStateException rejected) {
+                // keep the rest of the batch
+            }
+        }
+        if (quotes.isEmpty()) {
+            throw new IllegalStateException("AI batch produced no usable quotes");
+        }
+        return quotes;
+    }
+
+    private static boolean hasSentenceEnd(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (".!?…".indexOf(line.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String prompt(QuoteRequest request) {
+        if (request.isUnconstrained()) {
+            return BASE_PROMPT;
+        }
+        return constrained(new StringBuilder(BASE_PROMPT), request);
+    }
+
+    private static String constrained(StringBuilder prompt, QuoteRequest request) {
+        if (request.topic() != null) {
+            prompt.append("- Topic: ").append(request.topic()).append('\n');
+        }
+        if (request.tone() != null) {
+            prompt.append("- Tone: ").append(request.tone()).append('\n');
+        }
+        if (request.maxLength() != QuoteRequest.NO_LIMIT) {
+            prompt.append("- At most ").append(request.maxLength()).append(" characters\n");
+        }
+        if (request.locale() != null) {
+            prompt.append("- Write in ").append(request.locale().getDisplayName(Locale.ENGLISH))
+                    .append(" (").append(request.locale().toLanguageTag()).append(")\n");
+        }
+        return prompt.toString();
     }
 }
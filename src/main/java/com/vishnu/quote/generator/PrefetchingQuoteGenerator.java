@@ -0,0 +1,228 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a pool of pre-generated quotes per {@link QuoteRequest}. Each pool tracks an exponentially
+ * decayed demand rate and is refilled in the background up to {@code rate * leadTime} quotes, so hot
+ * requests are served from memory. Pools idle for longer than {@code idleTimeout} are evicted, and the
+ * number of pools is capped at {@code maxPools} by dropping the coldest one.
+ */
+public final class PrefetchingQuoteGenerator implements QuoteGenerator {
+
+    public record Policy(Duration leadTime, Duration halfLife, int maxPoolSize, Duration idleTimeout, int maxPools) {
+        public Policy {
+            requirePositive(leadTime, "leadTime");
+            requirePositive(halfLife, "halfLife");
+            requirePositive(idleTimeout, "idleTimeout");
+            if (maxPoolSize <= 0) {
+                throw new IllegalArgumentException("maxPoolSize must be > 0");
+            }
+            if (maxPools <= 0) {
+                throw new IllegalArgumentException("maxPools must be > 0");
+            }
+        }
+
+        public static Policy defaults() {
+            return new Policy(Duration.ofSeconds(5), Duration.ofSeconds(30), 32, Duration.ofMinutes(5), 256);
+        }
+
+        private static void requirePositive(Duration value, String name) {
+            Objects.requireNonNull(value, name);
+            if (value.isNegative() || value.isZero()) {
+                throw new IllegalArgumentException(name + " must be > 0");
+            }
+        }
+    }
+
+    private final QuoteGenerator delegate;
+    private final Executor executor;
+    private final LongSupplier nanoClock;
+    private final Policy policy;
+    private final double tauNanos;
+    private final Map<QuoteRequest, Pool> pools = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long lastSweepNanos;
+
+    public PrefetchingQuoteGenerator(QuoteGenerator delegate, Executor executor, Policy policy) {
+        this(delegate, executor, policy, System::nanoTime);
+    }
+
+    PrefetchingQuoteGenerator(QuoteGenerator delegate, Executor executor, Policy policy, LongSupplier nanoClock) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        this.tauNanos = policy.halfLife().toNanos() / Math.log(2);
+        this.lastSweepNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public String generate() {
+        return generate(QuoteRequest.any());
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        return generate(request, Deadline.none());
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(deadline, "deadline");
+        long now = nanoClock.getAsLong();
+        maybeSweep(now);
+
+        Pool pool = pools.computeIfAbsent(request, Pool::new);
+        pool.recordDemand(now);
+        String quote = pool.poll();
+        pool.scheduleRefill();
+        if (pools.size() > policy.maxPools()) {
+            evictColdest(now);
+        }
+        if (quote != null) {
+            return quote;
+        }
+        return deadline.isUnbounded() ? generateDirect(request) : delegate.generate(request, deadline);
+    }
+
+    /**
+     * Removes pools whose last request is older than the idle timeout and returns how many were dropped.
+     */
+    public int evictIdle() {
+        return evictIdle(nanoClock.getAsLong());
+    }
+
+    public int poolCount() {
+        return pools.size();
+    }
+
+    int pooledQuotes(QuoteRequest request) {
+        Pool pool = pools.get(request);
+        return pool == null ? 0 : pool.size.get();
+    }
+
+    int targetSize(QuoteRequest request) {
+        Pool pool = pools.get(request);
+        return pool == null ? 0 : pool.targetSize();
+    }
+
+    private String generateDirect(QuoteRequest request) {
+        return request.isUnconstrained() ? delegate.generate() : delegate.generate(request);
+    }
+
+    private void maybeSweep(long now) {
+        long interval = policy.idleTimeout().toNanos() / 4;
+        if (now - lastSweepNanos < interval || !sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            lastSweepNanos = now;
+            evictIdle(now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private int evictIdle(long now) {
+        long idleNanos = policy.idleTimeout().toNanos();
+        int evicted = 0;
+        for (Pool pool : pools.values()) {
+            if (now - pool.lastDemandNanos() > idleNanos && pools.remove(pool.request, pool)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void evictColdest(long now) {
+        pools.values().stream()
+                .min(Comparator.comparingDouble(p -> p.rateAt(now)))
+                .ifPresent(p -> pools.remove(p.request, p));
+    }
+
+    private final class Pool {
+        private final QuoteRequest request;
+        private final ConcurrentLinkedQueue<String> quotes = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private double ratePerSecond;
+        private long lastDemandNanos;
+
+        Pool(QuoteRequest request) {
+            this.request = request;
+            this.lastDemandNanos = nanoClock.getAsLong();
+        }
+
+        synchronized void recordDemand(long now) {
+            ratePerSecond = rateAt(now) + 1_000_000_000.0 / tauNanos;
+            lastDemandNanos = now;
+        }
+
+        synchronized long lastDemandNanos() {
+            return lastDemandNanos;
+        }
+
+        synchronized double rateAt(long now) {
+            long elapsed = Math.max(0, now - lastDemandNanos);
+            return ratePerSecond * Math.exp(-elapsed / tauNanos);
+        }
+
+        int targetSize() {
+            double leadSeconds = policy.leadTime().toNanos() / 1_000_000_000.0;
+            long target = Math.round(rateAt(nanoClock.getAsLong()) * leadSeconds);
+            return (int) Math.min(policy.maxPoolSize(), target);
+        }
+
+        String poll() {
+            String quote = quotes.poll();
+            if (quote != null) {
+                size.decrementAndGet();
+            }
+            return quote;
+        }
+
+        void scheduleRefill() {
+            if (size.get() >= targetSize() || !refilling.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::refill);
+            } catch (RejectedExecutionException e) {
+                refilling.set(false);
+            }
+        }
+
+        private void refill() {
+            try {
+                while (size.get() < targetSize() && pools.get(request) == this) {
+                    String quote = generateDirect(request);
+                    if (quote == null || quote.isBlank()) {
+                        return;
+                    }
+                    quotes.add(quote.trim());
+                    size.incrementAndGet();
+                }
+            } catch (RuntimeException ignored) {
+            } finally {
+                refilling.set(false);
+            }
+        }
+    }
+}
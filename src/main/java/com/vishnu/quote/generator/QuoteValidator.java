@@ -0,0 +1,187 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.domain.TextStreamListener;
+
+import java.util.regex.Pattern;
+
+/**
+ * Checks AI output against the prompt's rules: one sentence, no author, no surrounding quotation marks and
+ * a length limit. A {@link Session} watches the text while it streams and stops the stream as soon as the
+ * first sentence is complete or the output can no longer be valid. {@link Session#finish(String)} then
+ * trims minor problems (quotation marks, a trailing attribution, extra sentences) instead of asking again.
+ */
+public final class QuoteValidator {
+
+    public static final int DEFAULT_MAX_LENGTH = 200;
+
+    private static final String QUOTE_MARKS = "\"'“”‘’«»„";
+    private static final Pattern ATTRIBUTION = Pattern.compile(
+            "\\s*(?:[—–~]|--|\\s-)\\s*\\p{Lu}[\\p{L}\\p{M}.'’-]*(?:\\s+\\p{Lu}[\\p{L}\\p{M}.'’-]*){0,3}$"
+    );
+
+    private final int defaultMaxLength;
+
+    public QuoteValidator(int defaultMaxLength) {
+        if (defaultMaxLength <= 0) {
+            throw new IllegalArgumentException("defaultMaxLength must be > 0");
+        }
+        this.defaultMaxLength = defaultMaxLength;
+    }
+
+    public static QuoteValidator defaults() {
+        return new QuoteValidator(DEFAULT_MAX_LENGTH);
+    }
+
+    public Session start(QuoteRequest request) {
+        int maxLength = request.maxLength() == QuoteRequest.NO_LIMIT ? defaultMaxLength : request.maxLength();
+        return new Session(maxLength);
+    }
+
+    public enum Verdict { CONTINUE, COMPLETE, INVALID }
+
+    public static final class Session implements TextStreamListener {
+
+        private final int maxLength;
+        private Verdict verdict = Verdict.CONTINUE;
+        private String reason;
+
+        private Session(int maxLength) {
+            this.maxLength = maxLength;
+        }
+
+        @Override
+        public boolean onText(CharSequence textSoFar) {
+            verdict = inspect(textSoFar);
+            return verdict == Verdict.CONTINUE;
+        }
+
+        public Verdict verdict() {
+            return verdict;
+        }
+
+        /**
+         * Returns the cleaned quote, or throws {@link IllegalStateException} if the output cannot be used.
+         */
+        public String finish(String text) {
+            if (verdict == Verdict.INVALID) {
+                throw rejected(reason);
+            }
+            if (text == null || text.isBlank()) {
+                throw rejected("empty output");
+            }
+            String quote = stripQuoteMarks(stripAttribution(firstSentence(body(text))));
+            if (quote.isEmpty()) {
+                throw rejected("preamble without a quote");
+            }
+            if (quote.codePoints().noneMatch(Character::isLetter)) {
+                throw rejected("no words");
+            }
+            if (quote.length() > maxLength) {
+                throw rejected("longer than " + maxLength + " characters");
+            }
+            return quote;
+        }
+
+        private Verdict inspect(CharSequence text) {
+            int start = bodyStart(text);
+            if (start < 0) {
+                return Verdict.CONTINUE;
+            }
+            int end = sentenceEnd(text, start);
+            if (end >= 0) {
+                return Verdict.COMPLETE;
+            }
+            if (text.length() - start > maxLength + 16) {
+                reason = "no sentence end within " + maxLength + " characters";
+                return Verdict.INVALID;
+            }
+            return Verdict.CONTINUE;
+        }
+
+        private static IllegalStateException rejected(String reason) {
+            return new IllegalStateException("AI quote rejected: " + reason);
+        }
+    }
+
+    /**
+     * Skips a leading "Here is a quote:" style line. Returns -1 while such a line might still be arriving.
+     */
+    private static int bodyStart(CharSequence text) {
+        int newline = indexOf(text, '\n', 0);
+        if (newline < 0) {
+            return endsWithColon(text, text.length()) ? -1 : 0;
+        }
+        return endsWithColon(text, newline) ? newline + 1 : 0;
+    }
+
+    private static String body(String text) {
+        int start = bodyStart(text);
+        return start < 0 ? "" : text.substring(start).strip();
+    }
+
+    /**
+     * Index just past the first sentence, or -1 if it has not ended yet. A sentence ends at terminal
+     * punctuation (plus any closing quotation marks) followed by whitespace, or at a line break.
+     */
+    private static int sentenceEnd(CharSequence text, int from) {
+        boolean content = false;
+        for (int i = from; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' && content) {
+                return i;
+            }
+            if (!Character.isWhitespace(c) && QUOTE_MARKS.indexOf(c) < 0) {
+                content = true;
+            }
+            if (content && (c == '.' || c == '!' || c == '?')) {
+                int j = i + 1;
+                while (j < text.length() && (".!?".indexOf(text.charAt(j)) >= 0 || QUOTE_MARKS.indexOf(text.charAt(j)) >= 0)) {
+                    j++;
+                }
+                if (j < text.length() && Character.isWhitespace(text.charAt(j))) {
+                    return j;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static String firstSentence(String text) {
+        int end = sentenceEnd(text, 0);
+        return end < 0 ? text : text.substring(0, end).strip();
+    }
+
+    private static String stripAttribution(String text) {
+        return ATTRIBUTION.matcher(text).replaceFirst("").strip();
+    }
+
+    private static String stripQuoteMarks(String text) {
+        int from = 0;
+        int to = text.length();
+        while (from < to && (QUOTE_MARKS.indexOf(text.charAt(from)) >= 0 || Character.isWhitespace(text.charAt(from)))) {
+            from++;
+        }
+        while (to > from && (QUOTE_MARKS.indexOf(text.charAt(to - 1)) >= 0 || Character.isWhitespace(text.charAt(to - 1)))) {
+            to--;
+        }
+        return text.substring(from, to);
+    }
+
+    private static boolean endsWithColon(CharSequence text, int end) {
+        for (int i = end - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                return c == ':';
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(CharSequence text, char c, int from) {
+        for (int i = from; i < text.length(); i++) {
+            if (text.charAt(i) == c) return i;
+        }
+        return -1;
+    }
+}
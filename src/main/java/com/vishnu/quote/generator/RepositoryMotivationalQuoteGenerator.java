@@ -2,21 +2,39 @@ package com.vishnu.quote.generator;
 
 import com.vishnu.quote.domain.QuoteGenerator;
 import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteSampler;
 
 import java.util.Objects;
 
+/**
+ * Serves quotes from a {@link QuoteSampler}. A {@link QuoteRepository} is read through
+ * {@link QuoteRepository#randomQuoteOrNull()}, which picks a quote without allocating; any other sampler
+ * through {@link QuoteSampler#randomQuote()}.
+ */
 public final class RepositoryMotivationalQuoteGenerator implements QuoteGenerator {
 
-    private final QuoteRepository repository;
+    private final QuoteSampler repository;
+    private final QuoteRepository indexed;
 
-    public RepositoryMotivationalQuoteGenerator(QuoteRepository repository) {
+    public RepositoryMotivationalQuoteGenerator(QuoteSampler repository) {
         this.repository = Objects.requireNonNull(repository, "repository");
+        this.indexed = repository instanceof QuoteRepository r ? r : null;
     }
 
     @Override
     public String generate() {
-        return repository.randomQuote()
-                .orElseThrow(() -> new IllegalStateException(
-                        "No motivational quote available from repository: " + repository.description()));
+        if (indexed == null) {
+            return repository.randomQuote().orElseThrow(this::noQuote);
+        }
+        String quote = indexed.randomQuoteOrNull();
+        if (quote == null) {
+            throw noQuote();
+        }
+        return quote;
+    }
+
+    private IllegalStateException noQuote() {
+        return new IllegalStateException(
+                "No motivational quote available from repository: " + repository.description());
     }
 }
@@ -0,0 +1,101 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps AI spend inside a rolling token budget by moving traffic to a cheap generator before the budget
+ * runs out, rather than failing once it has. Below {@code shedFrom} of the budget every call goes to the
+ * primary. From there the share sent to the primary falls linearly, reaching zero at the full budget. The
+ * spend that is still allowed is then spread over the rest of the window instead of used up in one burst.
+ */
+public final class TokenBudgetQuoteGenerator implements QuoteGenerator {
+
+    public static final double DEFAULT_SHED_FROM = 0.8;
+
+    private final QuoteGenerator primary;
+    private final QuoteGenerator fallback;
+    private final LongSupplier tokensInWindow;
+    private final long budgetTokens;
+    private final double shedFrom;
+    private final LongAdder shed = new LongAdder();
+
+    public TokenBudgetQuoteGenerator(
+            QuoteGenerator primary, QuoteGenerator fallback, LongSupplier tokensInWindow, long budgetTokens) {
+        this(primary, fallback, tokensInWindow, budgetTokens, DEFAULT_SHED_FROM);
+    }
+
+    public TokenBudgetQuoteGenerator(QuoteGenerator primary, QuoteGenerator fallback, LongSupplier tokensInWindow,
+                                     long budgetTokens, double shedFrom) {
+        this.primary = Objects.requireNonNull(primary, "primary");
+        this.fallback = Objects.requireNonNull(fallback, "fallback");
+        this.tokensInWindow = Objects.requireNonNull(tokensInWindow, "tokensInWindow");
+        if (budgetTokens <= 0) {
+            throw new IllegalArgumentException("budgetTokens must be > 0");
+        }
+        if (!(shedFrom >= 0.0 && shedFrom < 1.0)) {
+            throw new IllegalArgumentException("shedFrom must be in [0, 1)");
+        }
+        this.budgetTokens = budgetTokens;
+        this.shedFrom = shedFrom;
+    }
+
+    @Override
+    public String generate() {
+        return route().generate();
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        return route().generate(request);
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        return route().generate(request, deadline);
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count) {
+        return route().generateBatch(request, count);
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        return route().generateBatch(request, count, deadline);
+    }
+
+    /**
+     * Share of the budget spent in the current window; may exceed 1 when calls were already in flight.
+     */
+    public double utilization() {
+        return tokensInWindow.getAsLong() / (double) budgetTokens;
+    }
+
+    /**
+     * Calls sent to the fallback because of the budget.
+     */
+    public long shed() {
+        return shed.sum();
+    }
+
+    private QuoteGenerator route() {
+        double utilization = utilization();
+        if (utilization < shedFrom) {
+            return primary;
+        }
+        double primaryShare = (1.0 - utilization) / (1.0 - shedFrom);
+        if (primaryShare > 0 && ThreadLocalRandom.current().nextDouble() < primaryShare) {
+            return primary;
+        }
+        shed.increment();
+        return fallback;
+    }
+}
@@ -0,0 +1,240 @@
+package com.vishnu.quote.infrastructure.ai;
+
+import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.TextStreamListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Spreads calls over several {@link AiTextClient}s (models, endpoints or API keys) using power of two
+ * choices: two random members are compared by {@code (peakEwmaLatency + 1ns) * (outstanding + 1)} and the cheaper
+ * one is used. A member that fails {@code failuresToEject} times in a row is ejected for
+ * {@code ejectionTime}, doubled on each consecutive ejection. Once that time is up, a single probe request
+ * is let through and a successful probe returns the member to the pool. Latency estimates decay towards
+ * zero while a member is idle, so a member that was slow a while ago is eventually tried again.
+ */
+public final class LoadBalancingAiTextClient implements AiTextClient {
+
+    public record Endpoint(String name, AiTextClient client) {
+        public Endpoint {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(client, "client");
+        }
+    }
+
+    public record Policy(Duration decayTime, int failuresToEject, Duration ejectionTime, Duration maxEjectionTime) {
+        public Policy {
+            Objects.requireNonNull(decayTime, "decayTime");
+            Objects.requireNonNull(ejectionTime, "ejectionTime");
+            Objects.requireNonNull(maxEjectionTime, "maxEjectionTime");
+            if (decayTime.isNegative() || decayTime.isZero()) {
+                throw new IllegalArgumentException("decayTime must be > 0");
+            }
+            if (failuresToEject <= 0) {
+                throw new IllegalArgumentException("failuresToEject must be > 0");
+            }
+            if (ejectionTime.isNegative() || ejectionTime.isZero() || maxEjectionTime.compareTo(ejectionTime) < 0) {
+                throw new IllegalArgumentException("ejectionTime must be > 0 and <= maxEjectionTime");
+            }
+        }
+
+        public static Policy defaults() {
+            return new Policy(Duration.ofSeconds(10), 3, Duration.ofSeconds(5), Duration.ofMinutes(2));
+        }
+    }
+
+    public record MemberStats(String name, Duration latency, int outstanding, boolean ejected) {
+    }
+
+    private final Member[] members;
+    private final Policy policy;
+    private final LongSupplier nanoClock;
+
+    public LoadBalancingAiTextClient(List<Endpoint> endpoints, Policy policy) {
+        this(endpoints, policy, System::nanoTime);
+    }
+
+    LoadBalancingAiTextClient(List<Endpoint> endpoints, Policy policy, LongSupplier nanoClock) {
+        Objects.requireNonNull(endpoints, "endpoints");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock");
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("endpoints must not be empty");
+        }
+        this.members = endpoints.stream().map(Member::new).toArray(Member[]::new);
+    }
+
+    @Override
+    public String generateText(String prompt) {
+        return generateText(prompt, Deadline.none());
+    }
+
+    @Override
+    public String generateText(String prompt, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        return call(prompt, client -> client.generateText(prompt, deadline));
+    }
+
+    @Override
+    public String generateText(String prompt, Deadline deadline, TextStreamListener listener) {
+        Objects.requireNonNull(deadline, "deadline");
+        Objects.requireNonNull(listener, "listener");
+        return call(prompt, client -> client.generateText(prompt, deadline, listener));
+    }
+
+    @Override
+    public String generateLines(String prompt, int lines, Deadline deadline) {
+        Objects.requireNonNull(deadline, "deadline");
+        return call(prompt, client -> client.generateLines(prompt, lines, deadline));
+    }
+
+    private String call(String prompt, Function<AiTextClient, String> request) {
+        Objects.requireNonNull(prompt);
+        Member member = choose(nanoClock.getAsLong());
+        member.outstanding.incrementAndGet();
+        long start = nanoClock.getAsLong();
+        try {
+            String text = request.apply(member.endpoint.client());
+            member.onSuccess(nanoClock.getAsLong(), start);
+            return text;
+        } catch (RuntimeException e) {
+            member.onFailure(nanoClock.getAsLong(), start);
+            throw e;
+        } finally {
+            member.outstanding.decrementAndGet();
+        }
+    }
+
+    public List<MemberStats> stats() {
+        long now = nanoClock.getAsLong();
+        return Arrays.stream(members).map(m -> m.stats(now)).toList();
+    }
+
+    private Member choose(long now) {
+        if (members.length == 1) {
+            return members[0];
+        }
+        Member[] available = new Member[members.length];
+        int n = 0;
+        Member probe = null;
+        Member soonest = members[0];
+        for (Member member : members) {
+            switch (member.state(now)) {
+                case AVAILABLE -> available[n++] = member;
+                case PROBE_DUE -> {
+                    if (probe == null) probe = member;
+                }
+                case EJECTED -> {
+                }
+            }
+            if (member.ejectedUntil() - soonest.ejectedUntil() < 0) {
+                soonest = member;
+            }
+        }
+        if (probe != null && probe.probing.compareAndSet(false, true)) {
+            return probe;
+        }
+        if (n == 0) {
+            return soonest;
+        }
+        if (n == 1) {
+            return available[0];
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int a = random.nextInt(n);
+        int b = random.nextInt(n - 1);
+        if (b >= a) b++;
+        return available[a].cost(now) <= available[b].cost(now) ? available[a] : available[b];
+    }
+
+    private enum State { AVAILABLE, PROBE_DUE, EJECTED }
+
+    private final class Member {
+        private final Endpoint endpoint;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicBoolean probing = new AtomicBoolean();
+
+        private double ewmaNanos;
+        private long lastUpdateNanos;
+        private int consecutiveFailures;
+        private int ejections;
+        private boolean ejected;
+        private long ejectedUntilNanos;
+
+        Member(Endpoint endpoint) {
+            this.endpoint = endpoint;
+            this.lastUpdateNanos = nanoClock.getAsLong();
+        }
+
+        synchronized State state(long now) {
+            if (!ejected) return State.AVAILABLE;
+            if (now - ejectedUntilNanos < 0 || probing.get()) return State.EJECTED;
+            return State.PROBE_DUE;
+        }
+
+        synchronized long ejectedUntil() {
+            return ejected ? ejectedUntilNanos : Long.MIN_VALUE;
+        }
+
+        double cost(long now) {
+            return (decayedLatency(now) + 1) * (outstanding.get() + 1);
+        }
+
+        synchronized void onSuccess(long now, long start) {
+            observe(now, now - start);
+            consecutiveFailures = 0;
+            ejections = 0;
+            ejected = false;
+            probing.set(false);
+        }
+
+        synchronized void onFailure(long now, long start) {
+            observe(now, now - start);
+            consecutiveFailures++;
+            if (probing.get() || consecutiveFailures >= policy.failuresToEject()) {
+                long backoff = policy.ejectionTime().toNanos() << Math.min(ejections, 20);
+                ejectedUntilNanos = now + Math.min(backoff, policy.maxEjectionTime().toNanos());
+                ejected = true;
+                ejections++;
+                consecutiveFailures = 0;
+            }
+            probing.set(false);
+        }
+
+        synchronized MemberStats stats(long now) {
+            return new MemberStats(
+                    endpoint.name(),
+                    Duration.ofNanos((long) decayedLatency(now)),
+                    outstanding.get(),
+                    ejected
+            );
+        }
+
+        private synchronized double decayedLatency(long now) {
+            return ewmaNanos * decay(now);
+        }
+
+        private void observe(long now, long latencyNanos) {
+            if (latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = decay(now);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            lastUpdateNanos = now;
+        }
+
+        private double decay(long now) {
+            return Math.exp(-Math.max(0, now - lastUpdateNanos) / (double) policy.decayTime().toNanos());
+        }
+    }
+}
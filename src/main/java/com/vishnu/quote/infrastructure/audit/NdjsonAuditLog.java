@@ -0,0 +1,138 @@
+package com.vishnu.quote.infrastructure.audit;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes {@link ServedQuoteEvent}s as newline-delimited JSON to numbered files, starting a new file
+ * once the current one would grow past {@code maxFileBytes}. Output is flushed at the end of each batch.
+ * A restart continues with a new file after the highest existing number and never appends to an old one.
+ */
+public final class NdjsonAuditLog implements ServedQuoteRing.Handler {
+
+    private static final String FILE_SUFFIX = ".ndjson";
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final Path directory;
+    private final long maxFileBytes;
+    private final StringBuilder line = new StringBuilder(256);
+    private long nextFileNumber;
+    private OutputStream out;
+    private long fileBytes;
+
+    private NdjsonAuditLog(Path directory, long maxFileBytes, long nextFileNumber) {
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.nextFileNumber = nextFileNumber;
+    }
+
+    public static NdjsonAuditLog open(Path directory, long maxFileBytes) {
+        Objects.requireNonNull(directory, "directory");
+        if (maxFileBytes <= 0) {
+            throw new IllegalArgumentException("maxFileBytes must be > 0");
+        }
+        try {
+            Files.createDirectories(directory);
+            long last = 0;
+            try (Stream<Path> listing = Files.list(directory)) {
+                last = listing.map(p -> p.getFileName().toString())
+                        .filter(name -> name.endsWith(FILE_SUFFIX))
+                        .mapToLong(NdjsonAuditLog::fileNumber)
+                        .max()
+                        .orElse(0);
+            }
+            return new NdjsonAuditLog(directory, maxFileBytes, last + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit log in " + directory, e);
+        }
+    }
+
+    @Override
+    public void onEvent(ServedQuoteEvent event, boolean endOfBatch) throws IOException {
+        byte[] bytes = format(event).getBytes(StandardCharsets.UTF_8);
+        if (out == null || (fileBytes > 0 && fileBytes + bytes.length > maxFileBytes)) {
+            rotate();
+        }
+        out.write(bytes);
+        fileBytes += bytes.length;
+        if (endOfBatch) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    String format(ServedQuoteEvent event) {
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(event.timestampMillis())).append('"');
+        line.append(",\"seq\":").append(event.sequence());
+        field("source", event.source());
+        line.append(",\"outcome\":\"").append(event.served() ? "served" : "failed").append('"');
+        line.append(",\"latencyMicros\":").append(event.latencyNanos() / 1_000);
+        field("topic", event.topic());
+        field("tone", event.tone());
+        if (event.maxLength() > 0) {
+            line.append(",\"maxLength\":").append(event.maxLength());
+        }
+        field("locale", event.locale() == null ? null : event.locale().toLanguageTag());
+        field("quote", event.quote());
+        field("failure", event.failure());
+        return line.append("}\n").toString();
+    }
+
+    private void field(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    private void rotate() throws IOException {
+        close();
+        Path file = directory.resolve(String.format("%020d%s", nextFileNumber++, FILE_SUFFIX));
+        out = new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE), BUFFER_BYTES);
+        fileBytes = 0;
+    }
+
+    private static long fileNumber(String name) {
+        try {
+            return Long.parseLong(name.substring(0, name.length() - FILE_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.vishnu.quote.infrastructure.audit;
+
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.util.Locale;
+
+/**
+ * One slot of a {@link ServedQuoteRing}. Instances are allocated once with the ring and overwritten in
+ * place, so a handler must copy what it needs before returning.
+ */
+public final class ServedQuoteEvent {
+
+    private long sequence;
+    private long timestampMillis;
+    private long latencyNanos;
+    private String source;
+    private String topic;
+    private String tone;
+    private int maxLength;
+    private Locale locale;
+    private String quote;
+    private String failure;
+
+    ServedQuoteEvent() {
+    }
+
+    void set(long sequence, long timestampMillis, String source, QuoteRequest request, String quote,
+             long latencyNanos, Throwable failure) {
+        this.sequence = sequence;
+        this.timestampMillis = timestampMillis;
+        this.latencyNanos = latencyNanos;
+        this.source = source;
+        this.topic = request.topic();
+        this.tone = request.tone();
+        this.maxLength = request.maxLength();
+        this.locale = request.locale();
+        this.quote = quote;
+        this.failure = failure == null ? null : failure.getClass().getName();
+    }
+
+    void clear() {
+        topic = null;
+        tone = null;
+        locale = null;
+        quote = null;
+        failure = null;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    public long latencyNanos() {
+        return latencyNanos;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    public String tone() {
+        return tone;
+    }
+
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public Locale locale() {
+        return locale;
+    }
+
+    public String quote() {
+        return quote;
+    }
+
+    /**
+     * Class name of the exception that ended generation, or {@code null} if a quote was served.
+     */
+    public String failure() {
+        return failure;
+    }
+
+    public boolean served() {
+        return failure == null;
+    }
+}
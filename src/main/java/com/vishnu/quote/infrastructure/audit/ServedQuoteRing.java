@@ -0,0 +1,197 @@
+package com.vishnu.quote.infrastructure.audit;
+
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.domain.ServedQuoteListener;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands served-quote events from serving threads to one background consumer without locks or allocation.
+ * Event objects are preallocated, one per slot. A producer claims a sequence number with a CAS on the
+ * claim cursor, fills the slot it now owns exclusively, and publishes it by writing the sequence number
+ * into the slot's availability entry. The consumer walks the sequence in order and passes each contiguous
+ * run of published slots to the {@link Handler} as one batch. Then it releases those slots by advancing
+ * its cursor.
+ *
+ * <p>When every slot is taken the {@link OverflowPolicy} decides: {@code DROP} discards the event and
+ * counts it, and {@code BLOCK} parks the producer until the consumer frees a slot.
+ */
+public final class ServedQuoteRing implements ServedQuoteListener, AutoCloseable {
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    /**
+     * Consumes events on the ring's consumer thread. {@code endOfBatch} marks the last event currently
+     * available, which is the moment to flush.
+     */
+    public interface Handler extends AutoCloseable {
+
+        void onEvent(ServedQuoteEvent event, boolean endOfBatch) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    private static final long IDLE_PARK_NANOS = 200_000;
+    private static final long FULL_PARK_NANOS = 50_000;
+
+    private final ServedQuoteEvent[] events;
+    private final AtomicLongArray available;
+    private final int mask;
+    private final OverflowPolicy policy;
+    private final String source;
+    private final Handler handler;
+    private final int maxBatch;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder handlerFailures = new LongAdder();
+    private final Thread consumer;
+    private volatile boolean running = true;
+
+    private ServedQuoteRing(int capacity, OverflowPolicy policy, String source, Handler handler, int maxBatch) {
+        this.events = new ServedQuoteEvent[capacity];
+        this.available = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            events[i] = new ServedQuoteEvent();
+            available.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.policy = policy;
+        this.source = source;
+        this.handler = handler;
+        this.maxBatch = maxBatch;
+        this.consumer = Thread.ofPlatform().daemon().name("served-quote-ring").unstarted(this::consumeLoop);
+    }
+
+    /**
+     * @param capacity a power of two
+     * @param source   recorded on every event, naming the entry point that served the quote (e.g. "http")
+     */
+    public static ServedQuoteRing start(
+            int capacity, OverflowPolicy policy, String source, Handler handler, int maxBatch) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two");
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be > 0");
+        }
+        ServedQuoteRing ring = new ServedQuoteRing(capacity,
+                Objects.requireNonNull(policy, "policy"),
+                Objects.requireNonNull(source, "source"),
+                Objects.requireNonNull(handler, "handler"),
+                maxBatch);
+        ring.consumer.start();
+        return ring;
+    }
+
+    @Override
+    public void onServed(QuoteRequest request, String quote, long latencyNanos, Throwable failure) {
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return;
+        }
+        int slot = (int) sequence & mask;
+        events[slot].set(sequence, System.currentTimeMillis(), source, request, quote, latencyNanos, failure);
+        available.setRelease(slot, sequence);
+    }
+
+    /**
+     * Events handed to the handler so far.
+     */
+    public long handled() {
+        return consumed.get();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long handlerFailures() {
+        return handlerFailures.sum();
+    }
+
+    /**
+     * Stops accepting events, waits for the consumer to hand over everything already published and closes
+     * the handler. Events published while closing may be dropped.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+        boolean interrupted = false;
+        while (consumer.isAlive()) {
+            try {
+                consumer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long claim() {
+        while (running) {
+            long next = claimed.get();
+            if (next - consumed.get() >= events.length) {
+                if (policy == OverflowPolicy.DROP) {
+                    return -1;
+                }
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(next, next + 1)) {
+                return next;
+            }
+        }
+        return -1;
+    }
+
+    private void consumeLoop() {
+        long next = 0;
+        try {
+            while (true) {
+                long end = next;
+                while (end - next < maxBatch && available.getAcquire((int) end & mask) == end) {
+                    end++;
+                }
+                if (end == next) {
+                    if (!running && next == claimed.get()) {
+                        return;
+                    }
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    continue;
+                }
+                for (long sequence = next; sequence < end; sequence++) {
+                    ServedQuoteEvent event = events[(int) sequence & mask];
+                    try {
+                        handler.onEvent(event, sequence == end - 1);
+                    } catch (IOException | RuntimeException e) {
+                        handlerFailures.increment();
+                    }
+                    event.clear();
+                }
+                next = end;
+                consumed.set(next);
+            }
+        } finally {
+            try {
+                handler.close();
+            } catch (Exception e) {
+                handlerFailures.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.vishnu.quote.infrastructure.http;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.vishnu.quote.application.DeterministicQuoteSelector;
+import com.vishnu.quote.application.QuoteService;
+import com.vishnu.quote.domain.CacheableQuote;
+import com.vishnu.quote.domain.QuotePeriod;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public final class QuoteHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final QuoteService service;
+    private final DeterministicQuoteSelector selector;
+    private final Clock clock;
+
+    private QuoteHttpServer(HttpServer server, QuoteService service, DeterministicQuoteSelector selector, Clock clock) {
+        this.server = server;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.service = service;
+        this.selector = selector;
+        this.clock = clock;
+    }
+
+    public static QuoteHttpServer start(
+            InetSocketAddress address, QuoteService service, DeterministicQuoteSelector selector, Clock clock) {
+        Objects.requireNonNull(address, "address");
+        Objects.requireNonNull(service, "service");
+        Objects.requireNonNull(selector, "selector");
+        Objects.requireNonNull(clock, "clock");
+        try {
+            QuoteHttpServer quoteServer = new QuoteHttpServer(HttpServer.create(address, 0), service, selector, clock);
+            quoteServer.server.setExecutor(quoteServer.executor);
+            quoteServer.server.createContext("/quote/random", quoteServer::random);
+            quoteServer.server.createContext("/quote/stable", quoteServer::stable);
+            quoteServer.server.start();
+            return quoteServer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind quote server to " + address, e);
+        }
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void random(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+            QuoteRequest request;
+            try {
+                request = quoteRequest(query(exchange.getRequestURI().getRawQuery()));
+            } catch (NumberFormatException e) {
+                send(exchange, 400, "Invalid maxLength");
+                return;
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, e.getMessage());
+                return;
+            }
+            String quote;
+            try {
+                quote = service.motivationalQuote(request);
+            } catch (RuntimeException e) {
+                send(exchange, 503, "No quote available");
+                return;
+            }
+            exchange.getResponseHeaders().set("Cache-Control", "no-store");
+            send(exchange, 200, quote);
+        }
+    }
+
+    private void stable(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                send(exchange, 405, "Method not allowed");
+                return;
+            }
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String key = query.get("key");
+            if (key == null || key.isBlank()) {
+                send(exchange, 400, "Missing key");
+                return;
+            }
+            QuotePeriod period;
+            try {
+                period = QuotePeriod.valueOf(query.getOrDefault("period", "day").toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, "Unknown period");
+                return;
+            }
+
+            Optional<CacheableQuote> selected = selector.quoteFor(key, period);
+            if (selected.isEmpty()) {
+                send(exchange, 503, "No quote available");
+                return;
+            }
+            CacheableQuote quote = selected.get();
+            var headers = exchange.getResponseHeaders();
+            headers.set("ETag", quote.etag());
+            headers.set("Cache-Control", quote.cacheControl(clock.instant()));
+            headers.set("Expires", DateTimeFormatter.RFC_1123_DATE_TIME.format(quote.expiresAt().atOffset(ZoneOffset.UTC)));
+            if (quote.matches(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            send(exchange, 200, quote.quote());
+        }
+    }
+
+    private static QuoteRequest quoteRequest(Map<String, String> query) {
+        String maxLength = query.get("maxLength");
+        String lang = query.get("lang");
+        return new QuoteRequest(
+                query.get("topic"),
+                query.get("tone"),
+                maxLength == null ? QuoteRequest.NO_LIMIT : Integer.parseInt(maxLength),
+                lang == null ? null : Locale.forLanguageTag(lang)
+        );
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) return params;
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq <= 0) continue;
+            params.put(
+                    URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8)
+            );
+        }
+        return params;
+    }
+}
@@ -0,0 +1,55 @@
+package com.vishnu.quote.infrastructure.journal;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.util.List;
+import java.util.Objects;
+
+public final class JournalingQuoteGenerator implements QuoteGenerator {
+
+    private final QuoteGenerator delegate;
+    private final QuoteJournal journal;
+
+    public JournalingQuoteGenerator(QuoteGenerator delegate, QuoteJournal journal) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.journal = Objects.requireNonNull(journal, "journal");
+    }
+
+    @Override
+    public String generate() {
+        return journaled(delegate.generate());
+    }
+
+    @Override
+    public String generate(QuoteRequest request) {
+        return journaled(delegate.generate(request));
+    }
+
+    @Override
+    public String generate(QuoteRequest request, Deadline deadline) {
+        return journaled(delegate.generate(request, deadline));
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count) {
+        List<String> quotes = delegate.generateBatch(request, count);
+        quotes.forEach(this::journaled);
+        return quotes;
+    }
+
+    @Override
+    public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+        List<String> quotes = delegate.generateBatch(request, count, deadline);
+        quotes.forEach(this::journaled);
+        return quotes;
+    }
+
+    private String journaled(String quote) {
+        if (quote != null && !quote.isBlank()) {
+            journal.append(quote.trim());
+        }
+        return quote;
+    }
+}
@@ -0,0 +1,395 @@
+package com.vishnu.quote.infrastructure.journal;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only log of quotes split into numbered segment files. Each record is a little-endian
+ * {@code int length}, {@code int crc32c} and the UTF-8 payload. A single writer thread drains pending
+ * appends in batches and issues one {@code force} per batch (group commit).
+ *
+ * <p>On open, a torn or corrupt record at the end of the last segment is cut off, since it can only come
+ * from a crash during an append. Sealed segments were forced before the next one was created, so a bad
+ * record in one of them fails the open instead of silently dropping the quotes behind it. If the writer
+ * thread stops for any reason, pending and later appends fail.
+ */
+public final class QuoteJournal implements QuoteRepository, AutoCloseable {
+
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Append POISON = new Append(new byte[0], new CompletableFuture<>());
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final int maxBatch;
+    private final BlockingQueue<Append> pending = new LinkedBlockingQueue<>();
+    private final Thread writer;
+
+    private final List<FileChannel> segments = new ArrayList<>();
+    private long[] positions = new long[1024];
+    private int[] lengths = new int[1024];
+    private int count;
+
+    private boolean closed;
+    private Throwable writerFailure;
+    private long activeSize;
+    private long nextSegmentNumber;
+
+    private QuoteJournal(Path directory, long maxSegmentBytes, int maxBatch) {
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.maxBatch = maxBatch;
+        this.writer = Thread.ofPlatform().daemon().name("quote-journal-writer").unstarted(this::writeLoop);
+    }
+
+    public static QuoteJournal open(Path directory, long maxSegmentBytes, int maxBatch) {
+        Objects.requireNonNull(directory, "directory");
+        if (maxSegmentBytes < RECORD_HEADER_BYTES + MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("maxSegmentBytes must be >= " + (RECORD_HEADER_BYTES + MAX_RECORD_BYTES));
+        }
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be > 0");
+        }
+        QuoteJournal journal = new QuoteJournal(directory, maxSegmentBytes, maxBatch);
+        try {
+            Files.createDirectories(directory);
+            journal.replay();
+        } catch (IOException e) {
+            journal.closeSegments();
+            throw new UncheckedIOException("Cannot open quote journal: " + directory, e);
+        }
+        journal.writer.start();
+        return journal;
+    }
+
+    public CompletableFuture<Void> append(String quote) {
+        Objects.requireNonNull(quote, "quote");
+        byte[] bytes = quote.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length == 0 || bytes.length > MAX_RECORD_BYTES) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("quote must be 1.." + MAX_RECORD_BYTES + " UTF-8 bytes"));
+        }
+        Append append = new Append(bytes, new CompletableFuture<>());
+        synchronized (pending) {
+            if (closed) {
+                return CompletableFuture.failedFuture(writerFailure == null
+                        ? new IllegalStateException("journal is closed")
+                        : new IllegalStateException("journal writer stopped", writerFailure));
+            }
+            pending.add(append);
+        }
+        return append.done();
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        int n = size();
+        if (n == 0) return Optional.empty();
+        return Optional.of(quoteAt(ThreadLocalRandom.current().nextInt(n)));
+    }
+
+    @Override
+    public synchronized int size() {
+        return count;
+    }
+
+    @Override
+    public String description() {
+        return "journal:" + directory;
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        long position;
+        int length;
+        FileChannel segment;
+        synchronized (this) {
+            Objects.checkIndex(index, count);
+            position = positions[index];
+            length = lengths[index];
+            segment = segments.get((int) (position >>> 40));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        long offset = position & ((1L << 40) - 1);
+        try {
+            while (buffer.hasRemaining()) {
+                if (segment.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("unexpected end of segment");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read quote journal: " + directory, e);
+        }
+        return new String(buffer.array(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        synchronized (pending) {
+            if (!closed) {
+                closed = true;
+                pending.add(POISON);
+            }
+        }
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        closeSegments();
+    }
+
+    private void replay() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < files.size(); i++) {
+            Path file = files.get(i);
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            int segmentIndex = segments.size();
+            segments.add(channel);
+            long validEnd = scan(channel, segmentIndex);
+            if (validEnd < channel.size()) {
+                if (i < files.size() - 1) {
+                    throw new IOException("Corrupt record at byte " + validEnd + " of sealed segment " + file);
+                }
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+            activeSize = validEnd;
+            nextSegmentNumber = segmentNumber(file) + 1;
+        }
+        if (segments.isEmpty()) {
+            rollSegment();
+        }
+    }
+
+    private long scan(FileChannel channel, int segmentIndex) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long pos = 0;
+        long size = channel.size();
+        while (pos + RECORD_HEADER_BYTES <= size) {
+            header.clear();
+            channel.read(header, pos);
+            int length = header.getInt(0);
+            int crc = header.getInt(4);
+            if (length <= 0 || length > MAX_RECORD_BYTES || pos + RECORD_HEADER_BYTES + length > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(length);
+            channel.read(payload, pos + RECORD_HEADER_BYTES);
+            if (crc(payload.array()) != crc) {
+                break;
+            }
+            index(segmentIndex, pos + RECORD_HEADER_BYTES, length);
+            pos += RECORD_HEADER_BYTES + length;
+        }
+        return pos;
+    }
+
+    private void writeLoop() {
+        List<Append> batch = new ArrayList<>(maxBatch);
+        Throwable failure = null;
+        try {
+            boolean running = true;
+            while (running) {
+                try {
+                    batch.add(pending.take());
+                } catch (InterruptedException e) {
+                    failure = e;
+                    break;
+                }
+                pending.drainTo(batch, maxBatch - 1);
+                if (batch.remove(POISON)) {
+                    running = false;
+                    pending.drainTo(batch);
+                    batch.remove(POISON);
+                }
+                if (!batch.isEmpty()) {
+                    commit(batch);
+                }
+                batch.clear();
+            }
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            stopAccepting(batch, failure);
+        }
+    }
+
+    /**
+     * Refuses further appends and fails every append the writer will no longer get to.
+     */
+    private void stopAccepting(List<Append> batch, Throwable failure) {
+        synchronized (pending) {
+            closed = true;
+            if (writerFailure == null) {
+                writerFailure = failure;
+            }
+            pending.drainTo(batch);
+        }
+        if (!batch.isEmpty()) {
+            IllegalStateException stopped = new IllegalStateException("journal writer stopped", failure);
+            batch.forEach(a -> a.done().completeExceptionally(stopped));
+        }
+    }
+
+    /**
+     * Writes the batch one segment at a time. Records are indexed and their appends completed as soon as the
+     * segment holding them is forced, so a failure part way only fails the appends that were not yet
+     * durable, and the active segment is cut back to its last forced length.
+     */
+    private void commit(List<Append> batch) {
+        ByteBuffer buffer = ByteBuffer.allocate(batchBytes(batch)).order(ByteOrder.LITTLE_ENDIAN);
+        long[] recordPositions = new long[batch.size()];
+        int first = 0;
+        FileChannel active = null;
+        try {
+            active = activeSegment();
+            long written = activeSize;
+            for (int i = 0; i < batch.size(); i++) {
+                byte[] bytes = batch.get(i).bytes();
+                if (written + RECORD_HEADER_BYTES + bytes.length > maxSegmentBytes) {
+                    flush(active, buffer, batch, recordPositions, first, i, written);
+                    first = i;
+                    active = rollSegment();
+                    written = 0;
+                }
+                buffer.putInt(bytes.length).putInt(crc(bytes)).put(bytes);
+                recordPositions[i] = written + RECORD_HEADER_BYTES;
+                written += RECORD_HEADER_BYTES + bytes.length;
+            }
+            flush(active, buffer, batch, recordPositions, first, batch.size(), written);
+        } catch (IOException | RuntimeException e) {
+            if (active != null) {
+                try {
+                    active.truncate(activeSize);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            for (int i = first; i < batch.size(); i++) {
+                batch.get(i).done().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * Writes and forces the buffered records {@code from..to} of {@code batch} to the active segment, then
+     * indexes them and completes their appends.
+     */
+    private void flush(FileChannel active, ByteBuffer buffer, List<Append> batch, long[] recordPositions,
+                       int from, int to, long written) throws IOException {
+        if (from == to) {
+            return;
+        }
+        write(active, buffer, activeSize);
+        active.force(false);
+        activeSize = written;
+        int segmentIndex = segments.size() - 1;
+        synchronized (this) {
+            for (int i = from; i < to; i++) {
+                index(segmentIndex, recordPositions[i], batch.get(i).bytes().length);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            batch.get(i).done().complete(null);
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.flip();
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+        buffer.clear();
+    }
+
+    private FileChannel activeSegment() {
+        synchronized (this) {
+            return segments.get(segments.size() - 1);
+        }
+    }
+
+    private FileChannel rollSegment() throws IOException {
+        Path file = directory.resolve(String.format("%020d%s", nextSegmentNumber++, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        synchronized (this) {
+            segments.add(channel);
+        }
+        activeSize = 0;
+        return channel;
+    }
+
+    private void index(int segment, long payloadPosition, int length) {
+        if (count == positions.length) {
+            positions = Arrays.copyOf(positions, count * 2);
+            lengths = Arrays.copyOf(lengths, count * 2);
+        }
+        positions[count] = ((long) segment << 40) | payloadPosition;
+        lengths[count] = length;
+        count++;
+    }
+
+    private synchronized void closeSegments() {
+        for (FileChannel channel : segments) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static long segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static int batchBytes(List<Append> batch) {
+        int total = 0;
+        for (Append append : batch) {
+            total += RECORD_HEADER_BYTES + append.bytes().length;
+        }
+        return total;
+    }
+
+    private static int crc(byte[] bytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bytes.length);
+        return (int) crc.getValue();
+    }
+
+    private record Append(byte[] bytes, CompletableFuture<Void> done) {
+    }
+}
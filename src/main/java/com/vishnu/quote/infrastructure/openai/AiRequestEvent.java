@@ -0,0 +1,55 @@
+package com.vishnu.quote.infrastructure.openai;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One call to the Responses API, timed from sending the request to the last byte read. Token counts are
+ * estimated when the response carried no usage block, which is the case for a stream stopped early.
+ */
+@Name("com.vishnu.quote.AiRequest")
+@Label("AI Request")
+@Category({"Motivational Quotes", "AI"})
+@Description("A call to the OpenAI Responses API")
+@StackTrace(false)
+final class AiRequestEvent extends Event {
+
+    static final String COMPLETED = "completed";
+    static final String ABORTED = "aborted";
+    static final String DEADLINE = "deadline";
+    static final String INTERRUPTED = "interrupted";
+    static final String FAILED = "failed";
+
+    private static final EventType TYPE = EventType.getEventType(AiRequestEvent.class);
+
+    @Label("Model")
+    String model;
+
+    @Label("Streamed")
+    boolean streamed;
+
+    @Label("Outcome")
+    @Description("completed, aborted (stream stopped by the caller), deadline, interrupted or failed")
+    String outcome = FAILED;
+
+    @Label("Input Tokens")
+    long inputTokens;
+
+    @Label("Output Tokens")
+    long outputTokens;
+
+    @Label("Tokens Estimated")
+    boolean tokensEstimated;
+
+    /**
+     * Whether a running recording takes this event; when not, the client skips the event entirely.
+     */
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
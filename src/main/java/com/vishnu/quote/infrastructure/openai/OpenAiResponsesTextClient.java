@@ -1,20 +1,48 @@
 package com.vishnu.quote.infrastructure.openai;
 
 import com.openai.client.OpenAIClient;
+import com.openai.core.ClientOptions;
+import com.openai.core.RequestOptions;
+import com.openai.core.http.StreamResponse;
 import com.openai.models.ChatModel;
 import com.openai.models.responses.*;
 import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.DeadlineExceededException;
+import com.vishnu.quote.domain.TextStreamListener;
+import com.vishnu.quote.domain.TokenUsageListener;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 
 public final class OpenAiResponsesTextClient implements AiTextClient {
+    private static final Consumer<ClientOptions.Builder> NO_RETRIES = options -> options.maxRetries(0);
+
     private final OpenAIClient client;
     private final ChatModel model;
     private final double temperature;
     private final int maxOutputTokens;
+    private final TokenUsageListener usageListener;
 
     public OpenAiResponsesTextClient(OpenAIClient client, ChatModel model, double temperature, int maxOutputTokens) {
+        this(client, model, temperature, maxOutputTokens, TokenUsageListener.NONE);
+    }
+
+    /**
+     * Reports the tokens of every call to {@code usageListener}. The counts come from the response's usage
+     * block. A stream that is stopped early never receives that block, so its usage is estimated at about
+     * four characters per token.
+     */
+    public OpenAiResponsesTextClient(OpenAIClient client, ChatModel model, double temperature, int maxOutputTokens,
+                                     TokenUsageListener usageListener) {
         this.client = Objects.requireNonNull(client);
         this.model = Objects.requireNonNull(model);
         if (temperature < 0.0 || temperature > 2.0) {
@@ -25,23 +53,219 @@ public final class OpenAiResponsesTextClient implements AiTextClient {
         }
         this.temperature = temperature;
         this.maxOutputTokens = maxOutputTokens;
+        this.usageListener = Objects.requireNonNull(usageListener, "usageListener");
     }
 
     @Override
     public String generateText(String prompt) {
         Objects.requireNonNull(prompt);
+        return blocking(prompt, maxOutputTokens, false);
+    }
+
+    /**
+     * Sends the request on the async client with retries off and the remaining budget as the request
+     * timeout. The SDK applies that timeout per attempt, so a single attempt is what keeps the whole call
+     * inside the deadline; when it fires, the HTTP client aborts the connection. Cancelling the returned
+     * future does not reach the HTTP call, so an interrupt only stops the wait, and the call runs until
+     * the timeout.
+     */
+    @Override
+    public String generateText(String prompt, Deadline deadline) {
+        Objects.requireNonNull(prompt);
+        Objects.requireNonNull(deadline, "deadline");
+        if (deadline.isUnbounded()) {
+            return generateText(prompt);
+        }
+        deadline.throwIfExpired("OpenAI request");
+        return bounded(prompt, maxOutputTokens, false, deadline);
+    }
+
+    /**
+     * Allows {@code maxOutputTokens} per line, and cuts the text back to its last line break when the
+     * response stopped at that limit.
+     */
+    @Override
+    public String generateLines(String prompt, int lines, Deadline deadline) {
+        Objects.requireNonNull(prompt);
+        Objects.requireNonNull(deadline, "deadline");
+        if (lines <= 0) {
+            throw new IllegalArgumentException("lines must be > 0");
+        }
+        int tokens = (int) Math.min(Integer.MAX_VALUE, (long) maxOutputTokens * lines);
+        if (deadline.isUnbounded()) {
+            return blocking(prompt, tokens, true);
+        }
+        deadline.throwIfExpired("OpenAI request");
+        return bounded(prompt, tokens, true, deadline);
+    }
 
-        ResponseCreateParams params = ResponseCreateParams.builder()
+    private String blocking(String prompt, int tokens, boolean wholeLines) {
+        AiRequestEvent event = beginEvent();
+        String outcome = AiRequestEvent.FAILED;
+        try {
+            Response response = client.responses().create(params(prompt, tokens));
+            String text = text(response, wholeLines);
+            record(prompt, response, text, event);
+            outcome = AiRequestEvent.COMPLETED;
+            return text;
+        } finally {
+            commit(event, outcome, false);
+        }
+    }
+
+    private String bounded(String prompt, int tokens, boolean wholeLines, Deadline deadline) {
+        Duration remaining = deadline.remaining();
+        RequestOptions options = RequestOptions.builder().timeout(remaining).build();
+        AiRequestEvent event = beginEvent();
+        String outcome = AiRequestEvent.FAILED;
+        CompletableFuture<Response> call = client.withOptions(NO_RETRIES).async().responses()
+                .create(params(prompt, tokens), options);
+        try {
+            Response response = call.get(remaining.toNanos(), TimeUnit.NANOSECONDS);
+            String text = text(response, wholeLines);
+            record(prompt, response, text, event);
+            outcome = AiRequestEvent.COMPLETED;
+            return text;
+        } catch (TimeoutException e) {
+            call.cancel(true);
+            // The prompt was sent and may be billed whatever happens to the reply, so the budget sees it.
+            record(prompt, null, "", event);
+            outcome = AiRequestEvent.DEADLINE;
+            throw new DeadlineExceededException("OpenAI request deadline exceeded after " + remaining, e);
+        } catch (InterruptedException e) {
+            call.cancel(true);
+            outcome = AiRequestEvent.INTERRUPTED;
+            Thread.currentThread().interrupt();
+            throw new CancellationException("OpenAI request interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("OpenAI request failed", e.getCause());
+        } finally {
+            commit(event, outcome, false);
+        }
+    }
+
+    /**
+     * Streams output deltas to {@code listener}. When the listener returns {@code false} the stream is
+     * closed, which aborts the HTTP response so no further tokens are generated for us. A bounded deadline
+     * becomes the request timeout of a single attempt, as in {@link #generateText(String, Deadline)}.
+     */
+    @Override
+    public String generateText(String prompt, Deadline deadline, TextStreamListener listener) {
+        Objects.requireNonNull(prompt);
+        Objects.requireNonNull(deadline, "deadline");
+        Objects.requireNonNull(listener, "listener");
+        deadline.throwIfExpired("OpenAI request");
+
+        OpenAIClient attempt = deadline.isUnbounded() ? client : client.withOptions(NO_RETRIES);
+        RequestOptions options = deadline.isUnbounded()
+                ? RequestOptions.none()
+                : RequestOptions.builder().timeout(deadline.remaining()).build();
+        StringBuilder text = new StringBuilder();
+        Response completed = null;
+        AiRequestEvent request = beginEvent();
+        String outcome = AiRequestEvent.FAILED;
+        try (StreamResponse<ResponseStreamEvent> stream = attempt.responses().createStreaming(params(prompt, maxOutputTokens), options)) {
+            Iterator<ResponseStreamEvent> events = stream.stream().iterator();
+            outcome = AiRequestEvent.COMPLETED;
+            while (events.hasNext()) {
+                ResponseStreamEvent event = events.next();
+                Optional<ResponseTextDeltaEvent> delta = event.outputTextDelta();
+                if (delta.isEmpty()) {
+                    Optional<ResponseCompletedEvent> done = event.completed();
+                    if (done.isPresent()) {
+                        completed = done.get().response();
+                    }
+                    continue;
+                }
+                text.append(delta.get().delta());
+                if (!listener.onText(text)) {
+                    outcome = AiRequestEvent.ABORTED;
+                    break;
+                }
+                deadline.throwIfExpired("OpenAI stream");
+            }
+        } catch (DeadlineExceededException e) {
+            outcome = AiRequestEvent.DEADLINE;
+            throw e;
+        } catch (RuntimeException | Error e) {
+            outcome = AiRequestEvent.FAILED;
+            throw e;
+        } finally {
+            record(prompt, completed, text, request);
+            commit(request, outcome, true);
+        }
+        return text.toString().trim();
+    }
+
+    private ResponseCreateParams params(String prompt, int tokens) {
+        return ResponseCreateParams.builder()
                 .model(model)
                 .input(prompt)
                 .temperature(temperature)
-                .maxOutputTokens(maxOutputTokens)
+                .maxOutputTokens(tokens)
                 .build();
+    }
+
+    /**
+     * Reports token usage to the listener and, if a recording is running, to {@code event}.
+     */
+    private void record(String prompt, Response response, CharSequence text, AiRequestEvent event) {
+        Optional<ResponseUsage> usage = response == null ? Optional.empty() : response.usage();
+        long inputTokens = usage.isPresent() ? usage.get().inputTokens() : estimateTokens(prompt);
+        long outputTokens = usage.isPresent() ? usage.get().outputTokens() : estimateTokens(text);
+        usageListener.onUsage(model.asString(), inputTokens, outputTokens);
+        if (event != null) {
+            event.tokensEstimated = usage.isEmpty();
+            event.inputTokens = inputTokens;
+            event.outputTokens = outputTokens;
+        }
+    }
+
+    /**
+     * A begun event, or {@code null} when no recording takes AI request events.
+     */
+    private static AiRequestEvent beginEvent() {
+        if (!AiRequestEvent.enabled()) {
+            return null;
+        }
+        AiRequestEvent event = new AiRequestEvent();
+        event.begin();
+        return event;
+    }
+
+    private void commit(AiRequestEvent event, String outcome, boolean streamed) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.model = model.asString();
+            event.streamed = streamed;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static long estimateTokens(CharSequence text) {
+        return (text.length() + 3) / 4;
+    }
+
+    private String text(Response response, boolean wholeLines) {
+        String text = extractFirstOutputText(response).orElse("");
+        if (wholeLines && hitTokenLimit(response)) {
+            text = text.substring(0, Math.max(0, text.lastIndexOf('\n')));
+        }
+        return text.trim();
+    }
 
-        Response response = client.responses().create(params);
-        return extractFirstOutputText(response)
-                .map(String::trim)
-                .orElse("");
+    private static boolean hitTokenLimit(Response response) {
+        return response.incompleteDetails()
+                .flatMap(Response.IncompleteDetails::reason)
+                .filter(Response.IncompleteDetails.Reason.MAX_OUTPUT_TOKENS::equals)
+                .isPresent();
     }
 
     private Optional<String> extractFirstOutputText(Response response) {
@@ -0,0 +1,40 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteDeduplicator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+public final class BinaryCorpusCompiler {
+
+    private BinaryCorpusCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: BinaryCorpusCompiler <quotes.txt> <quotes.bin>");
+        }
+        compile(Path.of(args[0]), Path.of(args[1]));
+    }
+
+    public static void compile(Path source, Path target) throws IOException {
+        List<String> quotes;
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            quotes = QuoteDeduplicator.exact().distinct(QuoteText.parse(reader));
+        }
+        Path absolute = target.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+        Path tmp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            Files.write(tmp, BinaryCorpusFormat.encode(quotes));
+            Files.move(tmp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+/**
+ * Layout (little-endian): magic "MQCB", u16 version, u16 flags, u32 count, u32 blob length,
+ * u32 CRC32C of everything after the header, {@code count + 1} u32 offsets, UTF-8 blob.
+ */
+final class BinaryCorpusFormat {
+
+    static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4243514D;
+    private static final int HEADER_BYTES = 20;
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private BinaryCorpusFormat() {
+    }
+
+    static byte[] encode(List<String> quotes) {
+        Objects.requireNonNull(quotes, "quotes");
+        byte[][] encoded = new byte[quotes.size()][];
+        long blobLength = 0;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = quotes.get(i).getBytes(StandardCharsets.UTF_8);
+            blobLength += encoded[i].length;
+        }
+        int offsetsStart = HEADER_BYTES;
+        long blobStart = offsetsStart + (encoded.length + 1L) * 4;
+        if (blobStart + blobLength > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("corpus too large for format version " + VERSION);
+        }
+
+        byte[] out = new byte[(int) (blobStart + blobLength)];
+        INT.set(out, 0, MAGIC);
+        SHORT.set(out, 4, (short) VERSION);
+        SHORT.set(out, 6, (short) 0);
+        INT.set(out, 8, encoded.length);
+        INT.set(out, 12, (int) blobLength);
+
+        int offset = 0;
+        int pos = (int) blobStart;
+        for (int i = 0; i < encoded.length; i++) {
+            INT.set(out, offsetsStart + i * 4, offset);
+            System.arraycopy(encoded[i], 0, out, pos, encoded[i].length);
+            offset += encoded[i].length;
+            pos += encoded[i].length;
+        }
+        INT.set(out, offsetsStart + encoded.length * 4, offset);
+        INT.set(out, 16, checksum(out));
+        return out;
+    }
+
+    static PackedQuoteStore decode(byte[] data) {
+        Objects.requireNonNull(data, "data");
+        if (data.length < HEADER_BYTES || (int) INT.get(data, 0) != MAGIC) {
+            throw new IllegalStateException("not a binary quote corpus");
+        }
+        int version = Short.toUnsignedInt((short) SHORT.get(data, 4));
+        if (version != VERSION) {
+            throw new IllegalStateException("unsupported binary quote corpus version: " + version);
+        }
+        int count = (int) INT.get(data, 8);
+        int blobLength = (int) INT.get(data, 12);
+        long blobStart = HEADER_BYTES + (count + 1L) * 4;
+        if (count < 0 || blobLength < 0 || blobStart + blobLength != data.length) {
+            throw new IllegalStateException("truncated binary quote corpus");
+        }
+        if ((int) INT.get(data, 16) != checksum(data)) {
+            throw new IllegalStateException("binary quote corpus checksum mismatch");
+        }
+        return new PackedQuoteStore(data, count, HEADER_BYTES, (int) blobStart);
+    }
+
+    private static int checksum(byte[] data) {
+        CRC32C crc = new CRC32C();
+        crc.update(data, HEADER_BYTES, data.length - HEADER_BYTES);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,121 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Serves the compiled {@code quotes.bin} corpus. The packed bytes are read in one go and each quote is
+ * decoded on first use and the {@link String} kept, so repeated picks of the same quote do not allocate.
+ * Only quotes that are actually served are held twice, packed and decoded; a process that serves the
+ * whole corpus pays for both, in exchange for a start-up that does no per-quote work.
+ *
+ * <p>If the binary resource is missing or fails its header or checksum check, for example on a classpath
+ * built without the compile step, the text source it was compiled from is parsed instead and a warning is
+ * logged.
+ */
+public final class BinaryCorpusQuoteRepository implements QuoteRepository {
+
+    private static final System.Logger LOG = System.getLogger(BinaryCorpusQuoteRepository.class.getName());
+
+    private final String resourceName;
+    private final String textResourceName;
+    private volatile Corpus cached;
+
+    /**
+     * Without a text source to fall back to, a missing or damaged binary corpus is served as empty.
+     */
+    public BinaryCorpusQuoteRepository(String resourceName) {
+        this.resourceName = ClasspathQuoteRepository.validateResourceName(resourceName);
+        this.textResourceName = null;
+    }
+
+    public BinaryCorpusQuoteRepository(String resourceName, String textResourceName) {
+        this.resourceName = ClasspathQuoteRepository.validateResourceName(resourceName);
+        this.textResourceName = ClasspathQuoteRepository.validateResourceName(textResourceName);
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        int index = randomIndex();
+        return index < 0 ? Optional.empty() : Optional.of(quoteAt(index));
+    }
+
+    @Override
+    public String randomQuoteOrNull() {
+        int index = randomIndex();
+        return index < 0 ? null : quoteAt(index);
+    }
+
+    @Override
+    public int randomIndex() {
+        int n = corpus().store.size();
+        return n == 0 ? -1 : ThreadLocalRandom.current().nextInt(n);
+    }
+
+    @Override
+    public int size() {
+        return corpus().store.size();
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        Corpus corpus = corpus();
+        Objects.checkIndex(index, corpus.store.size());
+        String quote = corpus.decoded[index];
+        if (quote == null) {
+            // Racing threads may both decode; either String is fine to keep.
+            quote = corpus.store.quoteAt(index);
+            corpus.decoded[index] = quote;
+        }
+        return quote;
+    }
+
+    @Override
+    public String description() {
+        return "classpath-binary:" + resourceName;
+    }
+
+    private Corpus corpus() {
+        Corpus corpus = cached;
+        if (corpus == null) {
+            synchronized (this) {
+                corpus = cached;
+                if (corpus == null) {
+                    PackedQuoteStore store = load(resourceName, textResourceName);
+                    corpus = new Corpus(store, new String[store.size()]);
+                    cached = corpus;
+                }
+            }
+        }
+        return corpus;
+    }
+
+    private record Corpus(PackedQuoteStore store, String[] decoded) {
+    }
+
+    private static PackedQuoteStore load(String resourceName, String textResourceName) {
+        String problem;
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        try (var in = cl.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                problem = "missing";
+            } else {
+                return BinaryCorpusFormat.decode(in.readAllBytes());
+            }
+        } catch (IOException | IllegalStateException e) {
+            problem = "unreadable (" + e.getMessage() + ")";
+        }
+        if (textResourceName == null) {
+            LOG.log(System.Logger.Level.WARNING, "Binary quote corpus {0} is {1}; serving no quotes",
+                    resourceName, problem);
+            return PackedQuoteStore.EMPTY;
+        }
+        LOG.log(System.Logger.Level.WARNING, "Binary quote corpus {0} is {1}; parsing {2} instead",
+                resourceName, problem, textResourceName);
+        return PackedQuoteStore.pack(ClasspathQuoteRepository.load(textResourceName));
+    }
+}
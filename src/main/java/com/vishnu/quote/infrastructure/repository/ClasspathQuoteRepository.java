@@ -1,5 +1,6 @@
 package com.vishnu.quote.infrastructure.repository;
 
+import com.vishnu.quote.domain.QuoteDeduplicator;
 import com.vishnu.quote.domain.QuoteRepository;
 
 import java.io.BufferedReader;
@@ -28,19 +29,42 @@ public final class ClasspathQuoteRepository implements QuoteRepository {
         return Optional.of(quotes.get(idx));
     }
 
+    @Override
+    public String randomQuoteOrNull() {
+        List<String> quotes = quotes();
+        return quotes.isEmpty() ? null : quotes.get(ThreadLocalRandom.current().nextInt(quotes.size()));
+    }
+
+    @Override
+    public int size() {
+        return quotes().size();
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        return quotes().get(index);
+    }
+
     @Override
     public String description() {
         return "classpath:" + resourceName;
     }
 
-    private synchronized List<String> quotes() {
+    synchronized List<String> quotes() {
         if (cached == null) {
             cached = load(resourceName);
         }
         return cached;
     }
 
-    private static String validateResourceName(String resourceName) {
+    public void reload() {
+        List<String> fresh = load(resourceName);
+        synchronized (this) {
+            cached = fresh;
+        }
+    }
+
+    static String validateResourceName(String resourceName) {
         Objects.requireNonNull(resourceName, "resourceName");
         String name = resourceName.trim();
         if (name.isEmpty()) {
@@ -52,21 +76,44 @@ public final class ClasspathQuoteRepository implements QuoteRepository {
         return name;
     }
 
-    private static List<String> load(String resourceName) {
+    /**
+     * Reads a corpus, keeping the first of any quotes that are equal after {@link QuoteDeduplicator}
+     * normalization.
+     */
+    static List<String> load(String resourceName) {
+        CorpusLoadEvent event = CorpusLoadEvent.enabled() ? new CorpusLoadEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        List<String> quotes = List.of();
+        int duplicates = 0;
+        String outcome;
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         try (var in = cl.getResourceAsStream(resourceName)) {
             if (in == null) {
-                return List.of();
-            }
-            try (var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-                return reader.lines()
-                        .map(String::trim)
-                        .filter(s -> !s.isEmpty())
-                        .filter(s -> !s.startsWith("#"))
-                        .toList();
+                outcome = CorpusLoadEvent.MISSING;
+            } else {
+                try (var reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                    List<String> parsed = QuoteText.parse(reader);
+                    quotes = QuoteDeduplicator.exact().distinct(parsed);
+                    duplicates = parsed.size() - quotes.size();
+                    outcome = CorpusLoadEvent.LOADED;
+                }
             }
         } catch (IOException e) {
-            return List.of();
+            quotes = List.of();
+            outcome = CorpusLoadEvent.FAILED;
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.resource = resourceName;
+                event.outcome = outcome;
+                event.quotes = quotes.size();
+                event.duplicates = duplicates;
+                event.commit();
+            }
         }
+        return quotes;
     }
 }
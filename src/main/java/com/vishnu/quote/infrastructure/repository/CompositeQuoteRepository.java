@@ -0,0 +1,190 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Samples across several repositories through a table of cumulative weights and sizes. The table is built
+ * on first use and rebuilt whenever a child reports a different size, so a child that grows (a journal
+ * taking appends) or reloads joins the sampling without anyone calling {@link #refresh()}.
+ */
+public final class CompositeQuoteRepository implements QuoteRepository {
+
+    public record Source(QuoteRepository repository, double weight) {
+        public Source {
+            Objects.requireNonNull(repository, "repository");
+            if (!(weight > 0.0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weight must be a positive finite number");
+            }
+        }
+    }
+
+    private final List<Source> sources;
+    private final boolean sizeWeighted;
+    private volatile Table table;
+
+    private CompositeQuoteRepository(List<Source> sources, boolean sizeWeighted) {
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("sources must not be empty");
+        }
+        this.sources = sources;
+        this.sizeWeighted = sizeWeighted;
+    }
+
+    public static CompositeQuoteRepository uniform(List<? extends QuoteRepository> repositories) {
+        Objects.requireNonNull(repositories, "repositories");
+        return new CompositeQuoteRepository(
+                repositories.stream().map(r -> new Source(r, 1.0)).toList(),
+                true
+        );
+    }
+
+    public static CompositeQuoteRepository weighted(List<Source> sources) {
+        Objects.requireNonNull(sources, "sources");
+        return new CompositeQuoteRepository(List.copyOf(sources), false);
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        Table t = table();
+        if (t.totalWeight <= 0.0) return Optional.empty();
+        double r = ThreadLocalRandom.current().nextDouble(t.totalWeight);
+        return sources.get(t.sourceAt(r)).repository().randomQuote();
+    }
+
+    /**
+     * Picks a source from one table and lets that child pick within its own current contents, so neither
+     * a table rebuild nor a child reload between the two steps can produce an out-of-range index.
+     */
+    @Override
+    public String randomQuoteOrNull() {
+        Table t = table();
+        if (t.totalWeight <= 0.0) return null;
+        double r = ThreadLocalRandom.current().nextDouble(t.totalWeight);
+        return sources.get(t.sourceAt(r)).repository().randomQuoteOrNull();
+    }
+
+    /**
+     * Picks a source with the same weighting as {@link #randomQuote()}, then a quote within the part of the
+     * combined index space that source had when the table was built.
+     */
+    @Override
+    public int randomIndex() {
+        Table t = table();
+        if (t.totalWeight <= 0.0) return -1;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int source = t.sourceAt(random.nextDouble(t.totalWeight));
+        long start = source == 0 ? 0 : t.sizePrefix()[source - 1];
+        long index = start + random.nextLong(t.sizePrefix()[source] - start);
+        return index < Integer.MAX_VALUE ? (int) index : -1;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(Integer.MAX_VALUE, table().totalSize);
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        Table t = table();
+        Objects.checkIndex(index, (int) Math.min(Integer.MAX_VALUE, t.totalSize()));
+        int source = t.sourceContaining(index);
+        long start = source == 0 ? 0 : t.sizePrefix()[source - 1];
+        return sources.get(source).repository().quoteAt((int) (index - start));
+    }
+
+    @Override
+    public String description() {
+        return sources.stream()
+                .map(s -> s.repository().description())
+                .collect(Collectors.joining(", ", "composite:[", "]"));
+    }
+
+    public void refresh() {
+        table = null;
+    }
+
+    public CompletableFuture<Void> preload(Executor executor) {
+        Objects.requireNonNull(executor, "executor");
+        CompletableFuture<?>[] loads = sources.stream()
+                .map(s -> CompletableFuture.runAsync(() -> s.repository().size(), executor))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(loads).thenRun(this::refresh);
+    }
+
+    private Table table() {
+        Table t = table;
+        if (t == null || t.staleFor(sources)) {
+            t = buildTable();
+            table = t;
+        }
+        return t;
+    }
+
+    private Table buildTable() {
+        double[] cumulative = new double[sources.size()];
+        long[] sizePrefix = new long[sources.size()];
+        double total = 0.0;
+        long totalSize = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            Source source = sources.get(i);
+            int size = source.repository().size();
+            totalSize += size;
+            if (size > 0) {
+                total += sizeWeighted ? size : source.weight();
+            }
+            cumulative[i] = total;
+            sizePrefix[i] = totalSize;
+        }
+        return new Table(cumulative, sizePrefix, total, totalSize);
+    }
+
+    private record Table(double[] cumulative, long[] sizePrefix, double totalWeight, long totalSize) {
+
+        int sourceContaining(long index) {
+            int lo = 0;
+            int hi = sizePrefix.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sizePrefix[mid] > index) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        int sourceAt(double r) {
+            int lo = 0;
+            int hi = cumulative.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (cumulative[mid] > r) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+
+        boolean staleFor(List<Source> sources) {
+            long start = 0;
+            for (int i = 0; i < sizePrefix.length; i++) {
+                if (sources.get(i).repository().size() != sizePrefix[i] - start) {
+                    return true;
+                }
+                start = sizePrefix[i];
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class CompressedQuoteRepository implements QuoteRepository {
+
+    private final String source;
+    private final SymbolTable symbols;
+    private final byte[] compressed;
+    private final int[] offsets;
+    private final long rawBytes;
+
+    public CompressedQuoteRepository(String source, List<String> quotes) {
+        this.source = Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(quotes, "quotes");
+
+        List<byte[]> utf8 = new ArrayList<>(quotes.size());
+        long raw = 0;
+        int maxLength = 0;
+        for (String quote : quotes) {
+            byte[] bytes = quote.getBytes(StandardCharsets.UTF_8);
+            utf8.add(bytes);
+            raw += bytes.length;
+            maxLength = Math.max(maxLength, bytes.length);
+        }
+        this.symbols = SymbolTable.train(utf8);
+
+        int[] offsets = new int[utf8.size() + 1];
+        byte[] out = new byte[Math.max(16, maxLength * 2)];
+        int pos = 0;
+        for (int i = 0; i < utf8.size(); i++) {
+            byte[] bytes = utf8.get(i);
+            if (out.length - pos < bytes.length * 2) {
+                out = Arrays.copyOf(out, Math.max(out.length * 2, pos + bytes.length * 2));
+            }
+            offsets[i] = pos;
+            pos = symbols.encode(bytes, out, pos);
+        }
+        offsets[utf8.size()] = pos;
+
+        this.compressed = Arrays.copyOf(out, pos);
+        this.offsets = offsets;
+        this.rawBytes = raw;
+    }
+
+    public static CompressedQuoteRepository fromClasspath(String resourceName) {
+        ClasspathQuoteRepository classpath = new ClasspathQuoteRepository(resourceName);
+        return new CompressedQuoteRepository(classpath.description(), classpath.quotes());
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        if (size() == 0) return Optional.empty();
+        return Optional.of(quoteAt(ThreadLocalRandom.current().nextInt(size())));
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public String description() {
+        return "compressed:" + source;
+    }
+
+    public double compressionRatio() {
+        long compressedBytes = compressed.length + offsets.length * 4L + symbols.sizeInBytes();
+        return compressedBytes == 0 ? 1.0 : (double) (rawBytes + offsets.length * 4L) / compressedBytes;
+    }
+
+    /**
+     * Decodes into a buffer sized exactly for this quote. A per-thread buffer would be recreated for every
+     * virtual thread and never reused, and the sizing pass over the codes is cheaper than the decode itself.
+     */
+    @Override
+    public String quoteAt(int index) {
+        Objects.checkIndex(index, size());
+        int from = offsets[index];
+        int to = offsets[index + 1];
+        byte[] buffer = new byte[symbols.decodedLength(compressed, from, to)];
+        symbols.decode(compressed, from, to, buffer);
+        return new String(buffer, StandardCharsets.UTF_8);
+    }
+}
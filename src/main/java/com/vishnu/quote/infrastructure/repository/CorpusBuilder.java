@@ -0,0 +1,334 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteDeduplicator;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Grows a {@code quotes.txt} corpus offline from an AI-backed generator. Requests run on virtual threads,
+ * at most {@link Policy#concurrency()} at a time and started no faster than
+ * {@link Policy#requestsPerSecond()}. Each quote is checked against every quote already in the file and
+ * appended through a buffered writer only if it is new.
+ *
+ * <p>Every {@link Policy#checkpointEvery()} quotes the file is forced to disk and its length is saved to a
+ * {@code .checkpoint} file next to it. A run that is stopped or killed resumes from there: the file is cut
+ * back to the checkpointed length, its quotes are read back in, and generation continues until the file
+ * holds the target number of quotes. Quotes written after the last checkpoint are lost on a crash. The
+ * checkpoint is removed once the target is reached.
+ */
+public final class CorpusBuilder {
+
+    /**
+     * @param maxRequests requests one run may start before it stops, so a generator that keeps repeating
+     *                    itself cannot run forever
+     */
+    public record Policy(int concurrency, double requestsPerSecond, Duration requestTimeout, int checkpointEvery,
+                         long maxRequests) {
+        public Policy {
+            if (concurrency <= 0) {
+                throw new IllegalArgumentException("concurrency must be > 0");
+            }
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("requestsPerSecond must be > 0");
+            }
+            Objects.requireNonNull(requestTimeout, "requestTimeout");
+            if (requestTimeout.isZero() || requestTimeout.isNegative()) {
+                throw new IllegalArgumentException("requestTimeout must be > 0");
+            }
+            if (checkpointEvery <= 0) {
+                throw new IllegalArgumentException("checkpointEvery must be > 0");
+            }
+            if (maxRequests <= 0) {
+                throw new IllegalArgumentException("maxRequests must be > 0");
+            }
+        }
+
+        public static Policy defaults() {
+            return new Policy(16, 8.0, Duration.ofSeconds(30), 100, Long.MAX_VALUE);
+        }
+
+        public Policy withMaxRequests(long maxRequests) {
+            return new Policy(concurrency, requestsPerSecond, requestTimeout, checkpointEvery, maxRequests);
+        }
+    }
+
+    /**
+     * @param quotes     quotes in the file when the run ended
+     * @param added      quotes this run appended
+     * @param requests   requests started by this and earlier runs of the same build
+     * @param failures   requests of this run that failed or returned no usable quote
+     * @param duplicates quotes of this run dropped as repeats
+     * @param complete   whether the file reached the target
+     */
+    public record Result(int quotes, int added, long requests, long failures, long duplicates, boolean complete,
+                         Duration elapsed) {
+    }
+
+    private final QuoteGenerator generator;
+    private final Policy policy;
+    private final Supplier<QuoteDeduplicator> deduplicators;
+
+    public CorpusBuilder(QuoteGenerator generator, Policy policy) {
+        this(generator, policy, QuoteDeduplicator::exact);
+    }
+
+    /**
+     * @param deduplicators called once per run for an empty deduplicator, e.g. one that also drops near
+     *                      duplicates
+     */
+    public CorpusBuilder(QuoteGenerator generator, Policy policy, Supplier<QuoteDeduplicator> deduplicators) {
+        this.generator = Objects.requireNonNull(generator, "generator");
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.deduplicators = Objects.requireNonNull(deduplicators, "deduplicators");
+    }
+
+    public static Path checkpointPath(Path output) {
+        Path absolute = output.toAbsolutePath();
+        return absolute.resolveSibling(absolute.getFileName() + ".checkpoint");
+    }
+
+    /**
+     * Appends new quotes to {@code output}, creating it if needed, until it holds {@code target} quotes or
+     * {@link Policy#maxRequests()} requests have been started. If the calling thread is interrupted,
+     * in-flight requests are cancelled and a checkpoint is written before returning with the interrupt
+     * flag set.
+     */
+    public Result build(Path output, int target) throws IOException {
+        Objects.requireNonNull(output, "output");
+        if (target <= 0) {
+            throw new IllegalArgumentException("target must be > 0");
+        }
+        long start = System.nanoTime();
+        Path checkpoint = checkpointPath(output);
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        try (FileChannel channel = FileChannel.open(output,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long previousRequests = restore(channel, checkpoint, output);
+            QuoteDeduplicator deduplicator = deduplicators.get();
+            List<String> existing = QuoteText.parse(
+                    new BufferedReader(Channels.newReader(channel.position(0), StandardCharsets.UTF_8)));
+            for (String quote : existing) {
+                deduplicator.add(quote);
+            }
+            Run run = new Run(channel, checkpoint, deduplicator, existing.size(), target, previousRequests);
+            if (!run.done()) {
+                run.dispatch();
+            }
+            // A FileChannel used with the interrupt flag set closes itself, so hold the flag back until the
+            // checkpoint is on disk.
+            boolean interrupted = Thread.interrupted();
+            try {
+                run.finish();
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new Result(run.quotes, run.quotes - existing.size(), run.requests.get(), run.failures.get(),
+                    run.duplicates, run.done(), Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    /**
+     * Cuts {@code channel} back to the checkpointed length, if there is a checkpoint, and ends it with a
+     * line break so appends start on a fresh line.
+     *
+     * @return requests started by earlier runs
+     */
+    private static long restore(FileChannel channel, Path checkpoint, Path output) throws IOException {
+        long requests = 0;
+        if (Files.exists(checkpoint)) {
+            Properties saved = new Properties();
+            try (Reader reader = Files.newBufferedReader(checkpoint, StandardCharsets.UTF_8)) {
+                saved.load(reader);
+            }
+            long bytes = Long.parseLong(saved.getProperty("bytes", "0"));
+            requests = Long.parseLong(saved.getProperty("requests", "0"));
+            if (channel.size() < bytes) {
+                throw new IOException(output + " is shorter than its checkpoint of " + bytes + " bytes");
+            }
+            channel.truncate(bytes);
+        }
+        long size = channel.size();
+        if (size > 0) {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, size - 1);
+            if (last.get(0) != '\n') {
+                channel.write(ByteBuffer.wrap(new byte[]{'\n'}), size);
+            }
+        }
+        return requests;
+    }
+
+    private final class Run {
+
+        private final FileChannel channel;
+        private final Path checkpoint;
+        private final QuoteDeduplicator deduplicator;
+        private final int target;
+        private final long previousRequests;
+        private final Writer writer;
+        private final AtomicLong requests;
+        private final AtomicLong failures = new AtomicLong();
+        private int quotes;
+        private long duplicates;
+        private int sinceCheckpoint;
+        private IOException writeFailure;
+
+        private Run(FileChannel channel, Path checkpoint, QuoteDeduplicator deduplicator, int quotes, int target,
+                    long previousRequests) throws IOException {
+            this.channel = channel.position(channel.size());
+            this.checkpoint = checkpoint;
+            this.deduplicator = deduplicator;
+            this.quotes = quotes;
+            this.target = target;
+            this.previousRequests = previousRequests;
+            this.requests = new AtomicLong(previousRequests);
+            this.writer = new BufferedWriter(
+                    new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        /**
+         * Starts requests from the calling thread, paced at a fixed interval, and waits for the last one.
+         */
+        private void dispatch() throws IOException {
+            long interval = (long) (1e9 / policy.requestsPerSecond());
+            Semaphore slots = new Semaphore(policy.concurrency());
+            // close() waits for every request still running, so cancelling them must happen before it.
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                try {
+                    long next = System.nanoTime();
+                    for (long started = 0; started < policy.maxRequests(); started++) {
+                        slots.acquire();
+                        if (stopped()) {
+                            slots.release();
+                            break;
+                        }
+                        long wait = next - System.nanoTime();
+                        if (wait > 0) {
+                            TimeUnit.NANOSECONDS.sleep(wait);
+                        }
+                        next = Math.max(next, System.nanoTime() - interval) + interval;
+                        requests.incrementAndGet();
+                        executor.execute(() -> {
+                            try {
+                                offer(generator.generate(QuoteRequest.any(), Deadline.after(policy.requestTimeout())));
+                            } catch (RuntimeException e) {
+                                if (!stopped()) {
+                                    failures.incrementAndGet();
+                                }
+                            } finally {
+                                slots.release();
+                            }
+                        });
+                    }
+                    if (stopped()) {
+                        // The target is reached; answers still in flight would only be dropped.
+                        executor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                if (writeFailure != null) {
+                    throw writeFailure;
+                }
+            }
+        }
+
+        private synchronized void offer(String quote) {
+            if (stopped()) {
+                return;
+            }
+            String line = quote == null ? "" : quote.strip();
+            if (line.isEmpty() || line.startsWith("#") || line.indexOf('\n') >= 0 || line.indexOf('\r') >= 0) {
+                failures.incrementAndGet();
+                return;
+            }
+            if (!deduplicator.add(line)) {
+                duplicates++;
+                return;
+            }
+            try {
+                writer.write(line);
+                writer.write('\n');
+                quotes++;
+                if (++sinceCheckpoint >= policy.checkpointEvery()) {
+                    checkpoint();
+                }
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+        }
+
+        private synchronized boolean done() {
+            return quotes >= target;
+        }
+
+        private synchronized boolean stopped() {
+            return quotes >= target || writeFailure != null;
+        }
+
+        /**
+         * Flushes and forces the file, then atomically replaces the checkpoint with its new length.
+         */
+        private synchronized void checkpoint() throws IOException {
+            writer.flush();
+            channel.force(false);
+            Properties saved = new Properties();
+            saved.setProperty("bytes", Long.toString(channel.size()));
+            saved.setProperty("quotes", Integer.toString(quotes));
+            saved.setProperty("requests", Long.toString(requests.get()));
+            Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+            try {
+                try (Writer out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                    saved.store(out, null);
+                }
+                Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            sinceCheckpoint = 0;
+        }
+
+        private synchronized void finish() throws IOException {
+            if (done()) {
+                writer.flush();
+                channel.force(false);
+                Files.deleteIfExists(checkpoint);
+            } else if (sinceCheckpoint > 0 || requests.get() > previousRequests) {
+                checkpoint();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading and parsing one classpath corpus.
+ */
+@Name("com.vishnu.quote.CorpusLoad")
+@Label("Corpus Load")
+@Category({"Motivational Quotes", "Corpus"})
+@Description("A quote corpus read from the classpath")
+@StackTrace(false)
+final class CorpusLoadEvent extends Event {
+
+    static final String LOADED = "loaded";
+    static final String MISSING = "missing";
+    static final String FAILED = "failed";
+
+    private static final EventType TYPE = EventType.getEventType(CorpusLoadEvent.class);
+
+    @Label("Resource")
+    String resource;
+
+    @Label("Outcome")
+    @Description("loaded, missing or failed")
+    String outcome;
+
+    @Label("Quotes")
+    int quotes;
+
+    @Label("Duplicates")
+    @Description("Lines dropped because they repeat an earlier quote after normalization")
+    int duplicates;
+
+    static boolean enabled() {
+        return TYPE.isEnabled();
+    }
+}
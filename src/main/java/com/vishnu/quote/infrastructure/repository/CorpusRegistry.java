@@ -0,0 +1,197 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.lang.ref.Cleaner;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Process-wide, reference-counted classpath corpora, so repositories built over the same resource share
+ * one load and one copy in heap. {@link #acquire(String)} hands out a {@link Lease}; the corpus behind it
+ * is loaded on first use, and concurrent first uses share that load. The loaded snapshot is an immutable
+ * list shared by every lease on the resource. When the last lease is closed the registry forgets the
+ * corpus, and the next acquire loads it afresh. A lease that becomes unreachable without being closed is
+ * released when it is collected.
+ *
+ * <p>Corpora are keyed by resource name alone and read through the context class loader of the thread
+ * that loads them first.
+ */
+public final class CorpusRegistry {
+
+    private static final CorpusRegistry SHARED = new CorpusRegistry(ClasspathQuoteRepository::load);
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Function<String, List<String>> loader;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong loads = new AtomicLong();
+
+    CorpusRegistry(Function<String, List<String>> loader) {
+        this.loader = Objects.requireNonNull(loader, "loader");
+    }
+
+    public static CorpusRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Takes a reference on {@code resourceName}'s corpus. Close the lease once it is no longer used.
+     */
+    public Lease acquire(String resourceName) {
+        String name = ClasspathQuoteRepository.validateResourceName(resourceName);
+        Entry entry = entries.compute(name, (key, existing) -> {
+            Entry e = existing == null ? new Entry(key) : existing;
+            e.references++;
+            return e;
+        });
+        return new Lease(this, entry);
+    }
+
+    /**
+     * Corpora loaded so far; a corpus loaded again after being released counts again.
+     */
+    public long loads() {
+        return loads.get();
+    }
+
+    /**
+     * Open leases on {@code resourceName}, or 0 if the registry does not hold it.
+     */
+    public int references(String resourceName) {
+        Entry entry = entries.get(resourceName);
+        return entry == null ? 0 : entry.references;
+    }
+
+    public Set<String> resources() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    private void release(Entry entry) {
+        entries.computeIfPresent(entry.name, (key, current) -> {
+            if (current != entry) {
+                return current;
+            }
+            return --current.references == 0 ? null : current;
+        });
+    }
+
+    private List<String> quotes(Entry entry) {
+        if (entry.claimLoad()) {
+            try {
+                List<String> quotes = List.copyOf(loader.apply(entry.name));
+                loads.incrementAndGet();
+                entry.snapshot.complete(quotes);
+            } catch (RuntimeException | Error e) {
+                entry.snapshot.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return entry.snapshot.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Registry bookkeeping for one resource. {@code references} is only changed inside the map's
+     * compute functions, which serialize access per key.
+     */
+    private static final class Entry {
+
+        private final String name;
+        private final CompletableFuture<List<String>> snapshot = new CompletableFuture<>();
+        private final AtomicBoolean loadClaimed = new AtomicBoolean();
+        private volatile int references;
+
+        private Entry(String name) {
+            this.name = name;
+        }
+
+        private boolean claimLoad() {
+            return !loadClaimed.get() && loadClaimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * Cleaning action of a lease; the cleaner runs it at most once, whether the lease is closed or collected.
+     * It must not refer to the lease itself.
+     */
+    private record Release(CorpusRegistry registry, Entry entry) implements Runnable {
+
+        @Override
+        public void run() {
+            registry.release(entry);
+        }
+    }
+
+    /**
+     * One reference on a shared corpus, usable as a {@link QuoteRepository}. The lease keeps working after
+     * it is closed, but no longer keeps the corpus registered.
+     */
+    public static final class Lease implements QuoteRepository, AutoCloseable {
+
+        private final CorpusRegistry registry;
+        private final Entry entry;
+        private final Cleaner.Cleanable cleanable;
+        private List<String> quotes;
+
+        private Lease(CorpusRegistry registry, Entry entry) {
+            this.registry = registry;
+            this.entry = entry;
+            this.cleanable = CLEANER.register(this, new Release(registry, entry));
+        }
+
+        @Override
+        public Optional<String> randomQuote() {
+            List<String> quotes = quotes();
+            if (quotes.isEmpty()) return Optional.empty();
+            return Optional.of(quotes.get(ThreadLocalRandom.current().nextInt(quotes.size())));
+        }
+
+        @Override
+        public int size() {
+            return quotes().size();
+        }
+
+        @Override
+        public String quoteAt(int index) {
+            return quotes().get(index);
+        }
+
+        @Override
+        public String description() {
+            return "classpath:" + entry.name;
+        }
+
+        @Override
+        public void close() {
+            cleanable.clean();
+        }
+
+        /**
+         * The shared snapshot; the unsynchronized cache is safe because the list is immutable.
+         */
+        List<String> quotes() {
+            List<String> local = quotes;
+            if (local == null) {
+                local = registry.quotes(entry);
+                quotes = local;
+            }
+            return local;
+        }
+    }
+}
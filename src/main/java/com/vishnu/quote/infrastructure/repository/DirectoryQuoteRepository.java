@@ -0,0 +1,307 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * A corpus spread over the files below a directory that match a glob, such as {@code **}{@code /*.txt}.
+ * Files are read and parsed in parallel on a fork-join pool: each file is read with one bulk read and
+ * split into lines straight from the bytes, and files larger than {@link #SPLIT_BYTES} are split further
+ * at line breaks so one big file does not hold up the load. The lines of all files, in path order, are
+ * then copied once into a single packed store. Lines follow the classpath corpus rules: trimmed, blank
+ * lines and {@code #} comments skipped.
+ *
+ * <p>Each quote is decoded on first use and the {@link String} kept, so repeated picks do not allocate.
+ */
+public final class DirectoryQuoteRepository implements QuoteRepository {
+
+    static final int SPLIT_BYTES = 4 * 1024 * 1024;
+
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+    private static final long LF = '\n' * ONES;
+    private static final long CR = '\r' * ONES;
+
+    private final String description;
+    private final PackedQuoteStore store;
+    private final String[] decoded;
+    private final int files;
+    private final long loadedBytes;
+    private final Duration loadTime;
+
+    private DirectoryQuoteRepository(String description, PackedQuoteStore store, int files, long loadedBytes,
+                                     Duration loadTime) {
+        this.description = description;
+        this.store = store;
+        this.decoded = new String[store.size()];
+        this.files = files;
+        this.loadedBytes = loadedBytes;
+        this.loadTime = loadTime;
+    }
+
+    public static DirectoryQuoteRepository load(Path root, String glob) {
+        return load(root, glob, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param glob matched against each regular file's path relative to {@code root}
+     * @throws UncheckedIOException if the directory cannot be listed or a matched file cannot be read
+     */
+    public static DirectoryQuoteRepository load(Path root, String glob, ForkJoinPool pool) {
+        Objects.requireNonNull(root, "root");
+        Objects.requireNonNull(glob, "glob");
+        Objects.requireNonNull(pool, "pool");
+        long start = System.nanoTime();
+        Path[] paths = matching(root, glob);
+        List<PackedQuoteStore.Utf8Lines> segments = pool.invoke(new FilesTask(paths, 0, paths.length));
+        long bytes = 0;
+        byte[] previous = null;
+        for (PackedQuoteStore.Utf8Lines segment : segments) {
+            // The parts of a split file are adjacent and share one buffer.
+            if (segment.source() != previous) {
+                bytes += segment.source().length;
+                previous = segment.source();
+            }
+        }
+        PackedQuoteStore store = PackedQuoteStore.packUtf8(segments);
+        return new DirectoryQuoteRepository("directory:" + root + "/" + glob, store, paths.length,
+                bytes, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        int index = randomIndex();
+        return index < 0 ? Optional.empty() : Optional.of(quoteAt(index));
+    }
+
+    @Override
+    public int randomIndex() {
+        int n = store.size();
+        return n == 0 ? -1 : ThreadLocalRandom.current().nextInt(n);
+    }
+
+    @Override
+    public int size() {
+        return store.size();
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        Objects.checkIndex(index, store.size());
+        String quote = decoded[index];
+        if (quote == null) {
+            // Racing threads may both decode; either String is fine to keep.
+            quote = store.quoteAt(index);
+            decoded[index] = quote;
+        }
+        return quote;
+    }
+
+    @Override
+    public String description() {
+        return description;
+    }
+
+    public int files() {
+        return files;
+    }
+
+    /**
+     * Total size of the matched files.
+     */
+    public long loadedBytes() {
+        return loadedBytes;
+    }
+
+    /**
+     * Wall-clock time from listing the directory to the packed store being ready.
+     */
+    public Duration loadTime() {
+        return loadTime;
+    }
+
+    public double megabytesPerSecond() {
+        long nanos = Math.max(1, loadTime.toNanos());
+        return loadedBytes / 1e6 / (nanos / 1e9);
+    }
+
+    private static Path[] matching(Path root, String glob) {
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+        try (Stream<Path> walk = Files.walk(root)) {
+            Path[] paths = walk.filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(root.relativize(path)))
+                    .toArray(Path[]::new);
+            Arrays.sort(paths);
+            return paths;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list quote directory " + root, e);
+        } catch (UncheckedIOException e) {
+            throw new UncheckedIOException("Cannot list quote directory " + root, e.getCause());
+        }
+    }
+
+    /**
+     * Lines of {@code data[from, to)}, which starts at a line start and ends at a line break or the end.
+     * Trimming compares bytes against {@code ' '}, which matches {@link String#trim()} on the decoded text
+     * because multi-byte UTF-8 sequences only use bytes of 0x80 and above.
+     */
+    static PackedQuoteStore.Utf8Lines split(byte[] data, int from, int to) {
+        int[] bounds = new int[64];
+        int count = 0;
+        int lineStart = from;
+        int i = from;
+        while (lineStart <= to) {
+            i = nextBreak(data, i, to);
+            int start = lineStart;
+            int end = i;
+            while (start < end && (data[start] & 0xFF) <= ' ') {
+                start++;
+            }
+            while (end > start && (data[end - 1] & 0xFF) <= ' ') {
+                end--;
+            }
+            if (start < end && data[start] != '#') {
+                if (2 * count + 2 > bounds.length) {
+                    bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                }
+                bounds[2 * count] = start;
+                bounds[2 * count + 1] = end;
+                count++;
+            }
+            lineStart = ++i;
+        }
+        return new PackedQuoteStore.Utf8Lines(data, bounds, count);
+    }
+
+    /**
+     * Index of the next {@code '\n'} or {@code '\r'} at or after {@code from}, or {@code to} if there is
+     * none. Eight bytes are tested per step with a SWAR zero-byte check, which the JIT keeps in registers
+     * without needing the incubating Vector API.
+     */
+    static int nextBreak(byte[] data, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONG.get(data, i);
+            long lf = word ^ LF;
+            long cr = word ^ CR;
+            long found = ((lf - ONES) & ~lf | (cr - ONES) & ~cr) & HIGHS;
+            if (found != 0) {
+                return i + (Long.numberOfTrailingZeros(found) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            byte b = data[i];
+            if (b == '\n' || b == '\r') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private static final class FilesTask extends RecursiveTask<List<PackedQuoteStore.Utf8Lines>> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        // ForkJoinTask is Serializable, but these tasks never leave the pool and Path is not serializable.
+        private final transient Path[] paths;
+        private final int from;
+        private final int to;
+
+        private FilesTask(Path[] paths, int from, int to) {
+            this.paths = paths;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<PackedQuoteStore.Utf8Lines> compute() {
+            if (to - from == 0) {
+                return List.of();
+            }
+            if (to - from == 1) {
+                byte[] data = read(paths[from]);
+                return data.length > SPLIT_BYTES
+                        ? new SplitTask(data, 0, data.length).compute()
+                        : List.of(split(data, 0, data.length));
+            }
+            int mid = (from + to) >>> 1;
+            FilesTask left = new FilesTask(paths, from, mid);
+            left.fork();
+            List<PackedQuoteStore.Utf8Lines> right = new FilesTask(paths, mid, to).compute();
+            return concat(left.join(), right);
+        }
+
+        private static byte[] read(Path path) {
+            try {
+                return Files.readAllBytes(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read quote file " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Splits one large file's bytes at line breaks near the middle until each part is at most
+     * {@link #SPLIT_BYTES}.
+     */
+    private static final class SplitTask extends RecursiveTask<List<PackedQuoteStore.Utf8Lines>> {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+        private final int from;
+        private final int to;
+
+        private SplitTask(byte[] data, int from, int to) {
+            this.data = data;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<PackedQuoteStore.Utf8Lines> compute() {
+            if (to - from <= SPLIT_BYTES) {
+                return List.of(split(data, from, to));
+            }
+            int mid = nextBreak(data, from + (to - from) / 2, to);
+            if (mid == to) {
+                return List.of(split(data, from, to));
+            }
+            SplitTask left = new SplitTask(data, from, mid);
+            left.fork();
+            List<PackedQuoteStore.Utf8Lines> right = new SplitTask(data, mid + 1, to).compute();
+            return concat(left.join(), right);
+        }
+    }
+
+    private static List<PackedQuoteStore.Utf8Lines> concat(
+            List<PackedQuoteStore.Utf8Lines> left, List<PackedQuoteStore.Utf8Lines> right) {
+        List<PackedQuoteStore.Utf8Lines> all = new ArrayList<>(left.size() + right.size());
+        all.addAll(left);
+        all.addAll(right);
+        return all;
+    }
+}
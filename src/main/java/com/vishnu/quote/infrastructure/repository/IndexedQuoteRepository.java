@@ -0,0 +1,257 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteQuery;
+import com.vishnu.quote.domain.QuoteSearchResult;
+import com.vishnu.quote.domain.SearchableQuoteRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class IndexedQuoteRepository implements SearchableQuoteRepository {
+
+    private final String source;
+    private final String[] quotes;
+    private final PostingIndex trigrams;
+    private final PostingIndex tokens;
+
+    public IndexedQuoteRepository(String source, List<String> quotes) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.quotes = Objects.requireNonNull(quotes, "quotes").toArray(String[]::new);
+
+        PostingIndex.Builder trigramBuilder = new PostingIndex.Builder();
+        PostingIndex.Builder tokenBuilder = new PostingIndex.Builder();
+        for (int doc = 0; doc < this.quotes.length; doc++) {
+            String text = normalize(this.quotes[doc]);
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                trigramBuilder.add(trigramKey(text, i), doc);
+            }
+            for (String token : tokenize(text)) {
+                tokenBuilder.add(tokenKey(token), doc);
+            }
+        }
+        this.trigrams = trigramBuilder.build();
+        this.tokens = tokenBuilder.build();
+    }
+
+    public static IndexedQuoteRepository fromClasspath(String resourceName) {
+        ClasspathQuoteRepository classpath = new ClasspathQuoteRepository(resourceName);
+        return new IndexedQuoteRepository(classpath.description(), classpath.quotes());
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        if (quotes.length == 0) return Optional.empty();
+        return Optional.of(quotes[ThreadLocalRandom.current().nextInt(quotes.length)]);
+    }
+
+    @Override
+    public int size() {
+        return quotes.length;
+    }
+
+    @Override
+    public String quoteAt(int index) {
+        return quotes[index];
+    }
+
+    @Override
+    public QuoteSearchResult search(QuoteQuery query, int offset, int limit) {
+        Objects.requireNonNull(query, "query");
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must be >= 0");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be > 0");
+        }
+        int[] matches = matches(query);
+        int from = Math.min(offset, matches.length);
+        int to = (int) Math.min((long) from + limit, matches.length);
+        List<String> page = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            page.add(quotes[matches[i]]);
+        }
+        return new QuoteSearchResult(page, matches.length, offset);
+    }
+
+    @Override
+    public Optional<String> randomMatch(QuoteQuery query) {
+        Objects.requireNonNull(query, "query");
+        int[] matches = matches(query);
+        if (matches.length == 0) return Optional.empty();
+        return Optional.of(quotes[matches[ThreadLocalRandom.current().nextInt(matches.length)]]);
+    }
+
+    @Override
+    public String description() {
+        return "indexed:" + source;
+    }
+
+    long indexSizeInBytes() {
+        return trigrams.sizeInBytes() + tokens.sizeInBytes();
+    }
+
+    private int[] matches(QuoteQuery query) {
+        String text = normalize(query.text());
+        return switch (query.mode()) {
+            case SUBSTRING -> substringMatches(text);
+            case TOKENS -> tokenMatches(text);
+        };
+    }
+
+    private int[] substringMatches(String needle) {
+        if (needle.length() < 3) {
+            return scan(doc -> containsNormalized(quotes[doc], needle));
+        }
+        PostingList.Cursor[] cursors = new PostingList.Cursor[needle.length() - 2];
+        for (int i = 0; i < cursors.length; i++) {
+            byte[] postings = trigrams.postings(trigramKey(needle, i));
+            if (postings == null) return new int[0];
+            cursors[i] = PostingList.cursor(postings);
+        }
+        return intersect(cursors, doc -> containsNormalized(quotes[doc], needle));
+    }
+
+    private int[] tokenMatches(String text) {
+        List<String> wanted = tokenize(text);
+        if (wanted.isEmpty()) return new int[0];
+        PostingList.Cursor[] cursors = new PostingList.Cursor[wanted.size()];
+        for (int i = 0; i < cursors.length; i++) {
+            byte[] postings = tokens.postings(tokenKey(wanted.get(i)));
+            if (postings == null) return new int[0];
+            cursors[i] = PostingList.cursor(postings);
+        }
+        return intersect(cursors, doc -> containsTokens(quotes[doc], wanted));
+    }
+
+    private static int[] intersect(PostingList.Cursor[] cursors, DocFilter verify) {
+        Arrays.sort(cursors, (a, b) -> Integer.compare(a.count(), b.count()));
+        int[] out = new int[Math.min(cursors[0].count(), 16)];
+        int size = 0;
+        int candidate = cursors[0].next();
+        while (candidate != PostingList.NO_MORE_DOCS) {
+            int agreed = candidate;
+            for (int i = 1; i < cursors.length && agreed == candidate; i++) {
+                agreed = cursors[i].advance(candidate);
+            }
+            if (agreed != candidate) {
+                candidate = cursors[0].advance(agreed);
+                continue;
+            }
+            if (verify.accept(candidate)) {
+                if (size == out.length) out = Arrays.copyOf(out, Math.max(16, size * 2));
+                out[size++] = candidate;
+            }
+            candidate = cursors[0].next();
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private int[] scan(DocFilter filter) {
+        int[] out = new int[16];
+        int size = 0;
+        for (int doc = 0; doc < quotes.length; doc++) {
+            if (filter.accept(doc)) {
+                if (size == out.length) out = Arrays.copyOf(out, size * 2);
+                out[size++] = doc;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static String normalize(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Whether {@code text} contains {@code needle} once lower-cased like {@link #normalize(String)}, compared
+     * in place so verifying a candidate allocates nothing.
+     */
+    private static boolean containsNormalized(String text, String needle) {
+        int last = text.length() - needle.length();
+        for (int at = 0; at <= last; at++) {
+            if (regionMatchesNormalized(text, at, needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean regionMatchesNormalized(String text, int at, String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.toLowerCase(text.charAt(at + i)) != normalized.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether every normalized token of {@code wanted} is a whole word of {@code text}, found by walking
+     * the words of {@code text} in place.
+     */
+    private static boolean containsTokens(String text, List<String> wanted) {
+        for (String token : wanted) {
+            if (!containsToken(text, token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsToken(String text, String token) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start == token.length() && regionMatchesNormalized(text, start, token)) {
+                    return true;
+                }
+                start = -1;
+            }
+        }
+        return false;
+    }
+
+    private static long trigramKey(String text, int at) {
+        return ((long) text.charAt(at) << 32) | ((long) text.charAt(at + 1) << 16) | text.charAt(at + 2);
+    }
+
+    private static long tokenKey(String token) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            hash ^= token.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash & Long.MAX_VALUE;
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> out = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                out.add(text.substring(start, i));
+                start = -1;
+            }
+        }
+        return out;
+    }
+
+    @FunctionalInterface
+    private interface DocFilter {
+        boolean accept(int doc);
+    }
+}
@@ -0,0 +1,211 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.LocalizedQuoteRepository;
+import com.vishnu.quote.domain.QuoteRepository;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One classpath corpus per locale, named like resource bundles: for {@code quotes.txt} the German
+ * Austrian corpus is {@code quotes_de_AT.txt}, the German one {@code quotes_de.txt} and the root corpus
+ * {@code quotes.txt} itself. Candidates are tried in {@link ResourceBundle.Control} order.
+ *
+ * <p>A corpus is loaded on first use, and concurrent first uses of the same corpus share one load.
+ * Loaded corpora are packed and kept while their total size fits {@code memoryBudgetBytes}; past that the
+ * least recently used ones are evicted and reloaded on demand. The corpus just loaded is always kept,
+ * even if it alone is over budget. Missing resources are remembered as empty corpora, so the fallback
+ * chain does not probe the classpath on every call.
+ */
+public final class LocalizedClasspathQuoteRepository implements LocalizedQuoteRepository {
+
+    private static final ResourceBundle.Control CONTROL =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_DEFAULT);
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+
+    private final String baseName;
+    private final String extension;
+    private final long memoryBudgetBytes;
+    private final Map<String, Corpus> resident = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Corpus>> loading = new ConcurrentHashMap<>();
+    private final ReentrantLock admission = new ReentrantLock();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private long residentBytes;
+
+    public LocalizedClasspathQuoteRepository(String resourceName, long memoryBudgetBytes) {
+        String name = ClasspathQuoteRepository.validateResourceName(resourceName);
+        if (memoryBudgetBytes <= 0) {
+            throw new IllegalArgumentException("memoryBudgetBytes must be > 0");
+        }
+        int dot = name.lastIndexOf('.');
+        boolean hasExtension = dot > name.lastIndexOf('/');
+        this.baseName = hasExtension ? name.substring(0, dot) : name;
+        this.extension = hasExtension ? name.substring(dot) : "";
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    @Override
+    public QuoteRepository forLocale(Locale locale) {
+        Objects.requireNonNull(locale, "locale");
+        Corpus corpus = null;
+        for (Locale candidate : CONTROL.getCandidateLocales("", locale)) {
+            corpus = corpus(resourceName(candidate));
+            if (corpus.size() > 0) {
+                return corpus;
+            }
+        }
+        return corpus;
+    }
+
+    String resourceName(Locale locale) {
+        return CONTROL.toBundleName(baseName, locale) + extension;
+    }
+
+    public long loads() {
+        return loads.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public long residentBytes() {
+        admission.lock();
+        try {
+            return residentBytes;
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    public Set<String> residentResources() {
+        return Set.copyOf(resident.keySet());
+    }
+
+    private Corpus corpus(String name) {
+        Corpus corpus = resident.get(name);
+        if (corpus != null) {
+            corpus.touch();
+            return corpus;
+        }
+        CompletableFuture<Corpus> mine = new CompletableFuture<>();
+        CompletableFuture<Corpus> running = loading.putIfAbsent(name, mine);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            // Another thread may have finished loading between our miss and claiming the load.
+            corpus = resident.get(name);
+            if (corpus == null) {
+                corpus = new Corpus(name, PackedQuoteStore.pack(ClasspathQuoteRepository.load(name)));
+                loads.incrementAndGet();
+                admit(corpus);
+            }
+            corpus.touch();
+            mine.complete(corpus);
+            return corpus;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(name, mine);
+        }
+    }
+
+    private void admit(Corpus corpus) {
+        admission.lock();
+        try {
+            resident.put(corpus.name, corpus);
+            residentBytes += corpus.cost();
+            while (residentBytes > memoryBudgetBytes) {
+                Corpus coldest = null;
+                for (Corpus candidate : resident.values()) {
+                    if (candidate != corpus && (coldest == null || candidate.lastUsed < coldest.lastUsed)) {
+                        coldest = candidate;
+                    }
+                }
+                if (coldest == null) {
+                    break;
+                }
+                resident.remove(coldest.name);
+                residentBytes -= coldest.cost();
+                evictions.incrementAndGet();
+            }
+        } finally {
+            admission.unlock();
+        }
+    }
+
+    private static Corpus join(CompletableFuture<Corpus> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A loaded corpus. It stays usable after eviction for whoever still holds it; eviction only stops the
+     * repository from handing it out again.
+     */
+    private static final class Corpus implements QuoteRepository {
+
+        private final String name;
+        private final PackedQuoteStore store;
+        private volatile long lastUsed;
+
+        private Corpus(String name, PackedQuoteStore store) {
+            this.name = name;
+            this.store = store;
+        }
+
+        private void touch() {
+            lastUsed = System.nanoTime();
+        }
+
+        private long cost() {
+            return ENTRY_OVERHEAD_BYTES + (store == PackedQuoteStore.EMPTY ? 0 : store.sizeInBytes());
+        }
+
+        @Override
+        public Optional<String> randomQuote() {
+            int index = randomIndex();
+            return index < 0 ? Optional.empty() : Optional.of(store.quoteAt(index));
+        }
+
+        @Override
+        public int size() {
+            return store.size();
+        }
+
+        @Override
+        public String quoteAt(int index) {
+            return store.quoteAt(index);
+        }
+
+        @Override
+        public int randomIndex() {
+            int n = store.size();
+            return n == 0 ? -1 : ThreadLocalRandom.current().nextInt(n);
+        }
+
+        @Override
+        public String description() {
+            return "classpath:" + name;
+        }
+    }
+}
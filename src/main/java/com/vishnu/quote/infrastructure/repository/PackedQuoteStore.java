@@ -0,0 +1,134 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Quotes stored as one UTF-8 blob plus a table of {@code size + 1} little-endian int offsets,
+ * both living inside a single backing array.
+ */
+final class PackedQuoteStore {
+
+    static final PackedQuoteStore EMPTY = new PackedQuoteStore(new byte[4], 0, 0, 4);
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final byte[] data;
+    private final int size;
+    private final int offsetsStart;
+    private final int blobStart;
+
+    PackedQuoteStore(byte[] data, int size, int offsetsStart, int blobStart) {
+        this.data = Objects.requireNonNull(data, "data");
+        this.size = size;
+        this.offsetsStart = offsetsStart;
+        this.blobStart = blobStart;
+    }
+
+    /**
+     * Packs {@code quotes} with the offset table at the start of the array and the blob right after it.
+     */
+    static PackedQuoteStore pack(List<String> quotes) {
+        Objects.requireNonNull(quotes, "quotes");
+        if (quotes.isEmpty()) {
+            return EMPTY;
+        }
+        byte[][] encoded = new byte[quotes.size()][];
+        long blobStart = (encoded.length + 1L) * 4;
+        long total = blobStart;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = quotes.get(i).getBytes(StandardCharsets.UTF_8);
+            total += encoded[i].length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("corpus too large to pack");
+        }
+        byte[] data = new byte[(int) total];
+        int offset = 0;
+        int pos = (int) blobStart;
+        for (int i = 0; i < encoded.length; i++) {
+            INT.set(data, i * 4, offset);
+            System.arraycopy(encoded[i], 0, data, pos, encoded[i].length);
+            offset += encoded[i].length;
+            pos += encoded[i].length;
+        }
+        INT.set(data, encoded.length * 4, offset);
+        return new PackedQuoteStore(data, encoded.length, 0, (int) blobStart);
+    }
+
+    /**
+     * Packs quotes that are already UTF-8 encoded, given as ranges of the source buffers, in order. Each
+     * quote's bytes are copied once and never decoded.
+     */
+    static PackedQuoteStore packUtf8(List<Utf8Lines> segments) {
+        Objects.requireNonNull(segments, "segments");
+        long count = 0;
+        long bytes = 0;
+        for (Utf8Lines segment : segments) {
+            count += segment.count();
+            for (int i = 0; i < segment.count(); i++) {
+                bytes += segment.end(i) - segment.start(i);
+            }
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        long blobStart = (count + 1) * 4;
+        if (blobStart + bytes > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("corpus too large to pack");
+        }
+        byte[] data = new byte[(int) (blobStart + bytes)];
+        int index = 0;
+        int offset = 0;
+        int pos = (int) blobStart;
+        for (Utf8Lines segment : segments) {
+            for (int i = 0; i < segment.count(); i++) {
+                int length = segment.end(i) - segment.start(i);
+                INT.set(data, index++ * 4, offset);
+                System.arraycopy(segment.source(), segment.start(i), data, pos, length);
+                offset += length;
+                pos += length;
+            }
+        }
+        INT.set(data, index * 4, offset);
+        return new PackedQuoteStore(data, index, 0, (int) blobStart);
+    }
+
+    /**
+     * The first {@code count} lines of {@code source}; line {@code i} spans
+     * {@code bounds[2i]} (inclusive) to {@code bounds[2i + 1]} (exclusive).
+     */
+    record Utf8Lines(byte[] source, int[] bounds, int count) {
+
+        int start(int line) {
+            return bounds[2 * line];
+        }
+
+        int end(int line) {
+            return bounds[2 * line + 1];
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    String quoteAt(int index) {
+        Objects.checkIndex(index, size);
+        int start = offset(index);
+        int end = offset(index + 1);
+        return new String(data, blobStart + start, end - start, StandardCharsets.UTF_8);
+    }
+
+    long sizeInBytes() {
+        return data.length;
+    }
+
+    private int offset(int index) {
+        return (int) INT.get(data, offsetsStart + index * 4);
+    }
+}
@@ -0,0 +1,135 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.util.Arrays;
+
+final class PostingIndex {
+
+    private final long[] keys;
+    private final byte[][] postings;
+
+    private PostingIndex(long[] keys, byte[][] postings) {
+        this.keys = keys;
+        this.postings = postings;
+    }
+
+    byte[] postings(long key) {
+        int idx = Arrays.binarySearch(keys, key);
+        return idx < 0 ? null : postings[idx];
+    }
+
+    int keyCount() {
+        return keys.length;
+    }
+
+    long sizeInBytes() {
+        long bytes = keys.length * 8L + postings.length * 8L;
+        for (byte[] p : postings) {
+            bytes += p.length;
+        }
+        return bytes;
+    }
+
+    static final class Builder {
+        private static final long EMPTY = Long.MIN_VALUE;
+
+        private long[] table = new long[1024];
+        private int[] slots = new int[1024];
+        private int[][] docs = new int[256][];
+        private int[] counts = new int[256];
+        private int size;
+
+        Builder() {
+            Arrays.fill(table, EMPTY);
+        }
+
+        void add(long key, int doc) {
+            int slot = slotFor(key);
+            int n = counts[slot];
+            int[] list = docs[slot];
+            if (n > 0 && list[n - 1] == doc) {
+                return;
+            }
+            if (n == list.length) {
+                list = docs[slot] = Arrays.copyOf(list, n * 2);
+            }
+            list[n] = doc;
+            counts[slot] = n + 1;
+        }
+
+        PostingIndex build() {
+            long[] sortedKeys = new long[size];
+            int[] order = new int[size];
+            int k = 0;
+            for (int i = 0; i < table.length; i++) {
+                if (table[i] != EMPTY) {
+                    sortedKeys[k++] = table[i];
+                }
+            }
+            Arrays.sort(sortedKeys);
+            for (int i = 0; i < size; i++) {
+                order[i] = slots[indexOf(sortedKeys[i])];
+            }
+            byte[][] encoded = new byte[size][];
+            for (int i = 0; i < size; i++) {
+                int slot = order[i];
+                encoded[i] = PostingList.encode(docs[slot], counts[slot]);
+                docs[slot] = null;
+            }
+            return new PostingIndex(sortedKeys, encoded);
+        }
+
+        private int slotFor(long key) {
+            if (key == EMPTY) {
+                throw new IllegalArgumentException("reserved key");
+            }
+            int idx = indexOf(key);
+            if (table[idx] == key) {
+                return slots[idx];
+            }
+            if ((size + 1) * 4L > table.length * 3L) {
+                rehash();
+                idx = indexOf(key);
+            }
+            int slot = size++;
+            if (slot == docs.length) {
+                docs = Arrays.copyOf(docs, slot * 2);
+                counts = Arrays.copyOf(counts, slot * 2);
+            }
+            docs[slot] = new int[4];
+            table[idx] = key;
+            slots[idx] = slot;
+            return slot;
+        }
+
+        private int indexOf(long key) {
+            int mask = table.length - 1;
+            int idx = (int) mix(key) & mask;
+            while (table[idx] != EMPTY && table[idx] != key) {
+                idx = (idx + 1) & mask;
+            }
+            return idx;
+        }
+
+        private void rehash() {
+            long[] oldTable = table;
+            int[] oldSlots = slots;
+            table = new long[oldTable.length * 2];
+            slots = new int[oldTable.length * 2];
+            Arrays.fill(table, EMPTY);
+            for (int i = 0; i < oldTable.length; i++) {
+                if (oldTable[i] != EMPTY) {
+                    int idx = indexOf(oldTable[i]);
+                    table[idx] = oldTable[i];
+                    slots[idx] = oldSlots[i];
+                }
+            }
+        }
+
+        private static long mix(long key) {
+            key ^= key >>> 33;
+            key *= 0xff51afd7ed558ccdL;
+            key ^= key >>> 33;
+            return key;
+        }
+    }
+}
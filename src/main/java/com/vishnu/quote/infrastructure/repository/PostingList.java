@@ -0,0 +1,150 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Sorted document ids packed into a single byte array: a skip table with the first id and byte offset
+ * of every block, followed by varint-encoded deltas inside each block.
+ */
+final class PostingList {
+
+    static final int NO_MORE_DOCS = Integer.MAX_VALUE;
+    static final int BLOCK_SIZE = 128;
+
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int HEADER_BYTES = 8;
+    private static final int SKIP_ENTRY_BYTES = 8;
+
+    private PostingList() {
+    }
+
+    static byte[] encode(int[] docs, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be > 0");
+        }
+        int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int skipEnd = HEADER_BYTES + blocks * SKIP_ENTRY_BYTES;
+        byte[] out = new byte[skipEnd + count * 5];
+        INT.set(out, 0, count);
+        INT.set(out, 4, blocks);
+
+        int pos = skipEnd;
+        for (int block = 0; block < blocks; block++) {
+            int start = block * BLOCK_SIZE;
+            int end = Math.min(count, start + BLOCK_SIZE);
+            INT.set(out, HEADER_BYTES + block * SKIP_ENTRY_BYTES, docs[start]);
+            INT.set(out, HEADER_BYTES + block * SKIP_ENTRY_BYTES + 4, pos);
+            for (int i = start + 1; i < end; i++) {
+                pos = writeVarInt(out, pos, docs[i] - docs[i - 1]);
+            }
+        }
+        return Arrays.copyOf(out, pos);
+    }
+
+    static int count(byte[] postings) {
+        return (int) INT.get(postings, 0);
+    }
+
+    static Cursor cursor(byte[] postings) {
+        return new Cursor(postings);
+    }
+
+    private static int writeVarInt(byte[] out, int pos, int value) {
+        while ((value & ~0x7F) != 0) {
+            out[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[pos++] = (byte) value;
+        return pos;
+    }
+
+    static final class Cursor {
+        private final byte[] data;
+        private final int blocks;
+        private final int count;
+        private int block = -1;
+        private int remainingInBlock;
+        private int pos;
+        private int doc = -1;
+
+        private Cursor(byte[] data) {
+            this.data = data;
+            this.count = (int) INT.get(data, 0);
+            this.blocks = (int) INT.get(data, 4);
+        }
+
+        int count() {
+            return count;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int next() {
+            if (doc == NO_MORE_DOCS) {
+                return doc;
+            }
+            if (remainingInBlock > 0) {
+                remainingInBlock--;
+                return doc += readVarInt();
+            }
+            if (block + 1 >= blocks) {
+                return doc = NO_MORE_DOCS;
+            }
+            return enterBlock(block + 1);
+        }
+
+        int advance(int target) {
+            if (doc >= target) {
+                return doc;
+            }
+            int candidate = lastBlockStartingAtOrBefore(target);
+            if (candidate > block) {
+                enterBlock(candidate);
+            }
+            while (doc < target) {
+                next();
+            }
+            return doc;
+        }
+
+        private int enterBlock(int newBlock) {
+            block = newBlock;
+            int entry = HEADER_BYTES + newBlock * SKIP_ENTRY_BYTES;
+            doc = (int) INT.get(data, entry);
+            pos = (int) INT.get(data, entry + 4);
+            remainingInBlock = Math.min(BLOCK_SIZE, count - newBlock * BLOCK_SIZE) - 1;
+            return doc;
+        }
+
+        private int lastBlockStartingAtOrBefore(int target) {
+            int lo = Math.max(block, 0);
+            int hi = blocks - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if ((int) INT.get(data, HEADER_BYTES + mid * SKIP_ENTRY_BYTES) <= target) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
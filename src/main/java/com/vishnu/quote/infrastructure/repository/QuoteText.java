@@ -0,0 +1,18 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.io.BufferedReader;
+import java.util.List;
+
+final class QuoteText {
+
+    private QuoteText() {
+    }
+
+    static List<String> parse(BufferedReader reader) {
+        return reader.lines()
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .filter(s -> !s.startsWith("#"))
+                .toList();
+    }
+}
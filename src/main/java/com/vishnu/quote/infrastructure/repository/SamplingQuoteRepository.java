@@ -0,0 +1,124 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteSampler;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks random quotes straight from a text file without loading or indexing it. Each attempt reads one
+ * window around a random byte offset with a positional read and takes the line that contains it. Landing
+ * in a line is proportional to its length, so a line is only accepted if the offset fell within its first
+ * {@code alignment} bytes; every line at least that long is then equally likely. Blank lines, {@code #}
+ * comments and lines longer than {@code maxLineBytes} are skipped by rejecting the attempt.
+ *
+ * <p>Memory use is one window per call, whatever the file size. There is no index to count or address
+ * quotes by, so it is a {@link QuoteSampler} only.
+ */
+public final class SamplingQuoteRepository implements QuoteSampler, AutoCloseable {
+
+    public static final int DEFAULT_ALIGNMENT = 16;
+    public static final int DEFAULT_MAX_LINE_BYTES = 4096;
+    private static final int MAX_ATTEMPTS = 10_000;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int alignment;
+    private final int maxLineBytes;
+
+    public SamplingQuoteRepository(Path file) {
+        this(file, DEFAULT_ALIGNMENT, DEFAULT_MAX_LINE_BYTES);
+    }
+
+    public SamplingQuoteRepository(Path file, int alignment, int maxLineBytes) {
+        this.file = Objects.requireNonNull(file, "file");
+        if (alignment <= 0) {
+            throw new IllegalArgumentException("alignment must be > 0");
+        }
+        if (maxLineBytes < alignment) {
+            throw new IllegalArgumentException("maxLineBytes must be >= alignment");
+        }
+        this.alignment = alignment;
+        this.maxLineBytes = maxLineBytes;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open quote file " + file, e);
+        }
+    }
+
+    @Override
+    public Optional<String> randomQuote() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ByteBuffer window = ByteBuffer.allocate(alignment + maxLineBytes + 1);
+        try {
+            long fileSize = channel.size();
+            if (fileSize == 0) {
+                return Optional.empty();
+            }
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                String quote = sample(random.nextLong(fileSize), fileSize, window);
+                if (quote != null) {
+                    return Optional.of(quote);
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read quote file " + file, e);
+        }
+    }
+
+    /**
+     * The quote on the line containing {@code offset}, or {@code null} if this attempt is rejected.
+     */
+    private String sample(long offset, long fileSize, ByteBuffer window) throws IOException {
+        // A line start further back than the alignment would be rejected anyway, so read no further back.
+        long windowStart = Math.max(0, offset - alignment);
+        window.clear();
+        while (window.hasRemaining()) {
+            if (channel.read(window, windowStart + window.position()) < 0) break;
+        }
+        byte[] bytes = window.array();
+        int limit = window.position();
+        int at = (int) (offset - windowStart);
+
+        int start = at;
+        while (start > 0 && bytes[start - 1] != '\n') {
+            start--;
+        }
+        if (at - start >= alignment) {
+            return null;
+        }
+        int end = at;
+        while (end < limit && bytes[end] != '\n') {
+            end++;
+        }
+        if (end == limit && windowStart + limit < fileSize) {
+            return null; // longer than maxLineBytes
+        }
+        String line = new String(bytes, start, end - start, StandardCharsets.UTF_8).trim();
+        return line.isEmpty() || line.startsWith("#") ? null : line;
+    }
+
+    @Override
+    public String description() {
+        return "file-sampling:" + file;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close quote file " + file, e);
+        }
+    }
+}
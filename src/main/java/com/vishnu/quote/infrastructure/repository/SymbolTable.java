@@ -0,0 +1,193 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FSST-style static symbol table: up to 255 symbols of 1..8 bytes, each encoded as a single code byte.
+ * Code {@value #ESCAPE} is followed by one literal byte that is not covered by the table.
+ */
+final class SymbolTable {
+
+    static final int MAX_SYMBOLS = 255;
+    static final int ESCAPE = 255;
+
+    private static final int MAX_SYMBOL_LENGTH = 8;
+    private static final int TRAINING_ROUNDS = 5;
+    private static final int MAX_SAMPLE_BYTES = 1 << 18;
+
+    private final long[] symbols;
+    private final byte[] lengths;
+    private final int[][] byFirstByte;
+
+    private SymbolTable(long[] symbols, byte[] lengths) {
+        this.symbols = symbols;
+        this.lengths = lengths;
+        this.byFirstByte = indexByFirstByte(symbols, lengths);
+    }
+
+    static SymbolTable train(List<byte[]> sample) {
+        List<byte[]> bounded = new ArrayList<>();
+        int budget = MAX_SAMPLE_BYTES;
+        for (byte[] text : sample) {
+            if (budget <= 0) break;
+            bounded.add(text);
+            budget -= text.length;
+        }
+
+        SymbolTable table = new SymbolTable(new long[0], new byte[0]);
+        for (int round = 0; round < TRAINING_ROUNDS; round++) {
+            table = table.refine(bounded);
+        }
+        return table;
+    }
+
+    int symbolCount() {
+        return symbols.length;
+    }
+
+    long sizeInBytes() {
+        return symbols.length * 9L;
+    }
+
+    int encode(byte[] in, byte[] out, int outPos) {
+        int pos = 0;
+        while (pos < in.length) {
+            int code = longestMatch(in, pos);
+            if (code < 0) {
+                out[outPos++] = (byte) ESCAPE;
+                out[outPos++] = in[pos++];
+            } else {
+                out[outPos++] = (byte) code;
+                pos += lengths[code];
+            }
+        }
+        return outPos;
+    }
+
+    /**
+     * Number of bytes {@link #decode} writes for {@code in[from, to)}, so callers can size the output exactly.
+     */
+    int decodedLength(byte[] in, int from, int to) {
+        int length = 0;
+        int pos = from;
+        while (pos < to) {
+            int code = in[pos++] & 0xFF;
+            if (code == ESCAPE) {
+                pos++;
+                length++;
+            } else {
+                length += lengths[code];
+            }
+        }
+        return length;
+    }
+
+    int decode(byte[] in, int from, int to, byte[] out) {
+        int outPos = 0;
+        int pos = from;
+        while (pos < to) {
+            int code = in[pos++] & 0xFF;
+            if (code == ESCAPE) {
+                out[outPos++] = in[pos++];
+                continue;
+            }
+            long symbol = symbols[code];
+            int len = lengths[code];
+            for (int i = 0; i < len; i++) {
+                out[outPos++] = (byte) (symbol >>> (i * 8));
+            }
+        }
+        return outPos;
+    }
+
+    private int longestMatch(byte[] in, int pos) {
+        int[] candidates = byFirstByte[in[pos] & 0xFF];
+        if (candidates == null) return -1;
+        long window = load(in, pos, Math.min(MAX_SYMBOL_LENGTH, in.length - pos));
+        int available = in.length - pos;
+        for (int code : candidates) {
+            int len = lengths[code];
+            if (len <= available && (window & mask(len)) == symbols[code]) {
+                return code;
+            }
+        }
+        return -1;
+    }
+
+    private SymbolTable refine(List<byte[]> sample) {
+        Map<Candidate, long[]> counts = new HashMap<>();
+        for (byte[] text : sample) {
+            int pos = 0;
+            Candidate previous = null;
+            while (pos < text.length) {
+                int code = longestMatch(text, pos);
+                Candidate current = code < 0
+                        ? new Candidate(text[pos] & 0xFFL, 1)
+                        : new Candidate(symbols[code], lengths[code]);
+                counts.computeIfAbsent(current, c -> new long[1])[0]++;
+                if (previous != null && previous.length() + current.length() <= MAX_SYMBOL_LENGTH) {
+                    counts.computeIfAbsent(previous.concat(current), c -> new long[1])[0]++;
+                }
+                previous = current;
+                pos += current.length();
+            }
+        }
+
+        List<Map.Entry<Candidate, long[]>> ranked = new ArrayList<>(counts.entrySet());
+        ranked.sort((a, b) -> Long.compare(gain(b), gain(a)));
+        int n = Math.min(MAX_SYMBOLS, ranked.size());
+        long[] newSymbols = new long[n];
+        byte[] newLengths = new byte[n];
+        for (int i = 0; i < n; i++) {
+            newSymbols[i] = ranked.get(i).getKey().symbol();
+            newLengths[i] = (byte) ranked.get(i).getKey().length();
+        }
+        return new SymbolTable(newSymbols, newLengths);
+    }
+
+    private static long gain(Map.Entry<Candidate, long[]> entry) {
+        return entry.getValue()[0] * entry.getKey().length();
+    }
+
+    private static int[][] indexByFirstByte(long[] symbols, byte[] lengths) {
+        List<List<Integer>> buckets = new ArrayList<>(256);
+        for (int i = 0; i < 256; i++) buckets.add(null);
+        for (int code = 0; code < symbols.length; code++) {
+            int first = (int) (symbols[code] & 0xFF);
+            if (buckets.get(first) == null) buckets.set(first, new ArrayList<>());
+            buckets.get(first).add(code);
+        }
+        int[][] index = new int[256][];
+        for (int b = 0; b < 256; b++) {
+            List<Integer> codes = buckets.get(b);
+            if (codes == null) continue;
+            index[b] = codes.stream()
+                    .sorted((x, y) -> Integer.compare(lengths[y], lengths[x]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+        return index;
+    }
+
+    private static long load(byte[] in, int pos, int len) {
+        long value = 0;
+        for (int i = 0; i < len; i++) {
+            value |= (in[pos + i] & 0xFFL) << (i * 8);
+        }
+        return value;
+    }
+
+    private static long mask(int length) {
+        return length >= MAX_SYMBOL_LENGTH ? -1L : (1L << (length * 8)) - 1;
+    }
+
+    private record Candidate(long symbol, int length) {
+
+        Candidate concat(Candidate next) {
+            return new Candidate(symbol | (next.symbol << (length * 8)), length + next.length);
+        }
+    }
+}
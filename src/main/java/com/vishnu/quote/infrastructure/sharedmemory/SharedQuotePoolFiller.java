@@ -0,0 +1,47 @@
+package com.vishnu.quote.infrastructure.sharedmemory;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+
+import java.util.Objects;
+
+public final class SharedQuotePoolFiller implements Runnable {
+
+    private final QuoteGenerator source;
+    private final SharedQuoteRing ring;
+    private final int batchSize;
+
+    public SharedQuotePoolFiller(QuoteGenerator source, SharedQuoteRing ring, int batchSize) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.ring = Objects.requireNonNull(ring, "ring");
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be > 0");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run() {
+        topUp();
+    }
+
+    public int topUp() {
+        int published = 0;
+        int attempts = Math.min(batchSize, ring.capacity() - ring.size());
+        for (int i = 0; i < attempts; i++) {
+            String quote;
+            try {
+                quote = source.generate();
+            } catch (RuntimeException e) {
+                break;
+            }
+            if (quote == null || quote.isBlank()) {
+                continue;
+            }
+            if (!ring.offer(quote.trim())) {
+                break;
+            }
+            published++;
+        }
+        return published;
+    }
+}
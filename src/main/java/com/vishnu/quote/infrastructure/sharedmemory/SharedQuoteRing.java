@@ -0,0 +1,264 @@
+package com.vishnu.quote.infrastructure.sharedmemory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bounded multi-producer/multi-consumer queue of quotes in a memory-mapped file, shared by every process
+ * that maps the same path. Slots carry a sequence number (Vyukov's bounded MPMC queue), so producers and
+ * consumers coordinate with CAS on the shared positions only.
+ *
+ * <p>A process that dies after claiming a position but before publishing its slot would leave every other
+ * process waiting on that slot forever. When the next slot a caller needs has been claimed but not
+ * published for {@code reclaimAfter}, the caller takes it back: a dead producer's slot is skipped, a dead
+ * consumer's slot is freed. Claiming and publishing are a handful of stores with no blocking in between,
+ * so a claimant silent that long is taken to be dead; a process merely suspended for longer than that
+ * (stopped in a debugger, say) can corrupt the slot it held when it resumes.
+ */
+public final class SharedQuoteRing implements AutoCloseable {
+
+    private static final int MAGIC = 0x5152_4E47;
+    private static final int VERSION = 1;
+    private static final int ENQUEUE_OFFSET = 64;
+    private static final int DEQUEUE_OFFSET = 128;
+    private static final int SLOTS_OFFSET = 192;
+    private static final int SLOT_HEADER_BYTES = 12;
+    private static final Duration DEFAULT_RECLAIM_AFTER = Duration.ofSeconds(1);
+
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int slotBytes;
+    private final StallWatch unpublished;
+    private final StallWatch unreleased;
+
+    private SharedQuoteRing(Path path, FileChannel channel, MappedByteBuffer buffer, int capacity, int slotBytes,
+                            long reclaimAfterNanos) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slotBytes = slotBytes;
+        this.unpublished = new StallWatch(reclaimAfterNanos);
+        this.unreleased = new StallWatch(reclaimAfterNanos);
+    }
+
+    /**
+     * Reclaims slots left claimed by a dead process after one second.
+     */
+    public static SharedQuoteRing open(Path path, int capacity, int slotBytes) {
+        return open(path, capacity, slotBytes, DEFAULT_RECLAIM_AFTER);
+    }
+
+    public static SharedQuoteRing open(Path path, int capacity, int slotBytes, Duration reclaimAfter) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(reclaimAfter, "reclaimAfter");
+        if (reclaimAfter.isNegative() || reclaimAfter.isZero()) {
+            throw new IllegalArgumentException("reclaimAfter must be > 0");
+        }
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a positive power of two");
+        }
+        if (slotBytes < SLOT_HEADER_BYTES + 4 || slotBytes % 8 != 0) {
+            throw new IllegalArgumentException("slotBytes must be a multiple of 8 and >= 16");
+        }
+        long fileSize = SLOTS_OFFSET + (long) capacity * slotBytes;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("ring does not fit in a single mapping");
+        }
+
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer;
+            FileLock lock = channel.lock();
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+                // MAGIC is written last, so a zero here means no opener finished initializing the file,
+                // either because it is new or because the process that created it died part way.
+                if ((int) INT.getAcquire(buffer, 0) == 0) {
+                    initialize(buffer, capacity, slotBytes);
+                } else {
+                    validate(path, buffer, capacity, slotBytes);
+                }
+            } finally {
+                lock.release();
+            }
+            return new SharedQuoteRing(path, channel, buffer, capacity, slotBytes, reclaimAfter.toNanos());
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Cannot open shared quote ring: " + path, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    public boolean offer(String quote) {
+        Objects.requireNonNull(quote, "quote");
+        byte[] bytes = quote.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > slotBytes - SLOT_HEADER_BYTES) {
+            return false;
+        }
+
+        long pos = (long) LONG.getVolatile(buffer, ENQUEUE_OFFSET);
+        int slot;
+        while (true) {
+            slot = slotOffset(pos);
+            long seq = (long) LONG.getAcquire(buffer, slot);
+            long dif = seq - pos;
+            if (dif == 0) {
+                if (LONG.compareAndSet(buffer, ENQUEUE_OFFSET, pos, pos + 1)) break;
+            } else if (dif < 0) {
+                // Full, unless a consumer claimed the slot a lap ago and never released it.
+                long consumed = pos - capacity;
+                if ((long) LONG.getVolatile(buffer, DEQUEUE_OFFSET) <= consumed
+                        || !unreleased.stalledFor(pos)
+                        || !LONG.compareAndSet(buffer, slot, consumed + 1, pos)) {
+                    return false;
+                }
+                continue;
+            }
+            pos = (long) LONG.getVolatile(buffer, ENQUEUE_OFFSET);
+        }
+
+        INT.set(buffer, slot + 8, bytes.length);
+        buffer.put(slot + SLOT_HEADER_BYTES, bytes, 0, bytes.length);
+        LONG.setRelease(buffer, slot, pos + 1);
+        return true;
+    }
+
+    public Optional<String> poll() {
+        long pos = (long) LONG.getVolatile(buffer, DEQUEUE_OFFSET);
+        int slot;
+        while (true) {
+            slot = slotOffset(pos);
+            long seq = (long) LONG.getAcquire(buffer, slot);
+            long dif = seq - (pos + 1);
+            if (dif == 0) {
+                if (LONG.compareAndSet(buffer, DEQUEUE_OFFSET, pos, pos + 1)) break;
+            } else if (dif < 0) {
+                // Empty, unless a producer claimed the slot and never published it; then skip the slot.
+                if ((long) LONG.getVolatile(buffer, ENQUEUE_OFFSET) <= pos
+                        || !unpublished.stalledFor(pos)
+                        || !LONG.compareAndSet(buffer, slot, pos, pos + capacity)) {
+                    return Optional.empty();
+                }
+                LONG.compareAndSet(buffer, DEQUEUE_OFFSET, pos, pos + 1);
+            }
+            pos = (long) LONG.getVolatile(buffer, DEQUEUE_OFFSET);
+        }
+
+        int length = (int) INT.get(buffer, slot + 8);
+        if (length < 0 || length > slotBytes - SLOT_HEADER_BYTES) {
+            // Another process wrote this slot wrongly; drop it rather than trust the length.
+            LONG.setRelease(buffer, slot, pos + capacity);
+            return Optional.empty();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(slot + SLOT_HEADER_BYTES, bytes, 0, length);
+        LONG.setRelease(buffer, slot, pos + capacity);
+        return Optional.of(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    public int size() {
+        long dequeued = (long) LONG.getVolatile(buffer, DEQUEUE_OFFSET);
+        long enqueued = (long) LONG.getVolatile(buffer, ENQUEUE_OFFSET);
+        return (int) Math.max(0, Math.min(capacity, enqueued - dequeued));
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(channel);
+    }
+
+    private int slotOffset(long pos) {
+        return SLOTS_OFFSET + (int) (pos & mask) * slotBytes;
+    }
+
+    private static void initialize(MappedByteBuffer buffer, int capacity, int slotBytes) {
+        INT.set(buffer, 4, VERSION);
+        INT.set(buffer, 8, capacity);
+        INT.set(buffer, 12, slotBytes);
+        LONG.set(buffer, ENQUEUE_OFFSET, 0L);
+        LONG.set(buffer, DEQUEUE_OFFSET, 0L);
+        for (int i = 0; i < capacity; i++) {
+            LONG.set(buffer, SLOTS_OFFSET + i * slotBytes, (long) i);
+        }
+        INT.setRelease(buffer, 0, MAGIC);
+        buffer.force();
+    }
+
+    private static void validate(Path path, MappedByteBuffer buffer, int capacity, int slotBytes) {
+        if ((int) INT.getAcquire(buffer, 0) != MAGIC || (int) INT.get(buffer, 4) != VERSION) {
+            throw new IllegalStateException("Not a shared quote ring: " + path);
+        }
+        int existingCapacity = (int) INT.get(buffer, 8);
+        int existingSlotBytes = (int) INT.get(buffer, 12);
+        if (existingCapacity != capacity || existingSlotBytes != slotBytes) {
+            throw new IllegalStateException("Shared quote ring " + path + " has capacity " + existingCapacity
+                    + " and slotBytes " + existingSlotBytes + ", expected " + capacity + " and " + slotBytes);
+        }
+    }
+
+    /**
+     * Tracks how long this process has seen one position stuck. Each process times stalls on its own, so
+     * nothing extra is written to the shared file.
+     */
+    private static final class StallWatch {
+
+        private final long thresholdNanos;
+        private volatile Stall stall;
+
+        StallWatch(long thresholdNanos) {
+            this.thresholdNanos = thresholdNanos;
+        }
+
+        boolean stalledFor(long pos) {
+            long now = System.nanoTime();
+            Stall current = stall;
+            if (current == null || current.pos() != pos) {
+                stall = new Stall(pos, now);
+                return false;
+            }
+            return now - current.since() >= thresholdNanos;
+        }
+
+        private record Stall(long pos, long since) {
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.vishnu.quote.infrastructure.sharedmemory;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+
+import java.util.Objects;
+
+public final class SharedRingQuoteGenerator implements QuoteGenerator {
+
+    private final SharedQuoteRing ring;
+
+    public SharedRingQuoteGenerator(SharedQuoteRing ring) {
+        this.ring = Objects.requireNonNull(ring, "ring");
+    }
+
+    @Override
+    public String generate() {
+        return ring.poll()
+                .orElseThrow(() -> new IllegalStateException("Shared quote pool is empty: " + ring.path()));
+    }
+}
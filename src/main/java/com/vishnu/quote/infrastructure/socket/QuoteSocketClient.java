@@ -0,0 +1,152 @@
+package com.vishnu.quote.infrastructure.socket;
+
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client for {@link QuoteSocketServer}. It is safe to share between threads: calls from different threads
+ * are pipelined on the one connection and matched to their answers by id.
+ */
+public final class QuoteSocketClient implements AutoCloseable {
+
+    private final SocketChannel socket;
+    private final Map<Integer, CompletableFuture<String>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ByteBuffer out = ByteBuffer.allocateDirect(QuoteSocketProtocol.MAX_FRAME_BYTES);
+
+    private QuoteSocketClient(SocketChannel socket) {
+        this.socket = socket;
+        Thread.ofVirtual().name("quote-socket-client").start(this::readLoop);
+    }
+
+    public static QuoteSocketClient connect(Path path) {
+        Objects.requireNonNull(path, "path");
+        try {
+            SocketChannel socket = SocketChannel.open(StandardProtocolFamily.UNIX);
+            socket.connect(UnixDomainSocketAddress.of(path));
+            return new QuoteSocketClient(socket);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot connect to quote socket " + path, e);
+        }
+    }
+
+    public String randomQuote(QuoteRequest request) {
+        return join(randomQuoteAsync(request));
+    }
+
+    public CompletableFuture<String> randomQuoteAsync(QuoteRequest request) {
+        return send(Objects.requireNonNull(request, "request"));
+    }
+
+    /**
+     * Round trip with no work on the server; useful as a liveness check.
+     */
+    public void ping() {
+        join(send(null));
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close quote socket", e);
+        } finally {
+            failPending(new IOException("Quote socket closed"));
+        }
+    }
+
+    private CompletableFuture<String> send(QuoteRequest request) {
+        int id = nextId.incrementAndGet();
+        CompletableFuture<String> answer = new CompletableFuture<>();
+        pending.put(id, answer);
+        writeLock.lock();
+        try {
+            out.clear();
+            QuoteSocketProtocol.writeRequest(out, id, request);
+            out.flip();
+            while (out.hasRemaining()) {
+                socket.write(out);
+            }
+        } catch (IOException e) {
+            pending.remove(id);
+            answer.completeExceptionally(new UncheckedIOException("Cannot send quote request", e));
+        } finally {
+            writeLock.unlock();
+        }
+        return answer;
+    }
+
+    private void readLoop() {
+        ByteBuffer in = ByteBuffer.allocate(QuoteSocketProtocol.MAX_FRAME_BYTES * 2);
+        try {
+            while (socket.read(in) >= 0) {
+                in.flip();
+                int length;
+                while ((length = QuoteSocketProtocol.completeFrame(in)) >= 0) {
+                    in.getInt();
+                    int end = in.position() + length;
+                    int id = in.getInt();
+                    byte status = in.get();
+                    String text = QuoteSocketProtocol.getString(in);
+                    in.position(end);
+                    complete(id, status, text);
+                }
+                in.compact();
+            }
+            failPending(new IOException("Quote socket closed by server"));
+        } catch (IOException | RuntimeException e) {
+            failPending(e);
+        }
+    }
+
+    private void complete(int id, byte status, String text) {
+        CompletableFuture<String> answer = pending.remove(id);
+        if (answer == null) {
+            return;
+        }
+        switch (status) {
+            case QuoteSocketProtocol.STATUS_OK -> answer.complete(text);
+            case QuoteSocketProtocol.STATUS_BAD_REQUEST -> answer.completeExceptionally(new IllegalArgumentException(text));
+            default -> answer.completeExceptionally(new IllegalStateException(text));
+        }
+    }
+
+    private void failPending(Exception cause) {
+        RuntimeException failure = cause instanceof IOException io
+                ? new UncheckedIOException(io.getMessage(), io)
+                : (RuntimeException) cause;
+        for (Integer id : pending.keySet()) {
+            CompletableFuture<String> answer = pending.remove(id);
+            if (answer != null) {
+                answer.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private static String join(CompletableFuture<String> answer) {
+        try {
+            return answer.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.vishnu.quote.infrastructure.socket;
+
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wire format shared by {@link QuoteSocketServer} and {@link QuoteSocketClient}. Every frame is a big-endian
+ * {@code int} length followed by that many bytes:
+ *
+ * <pre>
+ * request  := id:int op:byte [topic:str tone:str maxLength:int]   (op RANDOM carries the request fields)
+ * response := id:int status:byte text:str
+ * str      := length:unsigned short, UTF-8 bytes (length 0 means "not set")
+ * </pre>
+ *
+ * Ids are chosen by the client and echoed back, so a client may pipeline many requests on one connection
+ * and match answers that arrive out of order.
+ */
+final class QuoteSocketProtocol {
+
+    static final byte OP_PING = 0;
+    static final byte OP_RANDOM = 1;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+    static final byte STATUS_BAD_REQUEST = 2;
+
+    static final int MAX_FRAME_BYTES = 64 * 1024;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    private QuoteSocketProtocol() {
+    }
+
+    static void writeRequest(ByteBuffer out, int id, QuoteRequest request) {
+        int start = out.position();
+        out.putInt(0).putInt(id);
+        if (request == null) {
+            out.put(OP_PING);
+        } else {
+            out.put(OP_RANDOM);
+            putString(out, request.topic());
+            putString(out, request.tone());
+            out.putInt(request.maxLength());
+        }
+        out.putInt(start, out.position() - start - Integer.BYTES);
+    }
+
+    static void writeResponse(ByteBuffer out, int id, byte status, String text) {
+        int start = out.position();
+        out.putInt(0).putInt(id).put(status);
+        putString(out, text);
+        out.putInt(start, out.position() - start - Integer.BYTES);
+    }
+
+    /**
+     * Upper bound on the encoded size of a response carrying {@code text}.
+     */
+    static int responseSize(String text) {
+        return Integer.BYTES * 2 + 1 + Short.BYTES + Math.min(MAX_STRING_BYTES, text == null ? 0 : text.length() * 3);
+    }
+
+    /**
+     * Returns the body length of the next complete frame in {@code in}, or -1 if more bytes are needed.
+     * Throws {@link IllegalStateException} for frames larger than {@link #MAX_FRAME_BYTES}.
+     */
+    static int completeFrame(ByteBuffer in) {
+        if (in.remaining() < Integer.BYTES) {
+            return -1;
+        }
+        int length = in.getInt(in.position());
+        if (length < 0 || length > MAX_FRAME_BYTES) {
+            throw new IllegalStateException("Invalid frame length: " + length);
+        }
+        return in.remaining() - Integer.BYTES >= length ? length : -1;
+    }
+
+    static QuoteRequest readRequestBody(ByteBuffer body) {
+        String topic = getString(body);
+        String tone = getString(body);
+        int maxLength = body.getInt();
+        return new QuoteRequest(topic, tone, maxLength);
+    }
+
+    static void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putShort((short) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_STRING_BYTES);
+        out.putShort((short) length).put(bytes, 0, length);
+    }
+
+    /**
+     * Throws {@link BufferUnderflowException} if the declared length runs past the end of {@code in}.
+     */
+    static String getString(ByteBuffer in) {
+        int length = Short.toUnsignedInt(in.getShort());
+        if (length == 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
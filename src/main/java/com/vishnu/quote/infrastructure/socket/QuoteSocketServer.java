@@ -0,0 +1,217 @@
+package com.vishnu.quote.infrastructure.socket;
+
+import com.vishnu.quote.application.QuoteService;
+import com.vishnu.quote.domain.QuoteRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves quotes to processes on the same host over a Unix domain socket using {@link QuoteSocketProtocol}.
+ * Each connection gets a virtual thread that reads every complete frame from a single {@code read}, and
+ * each request is answered on its own virtual thread so a slow AI call does not hold up the requests
+ * pipelined behind it. Responses that are ready at the same time go out in one {@code write}.
+ *
+ * <p>A connection has at most {@link #MAX_IN_FLIGHT} quote requests running at once. Past that the server
+ * stops reading from it until one finishes, so a client that pipelines faster than quotes are generated
+ * is slowed down by the socket buffers instead of growing the response queue without bound.
+ */
+public final class QuoteSocketServer implements AutoCloseable {
+
+    static final int MAX_IN_FLIGHT = 256;
+
+    private final ServerSocketChannel channel;
+    private final Path path;
+    private final QuoteService service;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+
+    private QuoteSocketServer(ServerSocketChannel channel, Path path, QuoteService service) {
+        this.channel = channel;
+        this.path = path;
+        this.service = service;
+    }
+
+    /**
+     * Binds to {@code path}, replacing a stale socket file left behind by a previous run.
+     */
+    public static QuoteSocketServer start(Path path, QuoteService service) {
+        Objects.requireNonNull(path, "path");
+        Objects.requireNonNull(service, "service");
+        try {
+            Files.deleteIfExists(path);
+            ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            channel.bind(UnixDomainSocketAddress.of(path));
+            QuoteSocketServer server = new QuoteSocketServer(channel, path, service);
+            server.executor.execute(server::acceptLoop);
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot bind quote socket to " + path, e);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+            for (SocketChannel connection : connections) {
+                connection.close();
+            }
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close quote socket " + path, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void acceptLoop() {
+        while (channel.isOpen()) {
+            try {
+                SocketChannel connection = channel.accept();
+                connections.add(connection);
+                executor.execute(() -> new Connection(connection).serve());
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private record Response(int id, byte status, String text) {
+    }
+
+    private final class Connection {
+
+        private final SocketChannel socket;
+        private final Queue<Response> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+        private final ByteBuffer out = ByteBuffer.allocateDirect(QuoteSocketProtocol.MAX_FRAME_BYTES * 2);
+
+        private Connection(SocketChannel socket) {
+            this.socket = socket;
+        }
+
+        private void serve() {
+            ByteBuffer in = ByteBuffer.allocate(QuoteSocketProtocol.MAX_FRAME_BYTES * 2);
+            try (socket) {
+                while (socket.read(in) >= 0) {
+                    in.flip();
+                    int length;
+                    while ((length = QuoteSocketProtocol.completeFrame(in)) >= 0) {
+                        in.getInt();
+                        ByteBuffer body = in.slice(in.position(), length);
+                        in.position(in.position() + length);
+                        dispatch(body);
+                    }
+                    in.compact();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // peer went away or sent a malformed frame; the connection is closed either way
+            } catch (InterruptedException e) {
+                // the server is closing
+            } finally {
+                connections.remove(socket);
+            }
+        }
+
+        private void dispatch(ByteBuffer body) throws InterruptedException {
+            if (body.remaining() < Integer.BYTES + 1) {
+                throw new IllegalStateException("Truncated request frame");
+            }
+            int id = body.getInt();
+            byte op = body.get();
+            if (op == QuoteSocketProtocol.OP_PING) {
+                reply(new Response(id, QuoteSocketProtocol.STATUS_OK, null));
+                return;
+            }
+            if (op != QuoteSocketProtocol.OP_RANDOM) {
+                reply(new Response(id, QuoteSocketProtocol.STATUS_BAD_REQUEST, "Unknown operation " + op));
+                return;
+            }
+            QuoteRequest request;
+            try {
+                request = QuoteSocketProtocol.readRequestBody(body);
+            } catch (BufferUnderflowException | IllegalArgumentException e) {
+                reply(new Response(id, QuoteSocketProtocol.STATUS_BAD_REQUEST, "Invalid request"));
+                return;
+            }
+            inFlight.acquire();
+            executor.execute(() -> {
+                try {
+                    reply(new Response(id, QuoteSocketProtocol.STATUS_OK, service.motivationalQuote(request)));
+                } catch (RuntimeException e) {
+                    reply(new Response(id, QuoteSocketProtocol.STATUS_ERROR, String.valueOf(e.getMessage())));
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+
+        /**
+         * Queues a response; the first thread to arrive writes out everything queued, including responses
+         * added by other threads while it was writing. Once a write fails the socket is closed and later
+         * responses are dropped.
+         */
+        private void reply(Response response) {
+            if (!socket.isOpen()) {
+                return;
+            }
+            outbox.add(response);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            try {
+                do {
+                    flush();
+                    missed = wip.addAndGet(-missed);
+                } while (missed != 0);
+            } catch (IOException e) {
+                try {
+                    socket.close();
+                } catch (IOException ignored) {
+                }
+                outbox.clear();
+                wip.set(0);
+            }
+        }
+
+        private void flush() throws IOException {
+            Response next;
+            while ((next = outbox.peek()) != null) {
+                out.clear();
+                while (next != null && out.remaining() >= QuoteSocketProtocol.responseSize(next.text())) {
+                    QuoteSocketProtocol.writeResponse(out, next.id(), next.status(), next.text());
+                    outbox.poll();
+                    next = outbox.peek();
+                }
+                out.flip();
+                while (out.hasRemaining()) {
+                    socket.write(out);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.CacheableQuote;
+import com.vishnu.quote.domain.QuotePeriod;
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.infrastructure.repository.IndexedQuoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("DeterministicQuoteSelector")
+final class DeterministicQuoteSelectorTest {
+
+    private static final Instant MORNING = Instant.parse("2026-03-10T08:15:00Z");
+    private static final QuoteRepository CORPUS = new IndexedQuoteRepository(
+            "test", IntStream.range(0, 1_000).mapToObj(i -> "Quote " + i).toList()
+    );
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_repositoryIsNull() {
+            NullPointerException ex = assertThrows(
+                    NullPointerException.class,
+                    () -> new DeterministicQuoteSelector(null, Clock.systemUTC())
+            );
+            assertEquals("repository", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("quoteFor()")
+    final class QuoteFor {
+
+        @Test
+        void should_returnSameQuote_forSameKeyWithinPeriod() {
+            CacheableQuote morning = at(MORNING).quoteFor("tenant-a", QuotePeriod.DAY).orElseThrow();
+            CacheableQuote evening = at(Instant.parse("2026-03-10T22:59:59Z")).quoteFor("tenant-a", QuotePeriod.DAY).orElseThrow();
+
+            assertEquals(morning, evening);
+        }
+
+        @Test
+        void should_spreadKeysAndDaysAcrossTheCorpus() {
+            Set<String> byKey = new HashSet<>();
+            Set<String> byDay = new HashSet<>();
+            for (int i = 0; i < 200; i++) {
+                byKey.add(at(MORNING).quoteFor("user-" + i, QuotePeriod.DAY).orElseThrow().quote());
+                byDay.add(at(MORNING.plusSeconds(86_400L * i)).quoteFor("user-1", QuotePeriod.DAY).orElseThrow().quote());
+            }
+
+            assertTrue(byKey.size() > 150, "distinct quotes across keys: " + byKey.size());
+            assertTrue(byDay.size() > 150, "distinct quotes across days: " + byDay.size());
+        }
+
+        @Test
+        void should_expireAtEndOfPeriod_andAdvertiseRemainingLifetime() {
+            CacheableQuote quote = at(MORNING).quoteFor("tenant-a", QuotePeriod.DAY).orElseThrow();
+
+            assertEquals(Instant.parse("2026-03-11T00:00:00Z"), quote.expiresAt());
+            assertEquals("public, max-age=56700", quote.cacheControl(MORNING));
+            assertEquals("public, max-age=0", quote.cacheControl(quote.expiresAt().plusSeconds(5)));
+        }
+
+        @Test
+        void should_useStrongEtagDerivedFromQuoteText() {
+            CacheableQuote quote = at(MORNING).quoteFor("tenant-a", QuotePeriod.HOUR).orElseThrow();
+
+            assertTrue(quote.etag().matches("\"[0-9a-f]{16}\""), quote.etag());
+            assertTrue(quote.matches(quote.etag()));
+            assertTrue(quote.matches("\"other\", " + quote.etag()));
+            assertFalse(quote.matches("W/" + quote.etag()));
+            assertFalse(quote.matches(null));
+        }
+
+        @Test
+        void should_returnEmpty_when_repositoryIsEmpty() {
+            QuoteRepository empty = mock(QuoteRepository.class);
+
+            assertTrue(new DeterministicQuoteSelector(empty, Clock.systemUTC()).quoteFor("k", QuotePeriod.DAY).isEmpty());
+            verify(empty, never()).quoteAt(anyInt());
+        }
+
+        @Test
+        void should_startWeeksOnMonday() {
+            CacheableQuote quote = at(MORNING).quoteFor("tenant-a", QuotePeriod.WEEK).orElseThrow();
+
+            assertEquals(Instant.parse("2026-03-16T00:00:00Z"), quote.expiresAt());
+        }
+    }
+
+    private static DeterministicQuoteSelector at(Instant now) {
+        return new DeterministicQuoteSelector(CORPUS, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
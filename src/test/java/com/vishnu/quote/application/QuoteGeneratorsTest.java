@@ -0,0 +1,114 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.infrastructure.journal.QuoteJournal;
+import com.vishnu.quote.infrastructure.repository.IndexedQuoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteGenerators")
+final class QuoteGeneratorsTest {
+
+    private static final String CORPUS_QUOTE = "Small steps still move you forward.";
+    private static final Duration AI_BUDGET = Duration.ofSeconds(1);
+
+    private final AiTextClient failingAi = prompt -> {
+        throw new IllegalStateException("upstream down");
+    };
+    private final List<String> seenByDecorator = new CopyOnWriteArrayList<>();
+
+    @Nested
+    @DisplayName("aiWithRepositoryFallback(..., decorateAi)")
+    final class RepositoryFallback {
+
+        @Test
+        void should_keepFallbackQuotesAwayFromTheDecorator_when_aiFails() {
+            QuoteGenerator generator = QuoteGenerators.aiWithRepositoryFallback(
+                    failingAi, corpus(), AI_BUDGET, null, recording());
+
+            assertEquals(CORPUS_QUOTE, generator.generate());
+            assertEquals(CORPUS_QUOTE, generator.generate(QuoteRequest.about("focus"), Deadline.none()));
+            assertTrue(seenByDecorator.isEmpty(), "decorator saw " + seenByDecorator);
+        }
+
+        @Test
+        void should_serveTheDecoratedAiQuote_when_decoratorAnswers() {
+            QuoteGenerator generator = QuoteGenerators.aiWithRepositoryFallback(
+                    failingAi, corpus(), AI_BUDGET, null, ai -> () -> "Prefetched quotes answer first.");
+
+            assertEquals("Prefetched quotes answer first.", generator.generate());
+        }
+    }
+
+    @Nested
+    @DisplayName("aiWithJournalFallback(..., decorateAi)")
+    final class JournalFallback {
+
+        @TempDir
+        Path dir;
+
+        @Test
+        void should_journalDecoratedQuotes_when_served() {
+            try (QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                QuoteGenerator generator = QuoteGenerators.aiWithJournalFallback(
+                        failingAi, journal, corpus(), AI_BUDGET, null, ai -> () -> "Journaled once it is served.");
+
+                assertEquals("Journaled once it is served.", generator.generate());
+            }
+            try (QuoteJournal reopened = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                assertEquals(1, reopened.size());
+                assertEquals("Journaled once it is served.", reopened.quoteAt(0));
+            }
+        }
+
+        @Test
+        void should_keepFallbackQuotesAwayFromTheDecorator_when_aiFails() {
+            try (QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                QuoteGenerator generator = QuoteGenerators.aiWithJournalFallback(
+                        failingAi, journal, corpus(), AI_BUDGET, null, recording());
+
+                assertEquals(CORPUS_QUOTE, generator.generate());
+                assertTrue(seenByDecorator.isEmpty(), "decorator saw " + seenByDecorator);
+            }
+        }
+    }
+
+    private static IndexedQuoteRepository corpus() {
+        return new IndexedQuoteRepository("corpus", List.of(CORPUS_QUOTE));
+    }
+
+    /**
+     * Stands in for a prefetching pool: records every quote the decorated AI hands back.
+     */
+    private UnaryOperator<QuoteGenerator> recording() {
+        return ai -> new QuoteGenerator() {
+            @Override
+            public String generate() {
+                return seen(ai.generate());
+            }
+
+            @Override
+            public String generate(QuoteRequest request, Deadline deadline) {
+                return seen(ai.generate(request, deadline));
+            }
+        };
+    }
+
+    private String seen(String quote) {
+        seenByDecorator.add(quote);
+        return quote;
+    }
+}
@@ -0,0 +1,280 @@
+package com.vishnu.quote.application;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuotePublisher")
+final class QuotePublisherTest {
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxBatchIsNotPositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new QuotePublisher(() -> "q", QuoteRequest.any(), Runnable::run, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("demand")
+    final class Demand {
+
+        @Test
+        void should_generateNothing_when_subscriberRequestsNothing() {
+            BatchRecordingGenerator generator = new BatchRecordingGenerator();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 8).subscribe(subscriber);
+
+            assertEquals(List.of(), generator.batches);
+            assertTrue(subscriber.items.isEmpty());
+        }
+
+        @Test
+        void should_generateExactlyWhatIsRequested_when_demandIsSmall() {
+            BatchRecordingGenerator generator = new BatchRecordingGenerator();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 8).subscribe(subscriber);
+
+            subscriber.subscription.request(3);
+
+            assertEquals(List.of("q1", "q2", "q3"), subscriber.items);
+            assertEquals(List.of(3), generator.batches);
+        }
+
+        @Test
+        void should_batchUpstreamCallsUpToMaxBatch_when_demandIsLarge() {
+            BatchRecordingGenerator generator = new BatchRecordingGenerator();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 16).subscribe(subscriber);
+
+            subscriber.subscription.request(40);
+
+            assertEquals(40, subscriber.items.size());
+            assertEquals(List.of(16, 16, 8), generator.batches);
+        }
+
+        @Test
+        void should_holdSurplusUntilRequested_when_generatorReturnsPartialBatch() {
+            AtomicInteger counter = new AtomicInteger();
+            QuoteGenerator generator = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    return "q" + counter.incrementAndGet();
+                }
+
+                @Override
+                public List<String> generateBatch(QuoteRequest request, int count) {
+                    return List.of(generate());
+                }
+            };
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 8).subscribe(subscriber);
+
+            subscriber.subscription.request(3);
+
+            assertEquals(List.of("q1", "q2", "q3"), subscriber.items);
+            assertEquals(3, counter.get());
+        }
+
+        @Test
+        void should_notOverflowStack_when_subscriberRequestsOneAtATimeSynchronously() {
+            QuoteGenerator generator = () -> "q";
+            AtomicInteger received = new AtomicInteger();
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 1).subscribe(new Flow.Subscriber<>() {
+                private Flow.Subscription subscription;
+
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(String item) {
+                    if (received.incrementAndGet() < 50_000) {
+                        subscription.request(1);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    fail(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+
+            assertEquals(50_000, received.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("termination")
+    final class Termination {
+
+        @Test
+        void should_signalOnError_when_generatorFails() {
+            RuntimeException failure = new RuntimeException("upstream down");
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(() -> {
+                throw failure;
+            }, QuoteRequest.any(), Runnable::run, 4).subscribe(subscriber);
+
+            subscriber.subscription.request(2);
+
+            assertSame(failure, subscriber.error);
+        }
+
+        @Test
+        void should_signalIllegalArgumentException_when_requestIsNotPositive() {
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(() -> "q", QuoteRequest.any(), Runnable::run, 4).subscribe(subscriber);
+
+            subscriber.subscription.request(0);
+
+            assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        }
+
+        @Test
+        void should_stopDelivering_when_cancelled() {
+            BatchRecordingGenerator generator = new BatchRecordingGenerator();
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            new QuotePublisher(generator, QuoteRequest.any(), Runnable::run, 4).subscribe(subscriber);
+            subscriber.subscription.request(2);
+
+            subscriber.subscription.cancel();
+            subscriber.subscription.request(5);
+
+            assertEquals(2, subscriber.items.size());
+            assertEquals(List.of(2), generator.batches);
+        }
+
+        @Test
+        void should_interruptInFlightCall_when_cancelled() throws InterruptedException {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch interrupted = new CountDownLatch(1);
+            QuoteGenerator blocking = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "late";
+            };
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                new QuotePublisher(blocking, QuoteRequest.any(), executor, 4).subscribe(subscriber);
+                subscriber.subscription.request(1);
+                assertTrue(started.await(5, TimeUnit.SECONDS));
+
+                subscriber.subscription.cancel();
+
+                assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            }
+            assertTrue(subscriber.items.isEmpty());
+            assertNull(subscriber.error);
+        }
+    }
+
+    @Nested
+    @DisplayName("QuoteService")
+    final class Service {
+
+        @Test
+        void should_streamQuotesForRequest_when_subscribedThroughService() throws InterruptedException {
+            List<QuoteRequest> seen = Collections.synchronizedList(new ArrayList<>());
+            QuoteGenerator generator = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    return "any";
+                }
+
+                @Override
+                public String generate(QuoteRequest request) {
+                    seen.add(request);
+                    return "about " + request.topic();
+                }
+            };
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+            CountDownLatch done = subscriber.expect(5);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                new QuoteService(generator).motivationalQuotes(QuoteRequest.about("focus"), executor).subscribe(subscriber);
+                subscriber.subscription.request(5);
+
+                assertTrue(done.await(5, TimeUnit.SECONDS));
+            }
+            assertEquals(List.of("about focus", "about focus", "about focus", "about focus", "about focus"), subscriber.items);
+            assertEquals(5, seen.size());
+        }
+    }
+
+    private static final class BatchRecordingGenerator implements QuoteGenerator {
+        private final List<Integer> batches = new ArrayList<>();
+        private int counter;
+
+        @Override
+        public String generate() {
+            return "q" + ++counter;
+        }
+
+        @Override
+        public List<String> generateBatch(QuoteRequest request, int count) {
+            batches.add(count);
+            return QuoteGenerator.super.generateBatch(request, count);
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+        private final List<String> items = Collections.synchronizedList(new ArrayList<>());
+        private volatile Flow.Subscription subscription;
+        private volatile Throwable error;
+        private volatile CountDownLatch latch = new CountDownLatch(0);
+
+        CountDownLatch expect(int count) {
+            latch = new CountDownLatch(count);
+            return latch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+            latch.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            fail("quote stream never completes");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.vishnu.quote.application;
 
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.domain.ServedQuoteListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -20,6 +25,9 @@ final class QuoteServiceTest {
     @Mock
     private QuoteGenerator generator;
 
+    @Mock
+    private ServedQuoteListener listener;
+
     @InjectMocks
     private QuoteService quoteService;
 
@@ -30,6 +38,11 @@ final class QuoteServiceTest {
         void should_throwNullPointerException_when_generatorIsNull() {
             assertThrows(NullPointerException.class, () -> new QuoteService(null));
         }
+
+        @Test
+        void should_throwNullPointerException_when_listenerIsNull() {
+            assertThrows(NullPointerException.class, () -> new QuoteService(generator, null));
+        }
     }
 
     @Nested
@@ -64,4 +77,60 @@ final class QuoteServiceTest {
             verifyNoMoreInteractions(generator);
         }
     }
+
+    @Nested
+    @DisplayName("motivationalQuote(QuoteRequest)")
+    final class MotivationalQuote {
+
+        @Test
+        void should_delegateToParameterizedGenerate_when_requestHasTopic() {
+            QuoteRequest request = QuoteRequest.about("focus");
+            when(generator.generate(request)).thenReturn("focused");
+            assertSame("focused", quoteService.motivationalQuote(request));
+            verify(generator).generate(request);
+            verifyNoMoreInteractions(generator);
+        }
+
+        @Test
+        void should_delegateToPlainGenerate_when_requestIsUnconstrained() {
+            when(generator.generate()).thenReturn("any");
+            assertSame("any", quoteService.motivationalQuote(QuoteRequest.any()));
+            verify(generator).generate();
+            verifyNoMoreInteractions(generator);
+        }
+    }
+
+    @Nested
+    @DisplayName("served-quote listener")
+    final class Listener {
+
+        @Test
+        void should_reportServedQuote_withLatency() {
+            QuoteRequest request = QuoteRequest.about("focus");
+            when(generator.generate(request)).thenReturn("focused");
+
+            quoteService.motivationalQuote(request);
+
+            verify(listener).onServed(same(request), eq("focused"), anyLong(), isNull());
+        }
+
+        @Test
+        void should_reportFailure_andRethrow_when_generatorFails() {
+            IllegalStateException failure = new IllegalStateException("no quotes");
+            when(generator.generate()).thenThrow(failure);
+
+            assertThrows(IllegalStateException.class, quoteService::randomMotivationalQuote);
+
+            verify(listener).onServed(same(QuoteRequest.any()), isNull(), anyLong(), same(failure));
+        }
+
+        @Test
+        void should_notReport_when_noListenerIsGiven() {
+            when(generator.generate()).thenReturn("any");
+
+            assertSame("any", new QuoteService(generator).randomMotivationalQuote());
+
+            verifyNoInteractions(listener);
+        }
+    }
 }
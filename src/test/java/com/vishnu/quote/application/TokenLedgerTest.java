@@ -0,0 +1,134 @@
+package com.vishnu.quote.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenLedger")
+final class TokenLedgerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TokenLedger ledger = new TokenLedger(Duration.ofSeconds(60), 6, now::get);
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwIllegalArgumentException_when_bucketsIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> new TokenLedger(Duration.ofSeconds(1), 0, now::get));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_windowIsShorterThanBuckets() {
+            assertThrows(IllegalArgumentException.class, () -> new TokenLedger(Duration.ofNanos(3), 6, now::get));
+        }
+    }
+
+    @Nested
+    @DisplayName("record(...)")
+    final class Record {
+
+        @Test
+        void should_totalCallsAndTokens_perModelAndTenant() {
+            ledger.record("gpt-4.1-mini", "acme", 20, 10);
+            ledger.record("gpt-4.1-mini", "acme", 22, 12);
+            ledger.record("gpt-4o-mini", "acme", 5, 5);
+            ledger.listener("globex").onUsage("gpt-4.1-mini", 1, 2);
+
+            assertEquals(List.of(
+                    new TokenLedger.Usage("gpt-4.1-mini", "acme", 2, 42, 22),
+                    new TokenLedger.Usage("gpt-4o-mini", "acme", 1, 5, 5),
+                    new TokenLedger.Usage("gpt-4.1-mini", "globex", 1, 1, 2)
+            ), ledger.snapshot());
+            assertEquals(64, ledger.snapshot().getFirst().totalTokens());
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_tokensAreNegative() {
+            assertThrows(IllegalArgumentException.class, () -> ledger.record("m", "t", -1, 0));
+        }
+
+        @Test
+        void should_loseNoTokens_when_recordedConcurrently() {
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                for (int t = 0; t < 4; t++) {
+                    executor.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            ledger.record("m", "acme", 1, 2);
+                        }
+                    });
+                }
+            }
+
+            assertEquals(120_000, ledger.tokensInWindow("acme"));
+            assertEquals(40_000, ledger.snapshot().getFirst().calls());
+        }
+    }
+
+    @Nested
+    @DisplayName("tokensInWindow(String)")
+    final class TokensInWindow {
+
+        @Test
+        void should_returnZero_when_tenantHasNoUsage() {
+            assertEquals(0, ledger.tokensInWindow("nobody"));
+        }
+
+        @Test
+        void should_keepTenantsApart() {
+            ledger.record("m", "acme", 10, 0);
+            ledger.record("m", "globex", 1, 0);
+
+            assertEquals(10, ledger.tokensInWindow("acme"));
+            assertEquals(1, ledger.tokensInWindow("globex"));
+        }
+
+        @Test
+        void should_dropSpend_when_itLeavesTheWindow() {
+            ledger.record("m", "acme", 100, 0);
+            advance(Duration.ofSeconds(30));
+            ledger.record("m", "acme", 10, 0);
+
+            advance(Duration.ofSeconds(29));
+            assertEquals(110, ledger.tokensInWindow("acme"));
+
+            advance(Duration.ofSeconds(1));
+            assertEquals(10, ledger.tokensInWindow("acme"));
+
+            advance(Duration.ofSeconds(30));
+            assertEquals(0, ledger.tokensInWindow("acme"));
+        }
+
+        @Test
+        void should_resetReusedBucket_when_windowWrapsAround() {
+            ledger.record("m", "acme", 100, 0);
+            advance(Duration.ofSeconds(60));
+
+            ledger.record("m", "acme", 7, 0);
+
+            assertEquals(7, ledger.tokensInWindow("acme"));
+        }
+
+        @Test
+        void should_keepLifetimeTotals_when_windowHasMovedOn() {
+            ledger.record("m", "acme", 100, 0);
+            advance(Duration.ofMinutes(5));
+
+            assertEquals(0, ledger.tokensInWindow("acme"));
+            assertEquals(100, ledger.snapshot().getFirst().inputTokens());
+        }
+    }
+}
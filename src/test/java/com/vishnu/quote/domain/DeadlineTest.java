@@ -0,0 +1,57 @@
+package com.vishnu.quote.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Deadline")
+final class DeadlineTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    @Test
+    void should_countDownRemainingBudget() {
+        Deadline deadline = Deadline.after(Duration.ofNanos(100), clock::get);
+        clock.addAndGet(40);
+
+        assertEquals(Duration.ofNanos(60), deadline.remaining());
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    void should_expire_when_budgetIsSpent() {
+        Deadline deadline = Deadline.after(Duration.ofNanos(100), clock::get);
+        clock.addAndGet(100);
+
+        assertTrue(deadline.isExpired());
+        assertEquals(Duration.ZERO, deadline.remaining());
+        DeadlineExceededException ex = assertThrows(DeadlineExceededException.class,
+                () -> deadline.throwIfExpired("lookup"));
+        assertEquals("lookup deadline exceeded", ex.getMessage());
+    }
+
+    @Test
+    void should_neverExpire_when_unbounded() {
+        assertTrue(Deadline.none().isUnbounded());
+        assertFalse(Deadline.none().isExpired());
+        assertDoesNotThrow(() -> Deadline.none().throwIfExpired("lookup"));
+    }
+
+    @Test
+    void should_keepSoonerOfDeadlineAndBudget() {
+        Deadline deadline = Deadline.after(Duration.ofNanos(100), clock::get);
+
+        assertSame(deadline, deadline.limitTo(Duration.ofNanos(500)));
+        assertEquals(Duration.ofNanos(20), deadline.limitTo(Duration.ofNanos(20)).remaining());
+        assertFalse(Deadline.none().limitTo(Duration.ofSeconds(1)).isUnbounded());
+    }
+
+    @Test
+    void should_rejectNegativeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(Duration.ofNanos(-1)));
+    }
+}
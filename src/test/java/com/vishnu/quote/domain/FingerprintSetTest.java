@@ -0,0 +1,54 @@
+package com.vishnu.quote.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FingerprintSet")
+final class FingerprintSetTest {
+
+    @Test
+    void should_addOnce_andFindAddedFingerprints() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertTrue(set.add(42));
+        assertFalse(set.add(42));
+        assertTrue(set.contains(42));
+        assertFalse(set.contains(43));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void should_trackZero_separately() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertFalse(set.contains(0));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.contains(0));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void should_keepEveryFingerprint_when_tableGrows() {
+        FingerprintSet set = new FingerprintSet();
+        long initialBytes = set.sizeInBytes();
+
+        for (long i = 1; i <= 10_000; i++) {
+            set.add(i * 0x9e3779b97f4a7c15L);
+        }
+
+        assertEquals(10_000, set.size());
+        assertTrue(set.sizeInBytes() > initialBytes);
+        for (long i = 1; i <= 10_000; i++) {
+            assertTrue(set.contains(i * 0x9e3779b97f4a7c15L));
+        }
+        assertFalse(set.contains(10_001 * 0x9e3779b97f4a7c15L));
+    }
+
+    @Test
+    void should_throwIllegalArgumentException_when_expectedIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> new FingerprintSet(-1));
+    }
+}
@@ -0,0 +1,129 @@
+package com.vishnu.quote.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteDeduplicator")
+final class QuoteDeduplicatorTest {
+
+    @Nested
+    @DisplayName("exact()")
+    final class Exact {
+
+        @Test
+        void should_rejectRepeats_thatDifferOnlyInCaseAndPunctuation() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.exact();
+
+            assertTrue(deduplicator.add("Keep going."));
+            assertFalse(deduplicator.add("keep GOING!"));
+            assertTrue(deduplicator.add("Keep going, always."));
+
+            assertEquals(3, deduplicator.seen());
+            assertEquals(2, deduplicator.accepted());
+            assertEquals(1, deduplicator.exactDuplicates());
+            assertEquals(0, deduplicator.nearDuplicates());
+            assertEquals(1 / 3.0, deduplicator.duplicateRatio(), 1e-9);
+        }
+
+        @Test
+        void should_keepFirstOccurrences_inOrder() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.exact();
+
+            List<String> distinct = deduplicator.distinct(List.of("A", "B", "a.", "C", "b"));
+
+            assertEquals(List.of("A", "B", "C"), distinct);
+        }
+
+        @Test
+        void should_returnSameList_when_nothingIsRepeated() {
+            List<String> quotes = List.of("A", "B");
+
+            assertSame(quotes, QuoteDeduplicator.exact().distinct(quotes));
+        }
+
+        @Test
+        void should_reportZeroRatio_when_nothingWasSeen() {
+            assertEquals(0.0, QuoteDeduplicator.exact().duplicateRatio());
+        }
+    }
+
+    @Nested
+    @DisplayName("nearDuplicates()")
+    final class NearDuplicates {
+
+        @Test
+        void should_rejectQuote_thatSharesMostWordPairs() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.nearDuplicates(8, 2);
+
+            assertTrue(deduplicator.add("Small steps every single day build a life you are proud of."));
+            assertFalse(deduplicator.add("Small steps every single day build a life you are proud of, friend."));
+            assertTrue(deduplicator.add("Rest is part of the work and never a reward for it."));
+
+            assertEquals(1, deduplicator.nearDuplicates());
+            assertEquals(0, deduplicator.exactDuplicates());
+        }
+
+        @Test
+        void should_countExactRepeats_asExact() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.nearDuplicates(4, 4);
+
+            deduplicator.add("Keep going.");
+            deduplicator.add("Keep going!");
+
+            assertEquals(1, deduplicator.exactDuplicates());
+            assertEquals(0, deduplicator.nearDuplicates());
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_bandsOrRowsAreNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> QuoteDeduplicator.nearDuplicates(0, 4));
+            assertThrows(IllegalArgumentException.class, () -> QuoteDeduplicator.nearDuplicates(4, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("remember()")
+    final class Remember {
+
+        @Test
+        void should_rejectQuotesOfRepository_withoutCountingThem() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.exact();
+
+            deduplicator.remember(repository(List.of("Keep going.", "Start small.")));
+
+            assertEquals(0, deduplicator.seen());
+            assertFalse(deduplicator.add("start small"));
+            assertTrue(deduplicator.add("Rest, then rise."));
+        }
+    }
+
+    private static QuoteRepository repository(List<String> quotes) {
+        return new QuoteRepository() {
+            @Override
+            public Optional<String> randomQuote() {
+                return quotes.stream().findFirst();
+            }
+
+            @Override
+            public int size() {
+                return quotes.size();
+            }
+
+            @Override
+            public String quoteAt(int index) {
+                return quotes.get(index);
+            }
+
+            @Override
+            public String description() {
+                return "test";
+            }
+        };
+    }
+}
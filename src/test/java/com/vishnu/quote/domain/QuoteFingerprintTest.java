@@ -0,0 +1,70 @@
+package com.vishnu.quote.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteFingerprint")
+final class QuoteFingerprintTest {
+
+    @Nested
+    @DisplayName("of()")
+    final class Of {
+
+        @Test
+        void should_ignoreCasePunctuationAndSpacing() {
+            assertEquals(QuoteFingerprint.of("keep going"), QuoteFingerprint.of("  Keep,   GOING!  "));
+        }
+
+        @Test
+        void should_keepWordBreaks() {
+            assertNotEquals(QuoteFingerprint.of("keep going"), QuoteFingerprint.of("keepgoing"));
+        }
+
+        @Test
+        void should_differ_when_wordsDiffer() {
+            assertNotEquals(QuoteFingerprint.of("Keep going."), QuoteFingerprint.of("Keep trying."));
+        }
+
+        @Test
+        void should_normalizeNonAsciiLetters() {
+            assertEquals(QuoteFingerprint.of("Élan vital"), QuoteFingerprint.of("élan — VITAL"));
+        }
+    }
+
+    @Nested
+    @DisplayName("minHash()")
+    final class MinHash {
+
+        @Test
+        void should_match_when_textsNormalizeTheSame() {
+            assertArrayEquals(QuoteFingerprint.minHash("Keep going, always.", 16),
+                    QuoteFingerprint.minHash("keep going always", 16));
+        }
+
+        @Test
+        void should_agreeOnMostEntries_when_textsShareMostBigrams() {
+            long[] a = QuoteFingerprint.minHash("small steps every single day build a life you are proud of", 64);
+            long[] b = QuoteFingerprint.minHash("small steps every single day build a life you are proud of today", 64);
+            long[] c = QuoteFingerprint.minHash("rest is part of the work and never a reward for it", 64);
+
+            assertTrue(agreements(a, b) > 40);
+            assertTrue(agreements(a, c) < 8);
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_hashesIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> QuoteFingerprint.minHash("Keep going.", 0));
+        }
+
+        private int agreements(long[] a, long[] b) {
+            int same = 0;
+            for (int i = 0; i < a.length; i++) {
+                if (a[i] == b[i]) same++;
+            }
+            return same;
+        }
+    }
+}
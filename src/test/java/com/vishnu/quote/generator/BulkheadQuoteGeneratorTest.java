@@ -0,0 +1,213 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BulkheadQuoteGenerator")
+final class BulkheadQuoteGeneratorTest {
+
+    private static final QuoteGenerator FALLBACK = new QuoteGenerator() {
+        @Override
+        public String generate() {
+            return "corpus";
+        }
+
+        @Override
+        public String generate(QuoteRequest request) {
+            return "corpus about " + request.topic();
+        }
+    };
+
+    /**
+     * Holds every call until released, so tests can fill the bulkhead deterministically.
+     */
+    private static final class Gate implements QuoteGenerator {
+        final CountDownLatch entered;
+        final CountDownLatch release = new CountDownLatch(1);
+
+        Gate(int expectedCalls) {
+            this.entered = new CountDownLatch(expectedCalls);
+        }
+
+        @Override
+        public String generate() {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "ai";
+        }
+    }
+
+    @Nested
+    @DisplayName("Policy")
+    final class PolicyValidation {
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxConcurrentIsNotPositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BulkheadQuoteGenerator.Policy(0, 1, Duration.ZERO));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxQueuedIsNegative() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BulkheadQuoteGenerator.Policy(1, -1, Duration.ZERO));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxWaitIsNegative() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new BulkheadQuoteGenerator.Policy(1, 1, Duration.ofMillis(-1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("admission")
+    final class Admission {
+
+        @Test
+        void should_callPrimary_when_permitsAreFree() {
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(
+                    () -> "ai", FALLBACK, BulkheadQuoteGenerator.Policy.of(2));
+
+            assertEquals("ai", generator.generate());
+            assertEquals("ai", generator.generate(QuoteRequest.about("focus")));
+            assertEquals(List.of("ai", "ai"), generator.generateBatch(QuoteRequest.any(), 2));
+            assertEquals(3, generator.admitted());
+            assertEquals(0, generator.rejected());
+            assertEquals(0, generator.inFlight());
+        }
+
+        @Test
+        void should_shedImmediately_when_queueIsFull() throws Exception {
+            Gate gate = new Gate(2);
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(
+                    gate, FALLBACK, new BulkheadQuoteGenerator.Policy(2, 0, Duration.ofSeconds(10)));
+            try (ExecutorService pool = Executors.newFixedThreadPool(2)) {
+                try {
+                    Future<String> first = pool.submit(() -> generator.generate());
+                    Future<String> second = pool.submit(() -> generator.generate());
+                    assertTrue(gate.entered.await(5, TimeUnit.SECONDS));
+                    assertEquals(2, generator.inFlight());
+
+                    long start = System.nanoTime();
+                    assertEquals("corpus", generator.generate());
+                    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+
+                    gate.release.countDown();
+                    assertEquals("ai", first.get());
+                    assertEquals("ai", second.get());
+                } finally {
+                    gate.release.countDown();
+                }
+            }
+            assertEquals(2, generator.admitted());
+            assertEquals(1, generator.rejected());
+            assertEquals(0, generator.queued());
+        }
+
+        @Test
+        void should_shedAfterWaiting_when_noPermitFreesUpInTime() throws Exception {
+            Gate gate = new Gate(1);
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(
+                    gate, FALLBACK, new BulkheadQuoteGenerator.Policy(1, 1, Duration.ofMillis(20)));
+            try (ExecutorService pool = Executors.newSingleThreadExecutor()) {
+                try {
+                    Future<String> holder = pool.submit(() -> generator.generate());
+                    assertTrue(gate.entered.await(5, TimeUnit.SECONDS));
+
+                    assertEquals("corpus", generator.generate());
+
+                    gate.release.countDown();
+                    holder.get();
+                } finally {
+                    gate.release.countDown();
+                }
+            }
+            assertEquals(1, generator.queued());
+            assertEquals(1, generator.rejected());
+            assertTrue(generator.maxQueueTime().compareTo(Duration.ofMillis(20)) >= 0);
+            assertEquals(generator.maxQueueTime(), generator.totalQueueTime());
+        }
+
+        @Test
+        void should_admitQueuedCall_when_permitIsReleased() throws Exception {
+            Gate gate = new Gate(1);
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(
+                    gate, FALLBACK, new BulkheadQuoteGenerator.Policy(1, 1, Duration.ofSeconds(10)));
+            try (ExecutorService pool = Executors.newFixedThreadPool(2)) {
+                try {
+                    Future<String> holder = pool.submit(() -> generator.generate());
+                    assertTrue(gate.entered.await(5, TimeUnit.SECONDS));
+                    Future<String> waiter = pool.submit(() -> generator.generate());
+                    while (generator.waiting() == 0) {
+                        Thread.onSpinWait();
+                    }
+
+                    gate.release.countDown();
+
+                    assertEquals("ai", holder.get());
+                    assertEquals("ai", waiter.get());
+                } finally {
+                    gate.release.countDown();
+                }
+            }
+            assertEquals(2, generator.admitted());
+            assertEquals(1, generator.queued());
+            assertEquals(0, generator.rejected());
+        }
+
+        @Test
+        void should_waitNoLongerThanDeadline() throws Exception {
+            Gate gate = new Gate(1);
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(
+                    gate, FALLBACK, new BulkheadQuoteGenerator.Policy(1, 1, Duration.ofSeconds(30)));
+            try (ExecutorService pool = Executors.newSingleThreadExecutor()) {
+                try {
+                    Future<String> holder = pool.submit(() -> generator.generate());
+                    assertTrue(gate.entered.await(5, TimeUnit.SECONDS));
+
+                    assertEquals("corpus",
+                            generator.generate(QuoteRequest.any(), Deadline.after(Duration.ofMillis(20))));
+                    assertTrue(generator.maxQueueTime().compareTo(Duration.ofSeconds(5)) < 0);
+                    assertEquals("corpus about focus",
+                            generator.generate(QuoteRequest.about("focus"), Deadline.after(Duration.ofMillis(20))));
+
+                    gate.release.countDown();
+                    holder.get();
+                } finally {
+                    gate.release.countDown();
+                }
+            }
+        }
+
+        @Test
+        void should_releasePermit_when_primaryFails() {
+            BulkheadQuoteGenerator generator = new BulkheadQuoteGenerator(() -> {
+                throw new IllegalStateException("upstream down");
+            }, FALLBACK, new BulkheadQuoteGenerator.Policy(1, 0, Duration.ZERO));
+
+            assertThrows(IllegalStateException.class, generator::generate);
+            assertThrows(IllegalStateException.class, generator::generate);
+            assertEquals(0, generator.inFlight());
+            assertEquals(0, generator.rejected());
+        }
+    }
+}
@@ -1,6 +1,12 @@
 package com.vishnu.quote.generator;
 
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.DeadlineExceededException;
 import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,6 +14,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -270,4 +283,224 @@ final class FallbackQuoteGeneratorTest {
             verifyNoMoreInteractions(primary, fallback);
         }
     }
+
+    @Nested
+    @DisplayName("primary budget")
+    final class PrimaryBudget {
+
+        @Test
+        void should_rejectNonPositiveBudget() {
+            QuoteGenerator primary = mock(QuoteGenerator.class);
+            QuoteGenerator fallback = mock(QuoteGenerator.class);
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> new FallbackQuoteGenerator(primary, fallback, Duration.ZERO));
+            assertThrows(NullPointerException.class,
+                    () -> new FallbackQuoteGenerator(primary, fallback, null));
+        }
+
+        @Test
+        void should_passBudgetedDeadlineToPrimary() {
+            AtomicReference<Deadline> seen = new AtomicReference<>();
+            QuoteGenerator primary = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    throw new AssertionError("deadline-aware overload expected");
+                }
+
+                @Override
+                public String generate(QuoteRequest request, Deadline deadline) {
+                    seen.set(deadline);
+                    return "from primary";
+                }
+            };
+            FallbackQuoteGenerator generator =
+                    new FallbackQuoteGenerator(primary, () -> "from fallback", Duration.ofSeconds(2));
+
+            assertEquals("from primary", generator.generate());
+            assertFalse(seen.get().isUnbounded());
+            assertTrue(seen.get().remaining().compareTo(Duration.ofSeconds(2)) <= 0);
+        }
+
+        @Test
+        void should_useCallerDeadline_when_soonerThanBudget() {
+            AtomicReference<Deadline> seen = new AtomicReference<>();
+            QuoteGenerator primary = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    throw new AssertionError("deadline-aware overload expected");
+                }
+
+                @Override
+                public String generate(QuoteRequest request, Deadline deadline) {
+                    seen.set(deadline);
+                    return "from primary";
+                }
+            };
+            FallbackQuoteGenerator generator =
+                    new FallbackQuoteGenerator(primary, () -> "from fallback", Duration.ofMinutes(1));
+
+            generator.generate(QuoteRequest.any(), Deadline.after(Duration.ofSeconds(1)));
+
+            assertTrue(seen.get().remaining().compareTo(Duration.ofSeconds(1)) <= 0);
+        }
+
+        @Test
+        void should_passBudgetedDeadlineToPrimaryBatch() {
+            AtomicReference<Deadline> seen = new AtomicReference<>();
+            QuoteGenerator primary = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    throw new AssertionError("batch call expected");
+                }
+
+                @Override
+                public List<String> generateBatch(QuoteRequest request, int count) {
+                    throw new AssertionError("deadline-aware overload expected");
+                }
+
+                @Override
+                public List<String> generateBatch(QuoteRequest request, int count, Deadline deadline) {
+                    seen.set(deadline);
+                    return List.of("one", "two");
+                }
+            };
+            FallbackQuoteGenerator generator =
+                    new FallbackQuoteGenerator(primary, () -> "from fallback", Duration.ofSeconds(2));
+
+            assertEquals(List.of("one", "two"), generator.generateBatch(QuoteRequest.any(), 2));
+            assertFalse(seen.get().isUnbounded());
+            assertTrue(seen.get().remaining().compareTo(Duration.ofSeconds(2)) <= 0);
+        }
+
+        @Test
+        void should_returnFallback_when_primaryExceedsDeadline() {
+            QuoteGenerator primary = new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    throw new AssertionError("deadline-aware overload expected");
+                }
+
+                @Override
+                public String generate(QuoteRequest request, Deadline deadline) {
+                    throw new DeadlineExceededException("too slow");
+                }
+            };
+            FallbackQuoteGenerator generator =
+                    new FallbackQuoteGenerator(primary, () -> " from fallback ", Duration.ofMillis(10));
+
+            assertEquals("from fallback", generator.generate());
+        }
+    }
+
+    @Nested
+    @DisplayName("generateBatch")
+    final class GenerateBatch {
+
+        @Test
+        void should_topUpFromFallback_when_primaryReturnsFewerQuotes() {
+            QuoteGenerator primary = mock(QuoteGenerator.class);
+            QuoteGenerator fallback = mock(QuoteGenerator.class);
+            when(primary.generateBatch(QuoteRequest.any(), 4)).thenReturn(List.of(" one ", " "));
+            when(fallback.generateBatch(QuoteRequest.any(), 3)).thenReturn(List.of("two", "three", "four"));
+
+            List<String> quotes = new FallbackQuoteGenerator(primary, fallback).generateBatch(QuoteRequest.any(), 4);
+
+            assertEquals(List.of("one", "two", "three", "four"), quotes);
+        }
+
+        @Test
+        void should_notCallFallback_when_primaryFillsBatch() {
+            QuoteGenerator primary = mock(QuoteGenerator.class);
+            QuoteGenerator fallback = mock(QuoteGenerator.class);
+            when(primary.generateBatch(QuoteRequest.any(), 2)).thenReturn(List.of("one", "two"));
+
+            assertEquals(List.of("one", "two"), new FallbackQuoteGenerator(primary, fallback).generateBatch(QuoteRequest.any(), 2));
+            verifyNoInteractions(fallback);
+        }
+
+        @Test
+        void should_useFallbackForWholeBatch_when_primaryFails() {
+            QuoteGenerator primary = mock(QuoteGenerator.class);
+            when(primary.generateBatch(QuoteRequest.any(), 2)).thenThrow(new RuntimeException("boom"));
+
+            List<String> quotes = new FallbackQuoteGenerator(primary, () -> "from fallback").generateBatch(QuoteRequest.any(), 2);
+
+            assertEquals(List.of("from fallback", "from fallback"), quotes);
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_bothFail() {
+            QuoteGenerator primary = mock(QuoteGenerator.class);
+            when(primary.generateBatch(QuoteRequest.any(), 2)).thenThrow(new RuntimeException("boom"));
+            FallbackQuoteGenerator generator = new FallbackQuoteGenerator(primary, () -> {
+                throw new RuntimeException("also boom");
+            });
+
+            assertThrows(IllegalStateException.class, () -> generator.generateBatch(QuoteRequest.any(), 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("flight recorder")
+    final class FlightRecorder {
+
+        private List<RecordedEvent> recordFallbacks(Runnable action) throws IOException {
+            Path file = Files.createTempFile("fallback", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("com.vishnu.quote.Fallback");
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        @Test
+        void should_recordCause_when_primaryFails() throws IOException {
+            FallbackQuoteGenerator generator = new FallbackQuoteGenerator(() -> {
+                throw new IllegalStateException("upstream down");
+            }, () -> "from fallback");
+
+            List<RecordedEvent> events = recordFallbacks(generator::generate);
+
+            assertEquals(1, events.size());
+            RecordedEvent event = events.getFirst();
+            assertEquals(IllegalStateException.class.getName(), event.getString("cause"));
+            assertEquals("upstream down", event.getString("causeMessage"));
+            assertFalse(event.getBoolean("fallbackFailed"));
+        }
+
+        @Test
+        void should_recordBlankCause_and_shortfall_when_batchComesUpShort() throws IOException {
+            FallbackQuoteGenerator generator = new FallbackQuoteGenerator(new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    return "one";
+                }
+
+                @Override
+                public List<String> generateBatch(QuoteRequest request, int count) {
+                    return List.of("one", " ");
+                }
+            }, () -> "from fallback");
+
+            List<RecordedEvent> events = recordFallbacks(() -> generator.generateBatch(QuoteRequest.any(), 3));
+
+            assertEquals(1, events.size());
+            assertEquals(FallbackEvent.BLANK, events.getFirst().getString("cause"));
+            assertEquals(3, events.getFirst().getInt("requested"));
+            assertEquals(2, events.getFirst().getInt("missing"));
+        }
+
+        @Test
+        void should_recordNothing_when_primarySucceeds() throws IOException {
+            FallbackQuoteGenerator generator = new FallbackQuoteGenerator(() -> "ai", () -> "from fallback");
+
+            assertTrue(recordFallbacks(generator::generate).isEmpty());
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.infrastructure.repository.BinaryCorpusQuoteRepository;
+import com.vishnu.quote.infrastructure.repository.ClasspathQuoteRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost and garbage of serving a quote from the repository fallback once the corpus is warm. Run with the
+ * GC profiler and check that {@code gc.alloc.rate.norm} stays at 0 B/op:
+ * {@code mvn test-compile exec:exec@jmh -Djmh.args="FallbackSelectionBenchmark -prof gc"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FallbackSelectionBenchmark {
+
+    private BinaryCorpusQuoteRepository binary;
+    private ClasspathQuoteRepository text;
+    private QuoteGenerator repositoryGenerator;
+    private QuoteGenerator fallbackChain;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        binary = new BinaryCorpusQuoteRepository("quotes.bin");
+        text = new ClasspathQuoteRepository("quotes.txt");
+        for (int i = 0; i < binary.size(); i++) {
+            binary.quoteAt(i);
+        }
+        repositoryGenerator = new RepositoryMotivationalQuoteGenerator(binary);
+        fallbackChain = new FallbackQuoteGenerator(() -> null, repositoryGenerator);
+    }
+
+    @Benchmark
+    public String binaryRandomIndex() {
+        return binary.quoteAt(binary.randomIndex());
+    }
+
+    @Benchmark
+    public String textRandomIndex() {
+        return text.quoteAt(text.randomIndex());
+    }
+
+    @Benchmark
+    public String repositoryGenerator() {
+        return repositoryGenerator.generate();
+    }
+
+    @Benchmark
+    public String fallbackChain() {
+        return fallbackChain.generate();
+    }
+}
@@ -0,0 +1,81 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.LocalizedQuoteRepository;
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocalizedRepositoryQuoteGenerator")
+final class LocalizedRepositoryQuoteGeneratorTest {
+
+    @Mock
+    private LocalizedQuoteRepository repository;
+
+    @Mock
+    private QuoteRepository corpus;
+
+    @InjectMocks
+    private LocalizedRepositoryQuoteGenerator generator;
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_repositoryIsNull() {
+            NullPointerException ex = assertThrows(
+                    NullPointerException.class,
+                    () -> new LocalizedRepositoryQuoteGenerator(null)
+            );
+            assertEquals("repository", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("generate(QuoteRequest)")
+    final class GenerateWithRequest {
+
+        @Test
+        void should_pickFromLocaleCorpus_when_requestHasLocale() {
+            Locale austrian = Locale.forLanguageTag("de-AT");
+            when(repository.forLocale(austrian)).thenReturn(corpus);
+            when(corpus.randomIndex()).thenReturn(1);
+            when(corpus.quoteAt(1)).thenReturn("Nur net hudeln.");
+
+            assertEquals("Nur net hudeln.", generator.generate(QuoteRequest.in(austrian).withTone("calm")));
+        }
+
+        @Test
+        void should_useRootCorpus_when_requestHasNoLocale() {
+            when(repository.forLocale(Locale.ROOT)).thenReturn(corpus);
+            when(corpus.randomIndex()).thenReturn(0);
+            when(corpus.quoteAt(0)).thenReturn("Keep going.");
+
+            assertEquals("Keep going.", generator.generate(QuoteRequest.about("focus")));
+            assertEquals("Keep going.", generator.generate());
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_corpusIsEmpty() {
+            when(repository.forLocale(Locale.GERMAN)).thenReturn(corpus);
+            when(corpus.randomIndex()).thenReturn(-1);
+            when(corpus.description()).thenReturn("classpath:quotes.txt");
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> generator.generate(QuoteRequest.in(Locale.GERMAN)));
+            assertEquals("No motivational quote available from repository: classpath:quotes.txt", ex.getMessage());
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.vishnu.quote.generator;
 
 import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteDeduplicator;
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.domain.TextStreamListener;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -9,6 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -73,4 +81,183 @@ final class MotivationalQuoteGeneratorTest {
             verifyNoMoreInteractions(aiTextClient);
         }
     }
+
+    @Nested
+    @DisplayName("generate(QuoteRequest)")
+    final class GenerateWithRequest {
+
+        @Test
+        void should_useExactBasePrompt_when_requestIsUnconstrained() {
+            when(aiTextClient.generateText(EXPECTED_PROMPT)).thenReturn("q");
+            quoteGenerator.generate(QuoteRequest.any());
+            verify(aiTextClient).generateText(EXPECTED_PROMPT);
+            verifyNoMoreInteractions(aiTextClient);
+        }
+
+        @Test
+        void should_appendTopicToneAndLength_when_requested() {
+            String expected = EXPECTED_PROMPT + """
+                    - Topic: focus
+                    - Tone: calm
+                    - At most 80 characters
+                    """;
+            when(aiTextClient.generateText(expected)).thenReturn("q");
+            quoteGenerator.generate(QuoteRequest.about(" Focus ").withTone("CALM").withMaxLength(80));
+            verify(aiTextClient).generateText(expected);
+            verifyNoMoreInteractions(aiTextClient);
+        }
+
+        @Test
+        void should_askForLanguage_when_localeIsRequested() {
+            String expected = EXPECTED_PROMPT + """
+                    - Write in German (Austria) (de-AT)
+                    """;
+            when(aiTextClient.generateText(expected)).thenReturn("q");
+            quoteGenerator.generate(QuoteRequest.in(Locale.forLanguageTag("de-AT")));
+            verify(aiTextClient).generateText(expected);
+            verifyNoMoreInteractions(aiTextClient);
+        }
+
+        @Test
+        void should_throwNullPointerException_when_requestIsNull() {
+            assertThrows(NullPointerException.class, () -> quoteGenerator.generate((QuoteRequest) null));
+            verifyNoInteractions(aiTextClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("with validator")
+    final class WithValidator {
+
+        @Test
+        void should_stopStreamAfterFirstSentence_andReturnCleanedQuote() {
+            StringBuilder delivered = new StringBuilder();
+            AiTextClient streaming = new AiTextClient() {
+                @Override
+                public String generateText(String prompt) {
+                    throw new AssertionError("streaming overload expected");
+                }
+
+                @Override
+                public String generateText(String prompt, Deadline deadline, TextStreamListener listener) {
+                    for (String delta : List.of("\"Keep", " going.\"", " — Some", "one Else", " more")) {
+                        delivered.append(delta);
+                        if (!listener.onText(delivered)) break;
+                    }
+                    return delivered.toString();
+                }
+            };
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(streaming, QuoteValidator.defaults());
+
+            assertEquals("Keep going.", generator.generate());
+            assertEquals("\"Keep going.\" — Some", delivered.toString());
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_outputIsInvalid() {
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(prompt -> "   ", QuoteValidator.defaults());
+
+            assertThrows(IllegalStateException.class, generator::generate);
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_quoteExceedsRequestedMaxLength() {
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(
+                    prompt -> "Keep going even when the road is long.", QuoteValidator.defaults());
+
+            assertThrows(IllegalStateException.class, () -> generator.generate(QuoteRequest.any().withMaxLength(20)));
+            assertEquals("Keep going even when the road is long.",
+                    generator.generate(QuoteRequest.any().withMaxLength(40)));
+        }
+
+        @Test
+        void should_throwNullPointerException_when_validatorIsNull() {
+            assertThrows(NullPointerException.class, () -> MotivationalQuoteGenerator.validating(aiTextClient, null));
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_quoteRepeatsAnEarlierQuote() {
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(
+                    prompt -> "Keep going.", QuoteValidator.defaults(), QuoteDeduplicator.exact());
+
+            assertEquals("Keep going.", generator.generate());
+            assertThrows(IllegalStateException.class, generator::generate);
+        }
+    }
+
+    @Nested
+    @DisplayName("generateBatch")
+    final class GenerateBatch {
+
+        @Test
+        void should_askForAllQuotesInOneCall_andSplitLines() {
+            when(aiTextClient.generateLines(anyString(), eq(3), any()))
+                    .thenReturn("1. Keep going.\n- Start small.\n\nRest, then rise.");
+
+            List<String> quotes = quoteGenerator.generateBatch(QuoteRequest.about("focus"), 3);
+
+            assertEquals(List.of("Keep going.", "Start small.", "Rest, then rise."), quotes);
+            verify(aiTextClient).generateLines(argThat(prompt ->
+                    prompt.startsWith("Generate exactly 3 different") && prompt.endsWith("- Topic: focus\n")),
+                    eq(3), eq(Deadline.none()));
+        }
+
+        @Test
+        void should_dropRejectedLines_when_validating() {
+            String tooLong = "a".repeat(300) + ".";
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(
+                    prompt -> "Here are your quotes:\n\"Keep going.\"\n" + tooLong + "\nRest, then rise. — Jane Doe",
+                    QuoteValidator.defaults());
+
+            assertEquals(List.of("Keep going.", "Rest, then rise."), generator.generateBatch(QuoteRequest.any(), 3));
+        }
+
+        @Test
+        void should_dropRepeatedLines_when_deduplicating() {
+            QuoteDeduplicator deduplicator = QuoteDeduplicator.exact();
+            deduplicator.add("Start small.");
+            MotivationalQuoteGenerator generator = MotivationalQuoteGenerator.validating(
+                    prompt -> "Keep going.\nStart small.\nKEEP GOING!\nRest, then rise.",
+                    QuoteValidator.defaults(), deduplicator);
+
+            assertEquals(List.of("Keep going.", "Rest, then rise."), generator.generateBatch(QuoteRequest.any(), 4));
+        }
+
+        @Test
+        void should_capAtCount_when_aiReturnsExtraLines() {
+            when(aiTextClient.generateLines(anyString(), eq(2), any())).thenReturn("One.\nTwo.\nThree.");
+
+            assertEquals(List.of("One.", "Two."), quoteGenerator.generateBatch(QuoteRequest.any(), 2));
+        }
+
+        @Test
+        void should_dropLastLine_when_itWasCutOff() {
+            MotivationalQuoteGenerator generator = new MotivationalQuoteGenerator(
+                    prompt -> "Keep going.\nStart small.\nRest, then ri\n");
+
+            assertEquals(List.of("Keep going.", "Start small."), generator.generateBatch(QuoteRequest.any(), 3));
+        }
+
+        @Test
+        void should_passDeadlineToClient_when_batchIsBounded() {
+            Deadline deadline = Deadline.after(java.time.Duration.ofSeconds(5));
+            when(aiTextClient.generateLines(anyString(), eq(2), same(deadline))).thenReturn("One.\nTwo.");
+
+            assertEquals(List.of("One.", "Two."), quoteGenerator.generateBatch(QuoteRequest.any(), 2, deadline));
+        }
+
+        @Test
+        void should_useSingleQuotePrompt_when_countIsOne() {
+            when(aiTextClient.generateText(EXPECTED_PROMPT)).thenReturn("Keep going.");
+
+            assertEquals(List.of("Keep going."), quoteGenerator.generateBatch(QuoteRequest.any(), 1));
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_noLineIsUsable() {
+            when(aiTextClient.generateLines(anyString(), eq(4), any())).thenReturn(" \n ");
+
+            assertThrows(IllegalStateException.class, () -> quoteGenerator.generateBatch(QuoteRequest.any(), 4));
+        }
+    }
 }
@@ -0,0 +1,201 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrefetchingQuoteGenerator")
+final class PrefetchingQuoteGeneratorTest {
+
+    private static final PrefetchingQuoteGenerator.Policy POLICY = new PrefetchingQuoteGenerator.Policy(
+            Duration.ofSeconds(10), Duration.ofSeconds(10), 8, Duration.ofSeconds(60), 2
+    );
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ManualExecutor executor = new ManualExecutor();
+    private final RecordingGenerator delegate = new RecordingGenerator();
+    private final PrefetchingQuoteGenerator generator =
+            new PrefetchingQuoteGenerator(delegate, executor, POLICY, clock::get);
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_argumentsAreNull() {
+            assertThrows(NullPointerException.class, () -> new PrefetchingQuoteGenerator(null, executor, POLICY));
+            assertThrows(NullPointerException.class, () -> new PrefetchingQuoteGenerator(delegate, null, POLICY));
+            assertThrows(NullPointerException.class, () -> new PrefetchingQuoteGenerator(delegate, executor, null));
+        }
+
+        @Test
+        void should_rejectNonPositivePolicyValues() {
+            assertThrows(IllegalArgumentException.class, () -> new PrefetchingQuoteGenerator.Policy(
+                    Duration.ZERO, Duration.ofSeconds(1), 1, Duration.ofSeconds(1), 1));
+            assertThrows(IllegalArgumentException.class, () -> new PrefetchingQuoteGenerator.Policy(
+                    Duration.ofSeconds(1), Duration.ofSeconds(1), 0, Duration.ofSeconds(1), 1));
+            assertThrows(IllegalArgumentException.class, () -> new PrefetchingQuoteGenerator.Policy(
+                    Duration.ofSeconds(1), Duration.ofSeconds(1), 1, Duration.ofSeconds(1), 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("generate(QuoteRequest)")
+    final class Generate {
+
+        @Test
+        void should_generateDirectly_when_poolIsEmpty() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+
+            assertEquals("focus-1", generator.generate(focus));
+            assertEquals(List.of(focus), delegate.requests);
+        }
+
+        @Test
+        void should_serveFromPool_after_backgroundRefill() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+            generator.generate(focus);
+            executor.runAll();
+            assertEquals(1, generator.pooledQuotes(focus));
+
+            assertEquals("focus-2", generator.generate(focus));
+            assertEquals(2, delegate.requests.size());
+        }
+
+        @Test
+        void should_growTargetWithDemand_upToMaxPoolSize() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+            generator.generate(focus);
+            int initial = generator.targetSize(focus);
+
+            for (int i = 0; i < 50; i++) {
+                generator.generate(focus);
+            }
+
+            assertTrue(generator.targetSize(focus) > initial);
+            assertEquals(POLICY.maxPoolSize(), generator.targetSize(focus));
+            executor.runAll();
+            assertEquals(POLICY.maxPoolSize(), generator.pooledQuotes(focus));
+        }
+
+        @Test
+        void should_shrinkTarget_when_demandDecays() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+            for (int i = 0; i < 10; i++) {
+                generator.generate(focus);
+            }
+            int hot = generator.targetSize(focus);
+
+            clock.addAndGet(Duration.ofSeconds(50).toNanos());
+
+            assertTrue(generator.targetSize(focus) < hot);
+            assertEquals(0, generator.targetSize(focus));
+        }
+
+        @Test
+        void should_keepPoolsSeparatePerRequest() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+            QuoteRequest grit = QuoteRequest.about("grit");
+            generator.generate(focus);
+            executor.runAll();
+
+            assertEquals("grit-3", generator.generate(grit));
+            assertEquals("focus-2", generator.generate(focus));
+        }
+
+        @Test
+        void should_useDefaultRequest_forPlainGenerate() {
+            generator.generate();
+            generator.generate();
+
+            assertEquals(List.of(QuoteRequest.any(), QuoteRequest.any()), delegate.requests);
+        }
+
+        @Test
+        void should_swallowRefillFailures() {
+            QuoteRequest focus = QuoteRequest.about("focus");
+            generator.generate(focus);
+            delegate.failing = true;
+
+            assertDoesNotThrow(executor::runAll);
+            assertEquals(0, generator.pooledQuotes(focus));
+        }
+    }
+
+    @Nested
+    @DisplayName("eviction")
+    final class Eviction {
+
+        @Test
+        void should_evictPoolsIdleLongerThanTimeout() {
+            generator.generate(QuoteRequest.about("focus"));
+            clock.addAndGet(Duration.ofSeconds(30).toNanos());
+            generator.generate(QuoteRequest.about("grit"));
+            clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+            assertEquals(1, generator.evictIdle());
+            assertEquals(1, generator.poolCount());
+            assertEquals(0, generator.targetSize(QuoteRequest.about("focus")));
+        }
+
+        @Test
+        void should_dropColdestPool_when_poolCountExceedsLimit() {
+            QuoteRequest hot = QuoteRequest.about("hot");
+            for (int i = 0; i < 5; i++) {
+                generator.generate(hot);
+            }
+            generator.generate(QuoteRequest.about("cold"));
+            generator.generate(QuoteRequest.about("new"));
+
+            assertEquals(POLICY.maxPools(), generator.poolCount());
+            assertTrue(generator.targetSize(hot) > 0);
+        }
+    }
+
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    private static final class RecordingGenerator implements QuoteGenerator {
+        private final List<QuoteRequest> requests = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public String generate() {
+            return generate(QuoteRequest.any());
+        }
+
+        @Override
+        public String generate(QuoteRequest request) {
+            if (failing) {
+                throw new IllegalStateException("upstream down");
+            }
+            requests.add(request);
+            return (request.topic() == null ? "any" : request.topic()) + "-" + requests.size();
+        }
+    }
+}
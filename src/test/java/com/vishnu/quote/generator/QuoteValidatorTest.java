@@ -0,0 +1,116 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteValidator")
+final class QuoteValidatorTest {
+
+    private final QuoteValidator validator = QuoteValidator.defaults();
+
+    @Nested
+    @DisplayName("streaming")
+    final class Streaming {
+
+        @Test
+        void should_continue_while_firstSentenceIsOpen() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any());
+
+            assertTrue(session.onText("Keep"));
+            assertTrue(session.onText("Keep going"));
+            assertTrue(session.onText("Keep going."));
+            assertEquals(QuoteValidator.Verdict.CONTINUE, session.verdict());
+        }
+
+        @Test
+        void should_stop_when_secondSentenceStarts() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any());
+
+            assertFalse(session.onText("Keep going. And"));
+            assertEquals(QuoteValidator.Verdict.COMPLETE, session.verdict());
+        }
+
+        @Test
+        void should_stop_when_attributionLineStarts() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any());
+
+            assertFalse(session.onText("Keep going\n— Someone"));
+            assertEquals(QuoteValidator.Verdict.COMPLETE, session.verdict());
+        }
+
+        @Test
+        void should_waitPastPreambleLine() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any());
+
+            assertTrue(session.onText("Here is your quote:"));
+            assertTrue(session.onText("Here is your quote:\nKeep"));
+            assertFalse(session.onText("Here is your quote:\nKeep going. "));
+        }
+
+        @Test
+        void should_abort_when_textRunsPastLimitWithoutSentenceEnd() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any().withMaxLength(20));
+
+            assertFalse(session.onText("a".repeat(40)));
+            assertEquals(QuoteValidator.Verdict.INVALID, session.verdict());
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> session.finish("a".repeat(40)));
+            assertTrue(ex.getMessage().startsWith("AI quote rejected: "));
+        }
+    }
+
+    @Nested
+    @DisplayName("finish()")
+    final class Finish {
+
+        @ParameterizedTest
+        @CsvSource(delimiter = '|', value = {
+                "Keep going.|Keep going.",
+                "  \"Keep going.\"  |Keep going.",
+                "“Keep going.” — Winston Churchill|Keep going.",
+                "Keep going - Unknown|Keep going",
+                "Keep going. Tomorrow is another day.|Keep going.",
+                "Here is a quote:\\nKeep going.|Keep going.",
+                "Keep going.\\n\\n- Anonymous|Keep going.",
+                "Rest if you must, but don't quit.|Rest if you must, but don't quit.",
+                "Small steps - taken daily - add up.|Small steps - taken daily - add up.",
+        })
+        void should_cleanMinorIssues(String raw, String expected) {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any());
+            String text = raw.replace("\\n", "\n");
+            session.onText(text);
+
+            assertEquals(expected, session.finish(text));
+        }
+
+        @Test
+        void should_reject_emptyOrNullOutput() {
+            assertThrows(IllegalStateException.class, () -> validator.start(QuoteRequest.any()).finish(null));
+            assertThrows(IllegalStateException.class, () -> validator.start(QuoteRequest.any()).finish("   "));
+            assertThrows(IllegalStateException.class, () -> validator.start(QuoteRequest.any()).finish("\"...\""));
+        }
+
+        @Test
+        void should_reject_preambleWithoutQuote() {
+            assertThrows(IllegalStateException.class,
+                    () -> validator.start(QuoteRequest.any()).finish("Here is your quote:"));
+        }
+
+        @Test
+        void should_reject_quoteLongerThanRequestedLength() {
+            QuoteValidator.Session session = validator.start(QuoteRequest.any().withMaxLength(10));
+
+            assertThrows(IllegalStateException.class, () -> session.finish("Keep going every day."));
+        }
+
+        @Test
+        void should_rejectNonPositiveDefaultLength() {
+            assertThrows(IllegalArgumentException.class, () -> new QuoteValidator(0));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.vishnu.quote.generator;
 
 import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.domain.QuoteSampler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -43,30 +44,29 @@ final class RepositoryMotivationalQuoteGeneratorTest {
     final class Generate {
 
         @Test
-        void should_delegateToRepository_randomQuote() {
-            when(repository.randomQuote()).thenReturn(Optional.of("Keep going."));
+        void should_pickQuoteInOneCall_withoutCallingRandomQuote() {
+            when(repository.randomQuoteOrNull()).thenReturn("Keep going.");
 
             generator.generate();
 
-            verify(repository).randomQuote();
-            verifyNoMoreInteractions(repository);
+            verify(repository).randomQuoteOrNull();
+            verify(repository, never()).randomIndex();
+            verify(repository, never()).randomQuote();
         }
 
         @Test
         void should_returnExactlyWhatRepositoryReturns_when_quoteIsPresent() {
             String quote = "Small steps today build big change tomorrow.";
-            when(repository.randomQuote()).thenReturn(Optional.of(quote));
+            when(repository.randomQuoteOrNull()).thenReturn(quote);
 
             String result = generator.generate();
 
             assertSame(quote, result);
-            verify(repository).randomQuote();
-            verifyNoMoreInteractions(repository);
         }
 
         @Test
         void should_throwIllegalStateException_when_repositoryHasNoQuote_andIncludeRepositoryDescriptionInMessage() {
-            when(repository.randomQuote()).thenReturn(Optional.empty());
+            when(repository.randomQuoteOrNull()).thenReturn(null);
             when(repository.description()).thenReturn("in-memory motivational quotes");
 
             IllegalStateException ex = assertThrows(IllegalStateException.class, () -> generator.generate());
@@ -76,46 +76,109 @@ final class RepositoryMotivationalQuoteGeneratorTest {
                     ex.getMessage()
             );
 
-            verify(repository).randomQuote();
+            verify(repository).randomQuoteOrNull();
             verify(repository).description();
-            verifyNoMoreInteractions(repository);
+            verify(repository, never()).randomQuote();
         }
 
         @Test
         void should_notCallDescription_when_quoteIsPresent() {
-            when(repository.randomQuote()).thenReturn(Optional.of("Discipline beats motivation."));
+            when(repository.randomQuoteOrNull()).thenReturn("Discipline beats motivation.");
 
             generator.generate();
 
-            verify(repository).randomQuote();
-            verifyNoMoreInteractions(repository);
+            verify(repository, never()).description();
         }
 
         @Test
-        void should_propagateRuntimeException_when_repositoryRandomQuoteThrows() {
+        void should_propagateRuntimeException_when_repositoryPickThrows() {
             RuntimeException failure = new RuntimeException("repository down");
-            when(repository.randomQuote()).thenThrow(failure);
+            when(repository.randomQuoteOrNull()).thenThrow(failure);
 
             RuntimeException ex = assertThrows(RuntimeException.class, () -> generator.generate());
 
             assertSame(failure, ex);
-            verify(repository).randomQuote();
-            verifyNoMoreInteractions(repository);
         }
 
         @Test
         void should_propagateRuntimeException_when_repositoryDescriptionThrowsWhileBuildingExceptionMessage() {
-            when(repository.randomQuote()).thenReturn(Optional.empty());
+            when(repository.randomQuoteOrNull()).thenReturn(null);
             RuntimeException failure = new RuntimeException("description unavailable");
             when(repository.description()).thenThrow(failure);
 
             RuntimeException ex = assertThrows(RuntimeException.class, () -> generator.generate());
 
             assertSame(failure, ex);
+        }
+    }
 
-            verify(repository).randomQuote();
-            verify(repository).description();
-            verifyNoMoreInteractions(repository);
+    @Nested
+    @DisplayName("generate() from a sampler")
+    final class GenerateSampling {
+
+        @Test
+        void should_useRandomQuote_when_samplerHasNoIndex() {
+            QuoteSampler sampling = mock(QuoteSampler.class);
+            when(sampling.randomQuote()).thenReturn(Optional.of("Keep going."));
+
+            assertEquals("Keep going.", new RepositoryMotivationalQuoteGenerator(sampling).generate());
+        }
+
+        @Test
+        void should_acceptLambda_when_samplerIsFunctional() {
+            assertEquals("Start small.",
+                    new RepositoryMotivationalQuoteGenerator(() -> Optional.of("Start small.")).generate());
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_samplingFindsNothing() {
+            QuoteSampler sampling = mock(QuoteSampler.class);
+            when(sampling.randomQuote()).thenReturn(Optional.empty());
+            when(sampling.description()).thenReturn("file-sampling:/tmp/empty.txt");
+            RepositoryMotivationalQuoteGenerator generator = new RepositoryMotivationalQuoteGenerator(sampling);
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class, generator::generate);
+
+            assertEquals("No motivational quote available from repository: file-sampling:/tmp/empty.txt", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("randomIndex()")
+    final class RandomIndex {
+
+        @Test
+        void should_returnMinusOne_when_repositoryIsEmpty() {
+            QuoteRepository empty = new InMemory();
+
+            assertEquals(-1, empty.randomIndex());
+        }
+
+        @Test
+        void should_returnIndexWithinBounds_when_repositoryHasQuotes() {
+            QuoteRepository three = new InMemory("a", "b", "c");
+
+            for (int i = 0; i < 100; i++) {
+                int index = three.randomIndex();
+                assertTrue(index >= 0 && index < 3);
+            }
+        }
+    }
+
+    private record InMemory(String... quotes) implements QuoteRepository {
+        @Override
+        public Optional<String> randomQuote() {
+            throw new AssertionError("not used");
+        }
+
+        @Override
+        public int size() {
+            return quotes.length;
+        }
+
+        @Override
+        public String quoteAt(int index) {
+            return quotes[index];
         }
     }
 }
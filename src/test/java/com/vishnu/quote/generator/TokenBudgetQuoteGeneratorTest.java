@@ -0,0 +1,99 @@
+package com.vishnu.quote.generator;
+
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBudgetQuoteGenerator")
+final class TokenBudgetQuoteGeneratorTest {
+
+    private static final QuoteGenerator PRIMARY = () -> "ai";
+    private static final QuoteGenerator FALLBACK = () -> "corpus";
+
+    private final AtomicLong spent = new AtomicLong();
+    private final TokenBudgetQuoteGenerator generator =
+            new TokenBudgetQuoteGenerator(PRIMARY, FALLBACK, spent::get, 1_000, 0.8);
+
+    private int primaryCalls(int calls) {
+        int primary = 0;
+        for (int i = 0; i < calls; i++) {
+            if (generator.generate().equals("ai")) primary++;
+        }
+        return primary;
+    }
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwIllegalArgumentException_when_budgetIsNotPositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TokenBudgetQuoteGenerator(PRIMARY, FALLBACK, spent::get, 0));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_shedFromIsOutOfRange() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TokenBudgetQuoteGenerator(PRIMARY, FALLBACK, spent::get, 1_000, 1.0));
+            assertThrows(IllegalArgumentException.class,
+                    () -> new TokenBudgetQuoteGenerator(PRIMARY, FALLBACK, spent::get, 1_000, Double.NaN));
+        }
+
+        @Test
+        void should_throwNullPointerException_when_fallbackIsNull() {
+            assertThrows(NullPointerException.class,
+                    () -> new TokenBudgetQuoteGenerator(PRIMARY, null, spent::get, 1_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("routing")
+    final class Routing {
+
+        @Test
+        void should_usePrimaryOnly_when_spendIsBelowShedThreshold() {
+            spent.set(799);
+
+            assertEquals(1_000, primaryCalls(1_000));
+            assertEquals(0, generator.shed());
+        }
+
+        @Test
+        void should_useFallbackOnly_when_budgetIsExhausted() {
+            spent.set(1_200);
+
+            assertEquals(0, primaryCalls(1_000));
+            assertEquals(1_000, generator.shed());
+            assertEquals(1.2, generator.utilization(), 1e-9);
+        }
+
+        @Test
+        void should_shedProportionally_when_spendIsBetweenThresholdAndBudget() {
+            spent.set(900);
+
+            int primary = primaryCalls(10_000);
+
+            assertEquals(5_000, primary, 400);
+            assertEquals(10_000 - primary, generator.shed());
+        }
+
+        @Test
+        void should_routeEveryEntryPoint() {
+            spent.set(1_000);
+            QuoteRequest request = QuoteRequest.about("focus");
+
+            assertEquals("corpus", generator.generate(request));
+            assertEquals("corpus", generator.generate(request, Deadline.none()));
+            assertEquals(List.of("corpus", "corpus"), generator.generateBatch(request, 2));
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.vishnu.quote.infrastructure.ai;
+
+import com.vishnu.quote.domain.AiTextClient;
+import com.vishnu.quote.domain.Deadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LoadBalancingAiTextClient")
+final class LoadBalancingAiTextClientTest {
+
+    private static final LoadBalancingAiTextClient.Policy POLICY = new LoadBalancingAiTextClient.Policy(
+            Duration.ofSeconds(10), 2, Duration.ofSeconds(5), Duration.ofSeconds(20)
+    );
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_rejectEmptyEndpoints() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> new LoadBalancingAiTextClient(List.of(), POLICY));
+        }
+
+        @Test
+        void should_rejectInvalidPolicy() {
+            assertThrows(IllegalArgumentException.class, () -> new LoadBalancingAiTextClient.Policy(
+                    Duration.ZERO, 1, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class, () -> new LoadBalancingAiTextClient.Policy(
+                    Duration.ofSeconds(1), 0, Duration.ofSeconds(1), Duration.ofSeconds(1)));
+            assertThrows(IllegalArgumentException.class, () -> new LoadBalancingAiTextClient.Policy(
+                    Duration.ofSeconds(1), 1, Duration.ofSeconds(2), Duration.ofSeconds(1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("member selection")
+    final class Selection {
+
+        @Test
+        void should_sendMostTrafficToFastestMember() {
+            StubClient fast = new StubClient("fast", Duration.ofMillis(20));
+            StubClient medium = new StubClient("medium", Duration.ofMillis(150));
+            StubClient slow = new StubClient("slow", Duration.ofMillis(900));
+            LoadBalancingAiTextClient client = balancer(fast, medium, slow);
+
+            for (int i = 0; i < 1_000; i++) {
+                client.generateText("prompt");
+            }
+
+            assertTrue(fast.calls > 600, "fast=" + fast.calls);
+            assertTrue(slow.calls < 100, "slow=" + slow.calls);
+            assertEquals(1_000, fast.calls + medium.calls + slow.calls);
+        }
+
+        @Test
+        void should_avoidMemberWithOutstandingRequests() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch entered = new CountDownLatch(1);
+            AtomicReference<String> second = new AtomicReference<>();
+            AiTextClient blocking = prompt -> {
+                entered.countDown();
+                await(release);
+                return "a";
+            };
+            AiTextClient idle = prompt -> "b";
+            LoadBalancingAiTextClient client = new LoadBalancingAiTextClient(List.of(
+                    new LoadBalancingAiTextClient.Endpoint("a", blocking),
+                    new LoadBalancingAiTextClient.Endpoint("b", idle)
+            ), POLICY, clock::get);
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> first;
+                do {
+                    first = executor.submit(() -> client.generateText("prompt"));
+                    if (!entered.await(100, TimeUnit.MILLISECONDS)) {
+                        first.get();
+                        continue;
+                    }
+                    break;
+                } while (true);
+
+                clock.addAndGet(Duration.ofMillis(1).toNanos());
+                second.set(client.generateText("prompt"));
+                release.countDown();
+                assertEquals("a", first.get());
+            }
+
+            assertEquals("b", second.get());
+        }
+
+        @Test
+        void should_passDeadlineToMember() {
+            AtomicReference<Deadline> seen = new AtomicReference<>();
+            AiTextClient member = new AiTextClient() {
+                @Override
+                public String generateText(String prompt) {
+                    throw new AssertionError("deadline-aware overload expected");
+                }
+
+                @Override
+                public String generateText(String prompt, Deadline deadline) {
+                    seen.set(deadline);
+                    return "text";
+                }
+            };
+            LoadBalancingAiTextClient client = new LoadBalancingAiTextClient(
+                    List.of(new LoadBalancingAiTextClient.Endpoint("only", member)), POLICY, clock::get);
+            Deadline deadline = Deadline.after(Duration.ofSeconds(1));
+
+            assertEquals("text", client.generateText("prompt", deadline));
+            assertSame(deadline, seen.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("ejection")
+    final class Ejection {
+
+        @Test
+        void should_ejectMember_after_consecutiveFailures() {
+            StubClient healthy = new StubClient("healthy", Duration.ofMillis(10));
+            StubClient broken = new StubClient("broken", Duration.ofMillis(1));
+            broken.failing = true;
+            LoadBalancingAiTextClient client = balancer(healthy, broken);
+
+            int failures = 0;
+            for (int i = 0; i < 200; i++) {
+                try {
+                    client.generateText("prompt");
+                } catch (IllegalStateException e) {
+                    failures++;
+                }
+            }
+
+            assertEquals(POLICY.failuresToEject(), failures);
+            assertTrue(stats(client, "broken").ejected());
+        }
+
+        @Test
+        void should_probeAndReinstateMember_after_ejectionTime() {
+            StubClient healthy = new StubClient("healthy", Duration.ofMillis(100));
+            StubClient broken = new StubClient("broken", Duration.ofMillis(1));
+            broken.failing = true;
+            LoadBalancingAiTextClient client = balancer(healthy, broken);
+            ejectBroken(client);
+
+            broken.failing = false;
+            clock.addAndGet(POLICY.ejectionTime().toNanos());
+            int before = broken.calls;
+            assertEquals("broken", client.generateText("prompt"));
+
+            assertEquals(before + 1, broken.calls);
+            assertFalse(stats(client, "broken").ejected());
+        }
+
+        @Test
+        void should_reEjectWithLongerBackoff_when_probeFails() {
+            StubClient healthy = new StubClient("healthy", Duration.ofMillis(100));
+            StubClient broken = new StubClient("broken", Duration.ofMillis(1));
+            broken.failing = true;
+            LoadBalancingAiTextClient client = balancer(healthy, broken);
+            ejectBroken(client);
+
+            clock.addAndGet(POLICY.ejectionTime().toNanos());
+            assertThrows(IllegalStateException.class, () -> client.generateText("prompt"));
+            assertTrue(stats(client, "broken").ejected());
+
+            int before = broken.calls;
+            clock.addAndGet(POLICY.ejectionTime().toNanos());
+            for (int i = 0; i < 20; i++) {
+                client.generateText("prompt");
+            }
+            assertEquals(before, broken.calls);
+        }
+
+        @Test
+        void should_keepServing_when_allMembersAreEjected() {
+            StubClient a = new StubClient("a", Duration.ofMillis(1));
+            StubClient b = new StubClient("b", Duration.ofMillis(1));
+            a.failing = true;
+            b.failing = true;
+            LoadBalancingAiTextClient client = balancer(a, b);
+            for (int i = 0; i < 4; i++) {
+                assertThrows(IllegalStateException.class, () -> client.generateText("prompt"));
+            }
+            assertTrue(client.stats().stream().allMatch(LoadBalancingAiTextClient.MemberStats::ejected));
+
+            a.failing = false;
+            b.failing = false;
+            assertDoesNotThrow(() -> client.generateText("prompt"));
+        }
+
+        private void ejectBroken(LoadBalancingAiTextClient client) {
+            while (!stats(client, "broken").ejected()) {
+                try {
+                    client.generateText("prompt");
+                } catch (IllegalStateException ignored) {
+                }
+            }
+        }
+    }
+
+    private LoadBalancingAiTextClient balancer(StubClient... stubs) {
+        List<LoadBalancingAiTextClient.Endpoint> endpoints = Arrays.stream(stubs)
+                .map(s -> new LoadBalancingAiTextClient.Endpoint(s.name, s))
+                .toList();
+        return new LoadBalancingAiTextClient(endpoints, POLICY, clock::get);
+    }
+
+    private static LoadBalancingAiTextClient.MemberStats stats(LoadBalancingAiTextClient client, String name) {
+        return client.stats().stream().filter(s -> s.name().equals(name)).findFirst().orElseThrow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class StubClient implements AiTextClient {
+        private final String name;
+        private final long latencyNanos;
+        private boolean failing;
+        private int calls;
+
+        StubClient(String name, Duration latency) {
+            this.name = name;
+            this.latencyNanos = latency.toNanos();
+        }
+
+        @Override
+        public String generateText(String prompt) {
+            calls++;
+            clock.addAndGet(latencyNanos);
+            if (failing) {
+                throw new IllegalStateException(name + " is down");
+            }
+            return name;
+        }
+    }
+}
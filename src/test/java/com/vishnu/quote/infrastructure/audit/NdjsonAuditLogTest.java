@@ -0,0 +1,122 @@
+package com.vishnu.quote.infrastructure.audit;
+
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NdjsonAuditLog")
+final class NdjsonAuditLogTest {
+
+    @TempDir
+    Path dir;
+
+    private static ServedQuoteEvent event(long sequence, QuoteRequest request, String quote, Throwable failure) {
+        ServedQuoteEvent event = new ServedQuoteEvent();
+        event.set(sequence, 0, "http", request, quote, 12_345_000, failure);
+        return event;
+    }
+
+    private List<Path> files() throws IOException {
+        try (Stream<Path> listing = Files.list(dir)) {
+            return listing.sorted().toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("format(ServedQuoteEvent)")
+    final class Format {
+
+        @Test
+        void should_writeOneJsonObjectPerLine_withRequestFields() {
+            NdjsonAuditLog log = NdjsonAuditLog.open(dir, 1024);
+            QuoteRequest request = QuoteRequest.about("focus").withTone("calm").withMaxLength(80).withLocale(Locale.forLanguageTag("de-AT"));
+
+            assertEquals("{\"ts\":\"1970-01-01T00:00:00Z\",\"seq\":3,\"source\":\"http\",\"outcome\":\"served\""
+                            + ",\"latencyMicros\":12345,\"topic\":\"focus\",\"tone\":\"calm\",\"maxLength\":80"
+                            + ",\"locale\":\"de-AT\",\"quote\":\"Nur net hudeln.\"}\n",
+                    log.format(event(3, request, "Nur net hudeln.", null)));
+        }
+
+        @Test
+        void should_escapeQuotesAndControlCharacters() {
+            NdjsonAuditLog log = NdjsonAuditLog.open(dir, 1024);
+
+            String line = log.format(event(0, QuoteRequest.any(), "Say \"yes\"\\\n\u0001", null));
+
+            assertTrue(line.contains("\"quote\":\"Say \\\"yes\\\"\\\\\\n\\u0001\""), line);
+        }
+
+        @Test
+        void should_recordFailure_when_generationFailed() {
+            NdjsonAuditLog log = NdjsonAuditLog.open(dir, 1024);
+
+            String line = log.format(event(0, QuoteRequest.any(), null, new IllegalStateException("none")));
+
+            assertTrue(line.contains("\"outcome\":\"failed\""), line);
+            assertTrue(line.contains("\"failure\":\"java.lang.IllegalStateException\""), line);
+            assertFalse(line.contains("\"quote\""), line);
+        }
+    }
+
+    @Nested
+    @DisplayName("onEvent(...)")
+    final class OnEvent {
+
+        @Test
+        void should_rotateFiles_when_fileWouldExceedMaxBytes() throws IOException {
+            try (NdjsonAuditLog log = NdjsonAuditLog.open(dir, 300)) {
+                for (int i = 0; i < 5; i++) {
+                    log.onEvent(event(i, QuoteRequest.any(), "Keep going, step " + i + ".", null), true);
+                }
+            }
+
+            List<Path> files = files();
+            assertTrue(files.size() > 1);
+            long lines = 0;
+            for (Path file : files) {
+                assertTrue(Files.size(file) <= 300);
+                lines += Files.readAllLines(file).size();
+            }
+            assertEquals(5, lines);
+        }
+
+        @Test
+        void should_startNewFile_when_reopened() throws IOException {
+            try (NdjsonAuditLog log = NdjsonAuditLog.open(dir, 1024)) {
+                log.onEvent(event(0, QuoteRequest.any(), "One.", null), true);
+            }
+            try (NdjsonAuditLog log = NdjsonAuditLog.open(dir, 1024)) {
+                log.onEvent(event(0, QuoteRequest.any(), "Two.", null), true);
+            }
+
+            List<Path> files = files();
+            assertEquals(2, files.size());
+            assertTrue(Files.readString(files.get(1)).contains("Two."));
+        }
+
+        @Test
+        void should_writeEverything_when_usedBehindRing() throws IOException {
+            try (ServedQuoteRing ring = ServedQuoteRing.start(
+                    64, ServedQuoteRing.OverflowPolicy.BLOCK, "cli", NdjsonAuditLog.open(dir, 1 << 20), 16)) {
+                for (int i = 0; i < 200; i++) {
+                    ring.onServed(QuoteRequest.any(), "Quote " + i + ".", 1_000, null);
+                }
+            }
+
+            List<String> lines = Files.readAllLines(files().getFirst());
+            assertEquals(200, lines.size());
+            assertTrue(lines.getLast().contains("\"quote\":\"Quote 199.\""));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.vishnu.quote.infrastructure.audit;
+
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ServedQuoteRing")
+final class ServedQuoteRingTest {
+
+    /**
+     * Copies what it sees, since ring events are reused.
+     */
+    private static final class Recording implements ServedQuoteRing.Handler {
+        final List<String> quotes = Collections.synchronizedList(new ArrayList<>());
+        final List<Long> sequences = Collections.synchronizedList(new ArrayList<>());
+        volatile int batchEnds;
+        volatile boolean closed;
+
+        @Override
+        public void onEvent(ServedQuoteEvent event, boolean endOfBatch) {
+            quotes.add(event.served() ? event.quote() : "failed:" + event.failure());
+            sequences.add(event.sequence());
+            if (endOfBatch) batchEnds++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Nested
+    @DisplayName("start(...)")
+    final class Start {
+
+        @Test
+        void should_throwIllegalArgumentException_when_capacityIsNotPowerOfTwo() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ServedQuoteRing.start(6, ServedQuoteRing.OverflowPolicy.DROP, "test", new Recording(), 4));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxBatchIsNotPositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> ServedQuoteRing.start(8, ServedQuoteRing.OverflowPolicy.DROP, "test", new Recording(), 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("onServed(...)")
+    final class OnServed {
+
+        @Test
+        void should_deliverEventsInOrder_withRequestFields() {
+            Recording handler = new Recording();
+            List<String> seen = new ArrayList<>();
+            ServedQuoteRing.Handler capture = (event, end) -> {
+                seen.add(event.source() + "|" + event.topic() + "|" + event.locale() + "|" + event.latencyNanos());
+                handler.onEvent(event, end);
+            };
+            try (ServedQuoteRing ring = ServedQuoteRing.start(8, ServedQuoteRing.OverflowPolicy.BLOCK, "http", capture, 4)) {
+                ring.onServed(QuoteRequest.about("focus").withLocale(Locale.GERMAN), "Bleib dran.", 1_500, null);
+                ring.onServed(QuoteRequest.any(), null, 10, new IllegalStateException("none"));
+            }
+
+            assertEquals(List.of("Bleib dran.", "failed:java.lang.IllegalStateException"), handler.quotes);
+            assertEquals(List.of("http|focus|de|1500", "http|null|null|10"), seen);
+            assertEquals(List.of(0L, 1L), handler.sequences);
+        }
+
+        @Test
+        void should_wrapAround_when_moreEventsThanSlotsArePublished() {
+            Recording handler = new Recording();
+            try (ServedQuoteRing ring = ServedQuoteRing.start(4, ServedQuoteRing.OverflowPolicy.BLOCK, "test", handler, 2)) {
+                for (int i = 0; i < 100; i++) {
+                    ring.onServed(QuoteRequest.any(), "q" + i, 0, null);
+                }
+            }
+
+            assertEquals(100, handler.quotes.size());
+            assertEquals("q99", handler.quotes.get(99));
+            assertTrue(handler.batchEnds >= 50);
+        }
+
+        @Test
+        void should_deliverEveryEvent_when_manyThreadsPublishWithBlockPolicy() throws Exception {
+            Recording handler = new Recording();
+            ServedQuoteRing ring = ServedQuoteRing.start(16, ServedQuoteRing.OverflowPolicy.BLOCK, "test", handler, 8);
+            try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+                for (int t = 0; t < 4; t++) {
+                    executor.submit(() -> {
+                        for (int i = 0; i < 2_500; i++) {
+                            ring.onServed(QuoteRequest.any(), "q", 0, null);
+                        }
+                    });
+                }
+            }
+            ring.close();
+
+            assertEquals(10_000, ring.handled());
+            assertEquals(0, ring.dropped());
+            for (int i = 0; i < handler.sequences.size(); i++) {
+                assertEquals(i, handler.sequences.get(i));
+            }
+        }
+
+        @Test
+        void should_dropAndCount_when_ringIsFullWithDropPolicy() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(1);
+            Recording handler = new Recording();
+            ServedQuoteRing.Handler stalled = (event, end) -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                handler.onEvent(event, end);
+            };
+            ServedQuoteRing ring = ServedQuoteRing.start(4, ServedQuoteRing.OverflowPolicy.DROP, "test", stalled, 4);
+            ring.onServed(QuoteRequest.any(), "first", 0, null);
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            for (int i = 0; i < 10; i++) {
+                ring.onServed(QuoteRequest.any(), "more", 0, null);
+            }
+            release.countDown();
+            ring.close();
+
+            assertEquals(7, ring.dropped());
+            assertEquals(4, ring.handled());
+        }
+
+        @Test
+        void should_countHandlerFailures_andKeepConsuming() {
+            List<String> handled = new ArrayList<>();
+            ServedQuoteRing.Handler flaky = (event, end) -> {
+                if (event.sequence() == 0) throw new IOException("disk full");
+                handled.add(event.quote());
+            };
+            ServedQuoteRing ring = ServedQuoteRing.start(8, ServedQuoteRing.OverflowPolicy.BLOCK, "test", flaky, 8);
+            ring.onServed(QuoteRequest.any(), "lost", 0, null);
+            ring.onServed(QuoteRequest.any(), "kept", 0, null);
+            ring.close();
+
+            assertEquals(List.of("kept"), handled);
+            assertEquals(1, ring.handlerFailures());
+        }
+    }
+
+    @Nested
+    @DisplayName("close()")
+    final class Close {
+
+        @Test
+        void should_closeHandler_andDropLaterEvents() {
+            Recording handler = new Recording();
+            ServedQuoteRing ring = ServedQuoteRing.start(8, ServedQuoteRing.OverflowPolicy.BLOCK, "test", handler, 8);
+
+            ring.close();
+            ring.onServed(QuoteRequest.any(), "late", 0, null);
+
+            assertTrue(handler.closed);
+            assertEquals(1, ring.dropped());
+            assertEquals(List.of(), handler.quotes);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.vishnu.quote.infrastructure.journal;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JournalingQuoteGenerator")
+final class JournalingQuoteGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("generate()")
+    final class Generate {
+
+        @Test
+        void should_returnDelegateValue_and_journalTrimmedQuote() {
+            QuoteGenerator delegate = mock(QuoteGenerator.class);
+            when(delegate.generate()).thenReturn("  Keep going.  ");
+            QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16);
+
+            String quote = new JournalingQuoteGenerator(delegate, journal).generate();
+            journal.close();
+
+            assertEquals("  Keep going.  ", quote);
+            try (QuoteJournal reopened = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                assertEquals("Keep going.", reopened.quoteAt(0));
+            }
+        }
+
+        @Test
+        void should_notJournalBlankOrNullQuotes() {
+            QuoteGenerator delegate = mock(QuoteGenerator.class);
+            when(delegate.generate()).thenReturn("  ", (String) null);
+            try (QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                JournalingQuoteGenerator generator = new JournalingQuoteGenerator(delegate, journal);
+
+                generator.generate();
+                generator.generate();
+            }
+            try (QuoteJournal reopened = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                assertEquals(0, reopened.size());
+            }
+        }
+
+        @Test
+        void should_propagateDelegateFailure() {
+            QuoteGenerator delegate = mock(QuoteGenerator.class);
+            RuntimeException failure = new RuntimeException("ai unavailable");
+            when(delegate.generate()).thenThrow(failure);
+            try (QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                RuntimeException ex = assertThrows(RuntimeException.class, new JournalingQuoteGenerator(delegate, journal)::generate);
+
+                assertSame(failure, ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.vishnu.quote.infrastructure.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteJournal")
+final class QuoteJournalTest {
+
+    private static final long SEGMENT_BYTES = 128 * 1024;
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("open()")
+    final class Open {
+
+        @Test
+        void should_throwIllegalArgumentException_when_segmentIsSmallerThanOneRecord() {
+            assertThrows(IllegalArgumentException.class, () -> QuoteJournal.open(dir, 1024, 16));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_batchIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> QuoteJournal.open(dir, SEGMENT_BYTES, 0));
+        }
+
+        @Test
+        void should_startEmpty_when_directoryIsNew() {
+            try (QuoteJournal journal = QuoteJournal.open(dir.resolve("new"), SEGMENT_BYTES, 16)) {
+                assertEquals(0, journal.size());
+                assertTrue(journal.randomQuote().isEmpty());
+                assertEquals("journal:" + dir.resolve("new"), journal.description());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("append()")
+    final class Append {
+
+        @Test
+        void should_makeQuoteReadable_once_appendCompletes() throws Exception {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                journal.append("Keep going.").get(5, TimeUnit.SECONDS);
+
+                assertEquals(1, journal.size());
+                assertEquals("Keep going.", journal.quoteAt(0));
+                assertEquals("Keep going.", journal.randomQuote().orElseThrow());
+            }
+        }
+
+        @Test
+        void should_completeEveryConcurrentAppend() throws Exception {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 8)) {
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < 500; i++) {
+                    futures.add(journal.append("Quote " + i));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+                assertEquals(500, journal.size());
+            }
+        }
+
+        @Test
+        void should_failFuture_when_quoteIsEmpty() {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                ExecutionException ex = assertThrows(ExecutionException.class, () -> journal.append("").get());
+
+                assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+            }
+        }
+
+        @Test
+        void should_failFuture_when_journalIsClosed() {
+            QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16);
+            journal.close();
+
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> journal.append("Late.").get());
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+
+        @Test
+        void should_failLaterAppends_when_writerThreadStops() throws Exception {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                journal.append("Before.").get(5, TimeUnit.SECONDS);
+                Thread writer = Thread.getAllStackTraces().keySet().stream()
+                        .filter(t -> t.getName().equals("quote-journal-writer"))
+                        .findFirst()
+                        .orElseThrow();
+                writer.interrupt();
+                writer.join(5_000);
+
+                ExecutionException ex = assertThrows(ExecutionException.class,
+                        () -> journal.append("After.").get(5, TimeUnit.SECONDS));
+                assertInstanceOf(IllegalStateException.class, ex.getCause());
+                assertEquals(1, journal.size());
+            }
+        }
+
+        @Test
+        void should_rollToNewSegment_when_activeSegmentIsFull() throws Exception {
+            String quote = "x".repeat(60 * 1024);
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                for (int i = 0; i < 5; i++) {
+                    journal.append(quote + i).get(5, TimeUnit.SECONDS);
+                }
+
+                assertEquals(3, segmentFiles().size());
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(quote + i, journal.quoteAt(i));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("replay")
+    final class Replay {
+
+        @Test
+        void should_restoreAllQuotes_acrossSegments_afterReopen() throws Exception {
+            String padding = "y".repeat(50 * 1024);
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                for (int i = 0; i < 6; i++) {
+                    journal.append(padding + i);
+                }
+                journal.append("last").get(5, TimeUnit.SECONDS);
+            }
+
+            try (QuoteJournal reopened = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                assertEquals(7, reopened.size());
+                Set<String> quotes = new HashSet<>();
+                for (int i = 0; i < reopened.size(); i++) {
+                    quotes.add(reopened.quoteAt(i));
+                }
+                assertTrue(quotes.contains("last"));
+                assertTrue(quotes.contains(padding + 5));
+
+                reopened.append("after reopen").get(5, TimeUnit.SECONDS);
+                assertEquals("after reopen", reopened.quoteAt(7));
+            }
+        }
+
+        @Test
+        void should_dropTornTail_and_keepAppendingAfterIt() throws Exception {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                journal.append("First.").get(5, TimeUnit.SECONDS);
+                journal.append("Second.").get(5, TimeUnit.SECONDS);
+            }
+            Path segment = segmentFiles().get(0);
+            long intact = Files.size(segment);
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.truncate(intact - 3);
+            }
+
+            try (QuoteJournal reopened = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                assertEquals(1, reopened.size());
+                assertEquals("First.", reopened.quoteAt(0));
+
+                reopened.append("Third.").get(5, TimeUnit.SECONDS);
+            }
+            try (QuoteJournal again = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                assertEquals(2, again.size());
+                assertEquals("Third.", again.quoteAt(1));
+            }
+        }
+
+        @Test
+        void should_stopAtRecordWithBadChecksum() throws Exception {
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                journal.append("Good.").get(5, TimeUnit.SECONDS);
+                journal.append("Corrupted.").get(5, TimeUnit.SECONDS);
+            }
+            Path segment = segmentFiles().get(0);
+            byte[] bytes = Files.readAllBytes(segment);
+            bytes[bytes.length - 2] ^= 0x01;
+            Files.write(segment, bytes);
+
+            try (QuoteJournal reopened = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                assertEquals(1, reopened.size());
+                assertEquals("Good.", reopened.quoteAt(0));
+            }
+        }
+
+        @Test
+        void should_throwUncheckedIOException_when_sealedSegmentIsCorrupt() throws Exception {
+            String quote = "z".repeat(60 * 1024);
+            try (QuoteJournal journal = QuoteJournal.open(dir, SEGMENT_BYTES, 16)) {
+                for (int i = 0; i < 3; i++) {
+                    journal.append(quote + i).get(5, TimeUnit.SECONDS);
+                }
+            }
+            Path sealed = segmentFiles().get(0);
+            byte[] bytes = Files.readAllBytes(sealed);
+            bytes[16] ^= 0x01;
+            Files.write(sealed, bytes);
+
+            UncheckedIOException ex = assertThrows(UncheckedIOException.class,
+                    () -> QuoteJournal.open(dir, SEGMENT_BYTES, 16));
+            assertTrue(ex.getCause().getMessage().contains("sealed segment"));
+            assertEquals(bytes.length, Files.size(sealed));
+        }
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".log")).sorted().toList();
+        }
+    }
+}
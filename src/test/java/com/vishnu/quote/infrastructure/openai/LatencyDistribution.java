@@ -0,0 +1,56 @@
+package com.vishnu.quote.infrastructure.openai;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+/**
+ * Samples simulated upstream latencies for {@link StubResponsesServer}.
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    Duration sample(RandomGenerator random);
+
+    static LatencyDistribution fixed(Duration latency) {
+        return random -> latency;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long from = min.toNanos();
+        long to = max.toNanos();
+        if (to < from) {
+            throw new IllegalArgumentException("max must be >= min");
+        }
+        return random -> Duration.ofNanos(from == to ? from : random.nextLong(from, to + 1));
+    }
+
+    /**
+     * Log-normal latencies with the given median; {@code sigma} controls how heavy the tail is
+     * (0.5 gives a p99 of roughly 3.2x the median).
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(median.toNanos());
+        return random -> Duration.ofNanos((long) Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    /**
+     * Parses {@code fixed:200ms}, {@code uniform:100ms:300ms} or {@code lognormal:400ms:0.5}.
+     */
+    static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+        return switch (parts[0]) {
+            case "fixed" -> fixed(duration(parts[1]));
+            case "uniform" -> uniform(duration(parts[1]), duration(parts[2]));
+            case "lognormal" -> logNormal(duration(parts[1]), Double.parseDouble(parts[2]));
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+    static Duration duration(String text) {
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        if (value.endsWith("ms")) return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        if (value.endsWith("s")) return Duration.ofMillis((long) (Double.parseDouble(value.substring(0, value.length() - 1)) * 1000));
+        return Duration.ofMillis(Long.parseLong(value));
+    }
+}
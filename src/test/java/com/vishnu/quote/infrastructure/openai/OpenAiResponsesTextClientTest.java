@@ -1,10 +1,16 @@
 package com.vishnu.quote.infrastructure.openai;
 
 import com.openai.client.OpenAIClient;
+import com.openai.client.OpenAIClientAsync;
+import com.openai.core.RequestOptions;
+import com.openai.core.http.StreamResponse;
 import com.openai.models.ChatModel;
 import com.openai.models.ResponsesModel;
 import com.openai.models.responses.*;
+import com.openai.services.async.ResponseServiceAsync;
 import com.openai.services.blocking.ResponseService;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.DeadlineExceededException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,8 +20,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -143,25 +153,242 @@ final class OpenAiResponsesTextClientTest {
             verifyNoMoreInteractions(openAIClient, responseService);
         }
 
+    }
+
+    @Nested
+    @DisplayName("generateText(prompt, deadline)")
+    final class GenerateTextWithDeadline {
+
+        @Mock
+        private OpenAIClientAsync asyncClient;
+
+        @Mock
+        private ResponseServiceAsync asyncResponses;
+
+        private OpenAiResponsesTextClient textClient;
+
+        @BeforeEach
+        void init() {
+            textClient = new OpenAiResponsesTextClient(openAIClient, model, 1.0, 100);
+        }
+
+        @Test
+        void should_useBlockingClient_when_deadlineIsUnbounded() {
+            when(openAIClient.responses()).thenReturn(responseService);
+            Response response = mockResponseWithText();
+            when(responseService.create(any(ResponseCreateParams.class))).thenReturn(response);
+
+            assertEquals("output text", textClient.generateText("prompt", Deadline.none()));
+            verify(openAIClient, never()).async();
+        }
+
+        @Test
+        void should_passRemainingBudgetAsRequestTimeout() {
+            when(openAIClient.withOptions(any())).thenReturn(openAIClient);
+            when(openAIClient.async()).thenReturn(asyncClient);
+            when(asyncClient.responses()).thenReturn(asyncResponses);
+            Response response = mockResponseWithText();
+            when(asyncResponses.create(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(CompletableFuture.completedFuture(response));
+
+            String result = textClient.generateText("prompt", Deadline.after(Duration.ofSeconds(5)));
+
+            assertEquals("output text", result);
+            ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+            verify(asyncResponses).create(any(ResponseCreateParams.class), options.capture());
+            Duration timeout = options.getValue().getTimeout().request();
+            assertTrue(timeout.compareTo(Duration.ofSeconds(5)) <= 0);
+            assertTrue(timeout.compareTo(Duration.ofSeconds(4)) > 0);
+            verify(openAIClient).withOptions(any());
+        }
+
+        @Test
+        void should_cancelInFlightCall_when_deadlinePasses() {
+            when(openAIClient.withOptions(any())).thenReturn(openAIClient);
+            when(openAIClient.async()).thenReturn(asyncClient);
+            when(asyncClient.responses()).thenReturn(asyncResponses);
+            CompletableFuture<Response> never = new CompletableFuture<>();
+            when(asyncResponses.create(any(ResponseCreateParams.class), any(RequestOptions.class))).thenReturn(never);
+
+            assertThrows(DeadlineExceededException.class,
+                    () -> textClient.generateText("prompt", Deadline.after(Duration.ofMillis(50))));
+            assertTrue(never.isCancelled());
+        }
+
+        @Test
+        void should_reportPromptUsage_when_deadlinePasses() {
+            when(openAIClient.withOptions(any())).thenReturn(openAIClient);
+            when(openAIClient.async()).thenReturn(asyncClient);
+            when(asyncClient.responses()).thenReturn(asyncResponses);
+            when(asyncResponses.create(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(new CompletableFuture<>());
+            List<long[]> usage = new ArrayList<>();
+            OpenAiResponsesTextClient metered = new OpenAiResponsesTextClient(openAIClient, model, 1.0, 100,
+                    (name, input, output) -> usage.add(new long[]{input, output}));
+
+            assertThrows(DeadlineExceededException.class,
+                    () -> metered.generateText("prompt", Deadline.after(Duration.ofMillis(50))));
+
+            assertEquals(1, usage.size());
+            assertArrayEquals(new long[]{2, 0}, usage.get(0));
+        }
+
+        @Test
+        void should_propagateRuntimeException_fromFailedCall() {
+            when(openAIClient.withOptions(any())).thenReturn(openAIClient);
+            when(openAIClient.async()).thenReturn(asyncClient);
+            when(asyncClient.responses()).thenReturn(asyncResponses);
+            RuntimeException failure = new RuntimeException("failure");
+            when(asyncResponses.create(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(CompletableFuture.failedFuture(failure));
+
+            RuntimeException ex = assertThrows(RuntimeException.class,
+                    () -> textClient.generateText("prompt", Deadline.after(Duration.ofSeconds(5))));
+            assertSame(failure, ex);
+        }
+
+        @Test
+        void should_notCallClient_when_deadlineAlreadyExpired() {
+            assertThrows(DeadlineExceededException.class,
+                    () -> textClient.generateText("prompt", Deadline.after(Duration.ZERO)));
+            verifyNoInteractions(openAIClient);
+        }
+    }
+
+    @Nested
+    @DisplayName("generateLines()")
+    final class GenerateLines {
+
+        private OpenAiResponsesTextClient textClient;
+
+        @BeforeEach
+        void init() {
+            textClient = new OpenAiResponsesTextClient(openAIClient, model, 1.0, 100);
+        }
+
+        @Test
+        void should_scaleOutputTokensByLineCount() {
+            when(openAIClient.responses()).thenReturn(responseService);
+            Response response = mockResponseWithText("One.\nTwo.");
+            when(responseService.create(any(ResponseCreateParams.class))).thenReturn(response);
+
+            assertEquals("One.\nTwo.", textClient.generateLines("prompt", 4, Deadline.none()));
+
+            ArgumentCaptor<ResponseCreateParams> captor = ArgumentCaptor.forClass(ResponseCreateParams.class);
+            verify(responseService).create(captor.capture());
+            assertEquals(400, captor.getValue().maxOutputTokens().orElseThrow().intValue());
+        }
+
+        @Test
+        void should_dropLastLine_when_responseHitTokenLimit() {
+            when(openAIClient.responses()).thenReturn(responseService);
+            Response response = mockResponseWithText("One.\nTwo.\nThr");
+            Response.IncompleteDetails details = mock(Response.IncompleteDetails.class);
+            when(details.reason()).thenReturn(Optional.of(Response.IncompleteDetails.Reason.MAX_OUTPUT_TOKENS));
+            when(response.incompleteDetails()).thenReturn(Optional.of(details));
+            when(responseService.create(any(ResponseCreateParams.class))).thenReturn(response);
+
+            assertEquals("One.\nTwo.", textClient.generateLines("prompt", 3, Deadline.none()));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_linesIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> textClient.generateLines("prompt", 0, Deadline.none()));
+        }
+    }
+
+    @Nested
+    @DisplayName("generateText(prompt, deadline, listener)")
+    final class GenerateTextStreaming {
+
+        @Mock
+        private StreamResponse<ResponseStreamEvent> stream;
+
+        private OpenAiResponsesTextClient textClient;
 
-        private static Response mockResponseWithText() {
-            ResponseOutputText outputText = mock(ResponseOutputText.class);
-            when(outputText.text()).thenReturn("  output text  ");
-            ResponseOutputMessage.Content content = mock(ResponseOutputMessage.Content.class);
-            when(content.outputText()).thenReturn(Optional.of(outputText));
-            ResponseOutputMessage message = mock(ResponseOutputMessage.class);
-            when(message.content()).thenReturn(List.of(content));
-            ResponseOutputItem item = mock(ResponseOutputItem.class);
-            when(item.message()).thenReturn(Optional.of(message));
-            Response response = mock(Response.class);
-            when(response.output()).thenReturn(List.of(item));
-            return response;
+        @BeforeEach
+        void init() {
+            textClient = new OpenAiResponsesTextClient(openAIClient, model, 1.0, 100);
+        }
+
+        @Test
+        void should_deliverDeltas_andCloseStream_when_listenerStops() {
+            when(openAIClient.responses()).thenReturn(responseService);
+            when(responseService.createStreaming(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(stream);
+            List<ResponseStreamEvent> events = List.of(delta("Keep"), delta(" going."), delta(" More"), mock(ResponseStreamEvent.class));
+            when(stream.stream()).thenReturn(events.stream());
+            List<String> seen = new ArrayList<>();
+
+            String result = textClient.generateText("prompt", Deadline.none(), text -> {
+                seen.add(text.toString());
+                return seen.size() < 3;
+            });
+
+            assertEquals("Keep going. More", result);
+            assertEquals(List.of("Keep", "Keep going.", "Keep going. More"), seen);
+            verify(stream).close();
+        }
+
+        @Test
+        void should_ignoreNonTextEvents() {
+            when(openAIClient.responses()).thenReturn(responseService);
+            when(responseService.createStreaming(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(stream);
+            ResponseStreamEvent other = mock(ResponseStreamEvent.class);
+            when(other.outputTextDelta()).thenReturn(Optional.empty());
+            ResponseStreamEvent keepGoing = delta(" Keep going. ");
+            when(stream.stream()).thenReturn(Stream.of(other, keepGoing));
+
+            assertEquals("Keep going.", textClient.generateText("prompt", Deadline.none(), text -> true));
+            verify(stream).close();
+        }
+
+        @Test
+        void should_passRemainingBudgetAsRequestTimeout() {
+            when(openAIClient.withOptions(any())).thenReturn(openAIClient);
+            when(openAIClient.responses()).thenReturn(responseService);
+            when(responseService.createStreaming(any(ResponseCreateParams.class), any(RequestOptions.class)))
+                    .thenReturn(stream);
+            when(stream.stream()).thenReturn(Stream.empty());
+
+            textClient.generateText("prompt", Deadline.after(Duration.ofSeconds(3)), text -> true);
+
+            ArgumentCaptor<RequestOptions> options = ArgumentCaptor.forClass(RequestOptions.class);
+            verify(responseService).createStreaming(any(ResponseCreateParams.class), options.capture());
+            assertTrue(options.getValue().getTimeout().request().compareTo(Duration.ofSeconds(3)) <= 0);
         }
 
-        private static Response mockEmptyResponse() {
-            Response response = mock(Response.class);
-            when(response.output()).thenReturn(List.of());
-            return response;
+        private static ResponseStreamEvent delta(String text) {
+            ResponseTextDeltaEvent delta = mock(ResponseTextDeltaEvent.class);
+            when(delta.delta()).thenReturn(text);
+            ResponseStreamEvent event = mock(ResponseStreamEvent.class);
+            when(event.outputTextDelta()).thenReturn(Optional.of(delta));
+            return event;
         }
     }
+
+    private static Response mockResponseWithText() {
+        return mockResponseWithText("  output text  ");
+    }
+
+    private static Response mockResponseWithText(String text) {
+        ResponseOutputText outputText = mock(ResponseOutputText.class);
+        when(outputText.text()).thenReturn(text);
+        ResponseOutputMessage.Content content = mock(ResponseOutputMessage.Content.class);
+        when(content.outputText()).thenReturn(Optional.of(outputText));
+        ResponseOutputMessage message = mock(ResponseOutputMessage.class);
+        when(message.content()).thenReturn(List.of(content));
+        ResponseOutputItem item = mock(ResponseOutputItem.class);
+        when(item.message()).thenReturn(Optional.of(message));
+        Response response = mock(Response.class);
+        when(response.output()).thenReturn(List.of(item));
+        return response;
+    }
+
+    private static Response mockEmptyResponse() {
+        Response response = mock(Response.class);
+        when(response.output()).thenReturn(List.of());
+        return response;
+    }
 }
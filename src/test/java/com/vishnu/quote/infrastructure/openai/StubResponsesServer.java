@@ -0,0 +1,261 @@
+package com.vishnu.quote.infrastructure.openai;
+
+import com.openai.client.OpenAIClient;
+import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the OpenAI Responses API ({@code POST /v1/responses}) with configurable latency,
+ * 5xx and 429 rates, and per-chunk delays for streaming responses. It speaks enough of the wire format for
+ * the official SDK to parse both regular and streamed responses.
+ */
+public final class StubResponsesServer implements AutoCloseable {
+
+    public record Profile(
+            LatencyDistribution latency,
+            double errorRate,
+            double throttleRate,
+            Duration streamChunkDelay,
+            double messyRate,
+            List<String> quotes
+    ) {
+        public Profile {
+            Objects.requireNonNull(latency, "latency");
+            Objects.requireNonNull(streamChunkDelay, "streamChunkDelay");
+            quotes = List.copyOf(quotes);
+            if (quotes.isEmpty()) {
+                throw new IllegalArgumentException("quotes must not be empty");
+            }
+            if (errorRate < 0 || throttleRate < 0 || messyRate < 0 || errorRate + throttleRate > 1 || messyRate > 1) {
+                throw new IllegalArgumentException("rates must be in [0, 1]");
+            }
+        }
+
+        public static Profile fast() {
+            return new Profile(LatencyDistribution.fixed(Duration.ZERO), 0, 0, Duration.ZERO, 0, DEFAULT_QUOTES);
+        }
+
+        public Profile withLatency(LatencyDistribution latency) {
+            return new Profile(latency, errorRate, throttleRate, streamChunkDelay, messyRate, quotes);
+        }
+
+        public Profile withFailures(double errorRate, double throttleRate) {
+            return new Profile(latency, errorRate, throttleRate, streamChunkDelay, messyRate, quotes);
+        }
+
+        public Profile withStreamChunkDelay(Duration delay) {
+            return new Profile(latency, errorRate, throttleRate, delay, messyRate, quotes);
+        }
+
+        public Profile withMessyRate(double messyRate) {
+            return new Profile(latency, errorRate, throttleRate, streamChunkDelay, messyRate, quotes);
+        }
+    }
+
+    public static final List<String> DEFAULT_QUOTES = List.of(
+            "Small steps every day add up to big results.",
+            "Progress beats perfection when you keep showing up.",
+            "Your effort today is a gift to your future self.",
+            "Discipline carries you where motivation cannot."
+    );
+
+    private static final Pattern STREAM_FLAG = Pattern.compile("\"stream\"\\s*:\\s*true");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong abortedStreams = new AtomicLong();
+    private final AtomicLong abortedResponses = new AtomicLong();
+    private volatile Profile profile;
+
+    private StubResponsesServer(HttpServer server, Profile profile) {
+        this.server = server;
+        this.profile = profile;
+    }
+
+    public static StubResponsesServer start(Profile profile) {
+        Objects.requireNonNull(profile, "profile");
+        try {
+            StubResponsesServer stub = new StubResponsesServer(
+                    HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0), profile);
+            stub.server.setExecutor(stub.executor);
+            stub.server.createContext("/v1/responses", stub::handle);
+            stub.server.start();
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start stub Responses API server", e);
+        }
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/v1";
+    }
+
+    /**
+     * SDK client pointed at this server, with retries disabled so failures are visible to the caller.
+     */
+    public OpenAIClient client() {
+        return OpenAIOkHttpClient.builder()
+                .baseUrl(baseUrl())
+                .apiKey("stub-key")
+                .maxRetries(0)
+                .build();
+    }
+
+    public void profile(Profile profile) {
+        this.profile = Objects.requireNonNull(profile, "profile");
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    public long abortedStreams() {
+        return abortedStreams.get();
+    }
+
+    /**
+     * Non-streamed requests whose connection was gone by the time the answer was written.
+     */
+    public long abortedResponses() {
+        return abortedResponses.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            long id = requests.incrementAndGet();
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            Profile p = profile;
+            SplittableRandom random = new SplittableRandom(id * 0x9E3779B97F4A7C15L);
+
+            sleep(p.latency().sample(random));
+            double roll = random.nextDouble();
+            if (roll < p.errorRate()) {
+                send(exchange, 500, "{\"error\":{\"message\":\"stub upstream error\",\"type\":\"server_error\"}}");
+                return;
+            }
+            if (roll < p.errorRate() + p.throttleRate()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 429, "{\"error\":{\"message\":\"stub rate limit\",\"type\":\"rate_limit_exceeded\"}}");
+                return;
+            }
+
+            String quote = p.quotes().get((int) ((id - 1) % p.quotes().size()));
+            if (random.nextDouble() < p.messyRate()) {
+                quote = "\"" + quote + "\" — Someone Famous. Also, here is another thought.";
+            }
+            if (STREAM_FLAG.matcher(body).find()) {
+                stream(exchange, id, quote, p.streamChunkDelay());
+            } else {
+                try {
+                    send(exchange, 200, response(id, quote));
+                } catch (IOException e) {
+                    abortedResponses.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void stream(HttpExchange exchange, long id, String quote, Duration chunkDelay) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        try {
+            int sequence = 0;
+            event(out, "response.created", "{\"type\":\"response.created\",\"sequence_number\":" + sequence++
+                    + ",\"response\":" + response(id, "") + "}");
+            for (String chunk : chunks(quote)) {
+                sleep(chunkDelay);
+                event(out, "response.output_text.delta", "{\"type\":\"response.output_text.delta\""
+                        + ",\"item_id\":\"msg_" + id + "\",\"output_index\":0,\"content_index\":0"
+                        + ",\"delta\":" + json(chunk) + ",\"logprobs\":[],\"sequence_number\":" + sequence++ + "}");
+            }
+            event(out, "response.completed", "{\"type\":\"response.completed\",\"sequence_number\":" + sequence
+                    + ",\"response\":" + response(id, quote) + "}");
+            out.close();
+        } catch (IOException e) {
+            abortedStreams.incrementAndGet();
+        }
+    }
+
+    private static List<String> chunks(String text) {
+        return Pattern.compile("(?<= )").splitAsStream(text).toList();
+    }
+
+    private static void event(OutputStream out, String type, String data) throws IOException {
+        out.write(("event: " + type + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static String response(long id, String text) {
+        String output = text.isEmpty() ? "[]" : "[{\"type\":\"message\",\"id\":\"msg_" + id + "\""
+                + ",\"status\":\"completed\",\"role\":\"assistant\",\"content\":[{\"type\":\"output_text\""
+                + ",\"text\":" + json(text) + ",\"annotations\":[]}]}]";
+        return "{\"id\":\"resp_" + id + "\",\"object\":\"response\",\"created_at\":0"
+                + ",\"status\":\"" + (text.isEmpty() ? "in_progress" : "completed") + "\""
+                + ",\"model\":\"stub-model\",\"output\":" + output
+                + ",\"parallel_tool_calls\":true,\"tool_choice\":\"auto\",\"tools\":[]"
+                + ",\"temperature\":1.0,\"top_p\":1.0,\"error\":null,\"incomplete_details\":null"
+                + ",\"instructions\":null,\"metadata\":{}"
+                + ",\"usage\":{\"input_tokens\":20,\"input_tokens_details\":{\"cached_tokens\":0}"
+                + ",\"output_tokens\":" + Math.max(1, text.length() / 4)
+                + ",\"output_tokens_details\":{\"reasoning_tokens\":0}"
+                + ",\"total_tokens\":" + (20 + Math.max(1, text.length() / 4)) + "}}";
+    }
+
+    private static String json(String text) {
+        StringBuilder out = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                default -> {
+                    if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        return out.append('"').toString();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero() || duration.isNegative()) return;
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.vishnu.quote.infrastructure.openai;
+
+import com.openai.client.OpenAIClient;
+import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.errors.InternalServerException;
+import com.openai.errors.RateLimitException;
+import com.openai.models.ChatModel;
+import com.vishnu.quote.domain.Deadline;
+import com.vishnu.quote.domain.DeadlineExceededException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OpenAiResponsesTextClient - against the local Responses API stub")
+final class StubResponsesServerTest {
+
+    private StubResponsesServer server;
+    private OpenAIClient openAi;
+    private OpenAiResponsesTextClient client;
+
+    @BeforeEach
+    void setUp() {
+        server = StubResponsesServer.start(StubResponsesServer.Profile.fast());
+        openAi = server.client();
+        client = new OpenAiResponsesTextClient(openAi, ChatModel.GPT_4_1_MINI, 0.7, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        openAi.close();
+        server.close();
+    }
+
+    @Test
+    void should_returnQuote_when_stubAnswers() {
+        assertEquals(StubResponsesServer.DEFAULT_QUOTES.getFirst(), client.generateText("prompt"));
+        assertEquals(1, server.requests());
+    }
+
+    @Test
+    void should_returnQuote_when_calledWithDeadline() {
+        String text = client.generateText("prompt", Deadline.after(Duration.ofSeconds(5)));
+
+        assertEquals(StubResponsesServer.DEFAULT_QUOTES.getFirst(), text);
+    }
+
+    @Test
+    void should_streamDeltas_when_listenerAttached() {
+        List<String> seen = new ArrayList<>();
+
+        String text = client.generateText("prompt", Deadline.after(Duration.ofSeconds(5)), soFar -> {
+            seen.add(soFar.toString());
+            return true;
+        });
+
+        assertEquals(StubResponsesServer.DEFAULT_QUOTES.getFirst(), text);
+        assertTrue(seen.size() > 1);
+    }
+
+    @Test
+    void should_stopStreamEarly_when_listenerDeclines() {
+        server.profile(StubResponsesServer.Profile.fast().withStreamChunkDelay(Duration.ofMillis(20)));
+
+        String text = client.generateText("prompt", Deadline.after(Duration.ofSeconds(5)), soFar -> false);
+
+        assertEquals("Small", text);
+    }
+
+    @Test
+    void should_throwRateLimit_when_stubThrottles() {
+        server.profile(StubResponsesServer.Profile.fast().withFailures(0, 1));
+
+        assertThrows(RateLimitException.class, () -> client.generateText("prompt"));
+    }
+
+    @Test
+    void should_throwServerError_when_stubFails() {
+        server.profile(StubResponsesServer.Profile.fast().withFailures(1, 0));
+
+        assertThrows(InternalServerException.class, () -> client.generateText("prompt"));
+    }
+
+    @Test
+    void should_abortCall_when_deadlineElapsesBeforeStubAnswers() {
+        server.profile(StubResponsesServer.Profile.fast()
+                .withLatency(LatencyDistribution.fixed(Duration.ofSeconds(2))));
+
+        long start = System.nanoTime();
+        assertThrows(DeadlineExceededException.class,
+                () -> client.generateText("prompt", Deadline.after(Duration.ofMillis(100))));
+
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void should_closeConnectionWithoutRetrying_when_deadlineElapses() throws InterruptedException {
+        server.profile(StubResponsesServer.Profile.fast()
+                .withLatency(LatencyDistribution.fixed(Duration.ofMillis(800))));
+        // The SDK's default of two retries, which a deadline-bound call must not use.
+        OpenAIClient retrying = OpenAIOkHttpClient.builder().baseUrl(server.baseUrl()).apiKey("stub-key").build();
+        try {
+            OpenAiResponsesTextClient bounded = new OpenAiResponsesTextClient(retrying, ChatModel.GPT_4_1_MINI, 0.7, 60);
+
+            assertThrows(DeadlineExceededException.class,
+                    () -> bounded.generateText("prompt", Deadline.after(Duration.ofMillis(200))));
+
+            long waitUntil = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (server.abortedResponses() == 0 && System.nanoTime() < waitUntil) {
+                Thread.sleep(20);
+            }
+            assertEquals(1, server.abortedResponses());
+            Thread.sleep(1_000);
+            assertEquals(1, server.requests());
+        } finally {
+            retrying.close();
+        }
+    }
+
+    @Test
+    void should_reportUsageFromResponse_when_callCompletes() {
+        List<long[]> usage = new ArrayList<>();
+        OpenAiResponsesTextClient metered = new OpenAiResponsesTextClient(openAi, ChatModel.GPT_4_1_MINI, 0.7, 60,
+                (model, input, output) -> usage.add(new long[]{input, output}));
+
+        String first = metered.generateText("prompt");
+        String second = metered.generateText("prompt", Deadline.after(Duration.ofSeconds(5)), soFar -> true);
+
+        assertEquals(2, usage.size());
+        assertArrayEquals(new long[]{20, first.length() / 4}, usage.get(0));
+        assertArrayEquals(new long[]{20, second.length() / 4}, usage.get(1));
+    }
+
+    @Test
+    void should_estimateUsage_when_streamIsStoppedBeforeUsageArrives() {
+        server.profile(StubResponsesServer.Profile.fast().withStreamChunkDelay(Duration.ofMillis(20)));
+        List<long[]> usage = new ArrayList<>();
+        OpenAiResponsesTextClient metered = new OpenAiResponsesTextClient(openAi, ChatModel.GPT_4_1_MINI, 0.7, 60,
+                (model, input, output) -> usage.add(new long[]{input, output}));
+
+        metered.generateText("twelve chars", Deadline.after(Duration.ofSeconds(5)), soFar -> false);
+
+        assertEquals(1, usage.size());
+        assertArrayEquals(new long[]{3, 2}, usage.getFirst());
+    }
+
+    @Test
+    void should_recordFlightRecorderEvents_withModelTokensAndOutcome() throws IOException {
+        server.profile(StubResponsesServer.Profile.fast().withStreamChunkDelay(Duration.ofMillis(20)));
+        Path file = Files.createTempFile("ai-request", ".jfr");
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("com.vishnu.quote.AiRequest");
+            recording.start();
+            client.generateText("prompt");
+            client.generateText("twelve chars", Deadline.after(Duration.ofSeconds(5)), soFar -> false);
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file).stream()
+                    .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        assertEquals(2, events.size());
+        RecordedEvent completed = events.get(0);
+        assertEquals(ChatModel.GPT_4_1_MINI.asString(), completed.getString("model"));
+        assertEquals("completed", completed.getString("outcome"));
+        assertEquals(20, completed.getLong("inputTokens"));
+        assertFalse(completed.getBoolean("tokensEstimated"));
+        RecordedEvent aborted = events.get(1);
+        assertEquals("aborted", aborted.getString("outcome"));
+        assertTrue(aborted.getBoolean("streamed"));
+        assertTrue(aborted.getBoolean("tokensEstimated"));
+        assertEquals(3, aborted.getLong("inputTokens"));
+    }
+}
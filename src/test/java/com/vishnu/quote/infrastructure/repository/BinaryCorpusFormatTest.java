@@ -0,0 +1,113 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryCorpusFormat")
+final class BinaryCorpusFormatTest {
+
+    private static final List<String> QUOTES = List.of(
+            "Keep going.",
+            "Ünïcödé quotes survive the round trip – intact.",
+            "Focus on the next action."
+    );
+
+    @Nested
+    @DisplayName("round trip")
+    final class RoundTrip {
+
+        @Test
+        void should_decodeEveryQuote_inOriginalOrder() {
+            PackedQuoteStore store = BinaryCorpusFormat.decode(BinaryCorpusFormat.encode(QUOTES));
+
+            assertEquals(QUOTES.size(), store.size());
+            for (int i = 0; i < QUOTES.size(); i++) {
+                assertEquals(QUOTES.get(i), store.quoteAt(i));
+            }
+        }
+
+        @Test
+        void should_handleEmptyCorpus() {
+            PackedQuoteStore store = BinaryCorpusFormat.decode(BinaryCorpusFormat.encode(List.of()));
+
+            assertEquals(0, store.size());
+        }
+
+        @Test
+        void should_throwIndexOutOfBounds_when_indexIsOutsideCorpus() {
+            PackedQuoteStore store = BinaryCorpusFormat.decode(BinaryCorpusFormat.encode(QUOTES));
+
+            assertThrows(IndexOutOfBoundsException.class, () -> store.quoteAt(QUOTES.size()));
+        }
+    }
+
+    @Nested
+    @DisplayName("decode()")
+    final class Decode {
+
+        @Test
+        void should_rejectForeignData() {
+            IllegalStateException ex = assertThrows(
+                    IllegalStateException.class,
+                    () -> BinaryCorpusFormat.decode("Keep going.\nStay focused.\n".getBytes())
+            );
+            assertEquals("not a binary quote corpus", ex.getMessage());
+        }
+
+        @Test
+        void should_rejectUnsupportedVersion() {
+            byte[] data = BinaryCorpusFormat.encode(QUOTES);
+            data[4] = 9;
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> BinaryCorpusFormat.decode(data));
+            assertEquals("unsupported binary quote corpus version: 9", ex.getMessage());
+        }
+
+        @Test
+        void should_rejectCorruptedBlob() {
+            byte[] data = BinaryCorpusFormat.encode(QUOTES);
+            data[data.length - 1] ^= 0x20;
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> BinaryCorpusFormat.decode(data));
+            assertEquals("binary quote corpus checksum mismatch", ex.getMessage());
+        }
+
+        @Test
+        void should_rejectTruncatedData() {
+            byte[] data = BinaryCorpusFormat.encode(QUOTES);
+            byte[] truncated = java.util.Arrays.copyOf(data, data.length - 3);
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> BinaryCorpusFormat.decode(truncated));
+            assertEquals("truncated binary quote corpus", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("BinaryCorpusCompiler")
+    final class Compiler {
+
+        @Test
+        void should_compileTextCorpus_applyingTheSameFilteringAsTheTextRepository(@TempDir Path dir) throws IOException {
+            Path source = dir.resolve("quotes.txt");
+            Path target = dir.resolve("out/quotes.bin");
+            Files.writeString(source, "# comment\n\n  Keep going.  \n\t\nStay focused.\n");
+
+            BinaryCorpusCompiler.compile(source, target);
+
+            PackedQuoteStore store = BinaryCorpusFormat.decode(Files.readAllBytes(target));
+            assertEquals(2, store.size());
+            assertEquals("Keep going.", store.quoteAt(0));
+            assertEquals("Stay focused.", store.quoteAt(1));
+            assertFalse(Files.exists(dir.resolve("out/quotes.bin.tmp")));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BinaryCorpusQuoteRepository")
+final class BinaryCorpusQuoteRepositoryTest {
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_resourceNameIsNull() {
+            NullPointerException ex = assertThrows(NullPointerException.class, () -> new BinaryCorpusQuoteRepository(null));
+            assertEquals("resourceName", ex.getMessage());
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_resourceNameStartsWithSlash() {
+            assertThrows(IllegalArgumentException.class, () -> new BinaryCorpusQuoteRepository("/quotes.bin"));
+        }
+
+        @Test
+        void should_describeBinaryResource() {
+            assertEquals("classpath-binary:quotes.bin", new BinaryCorpusQuoteRepository(" quotes.bin ").description());
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuote()")
+    final class RandomQuote {
+
+        @Test
+        void should_returnEmpty_when_resourceDoesNotExist() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("missing.bin");
+
+            assertTrue(repo.randomQuote().isEmpty());
+            assertEquals(0, repo.size());
+        }
+
+        @Test
+        void should_parseTextSource_when_binaryIsMissing() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("missing.bin", "quotes/quotes-nonempty.txt");
+
+            assertEquals(3, repo.size());
+            assertEquals("Small steps every day.", repo.quoteAt(0));
+        }
+
+        @Test
+        void should_parseTextSource_when_binaryIsCorrupt() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("quotes/corrupt.bin", "quotes/quotes-nonempty.txt");
+
+            assertEquals(3, repo.size());
+        }
+
+        @Test
+        void should_returnEmpty_when_binaryIsCorrupt_andThereIsNoTextSource() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("quotes/corrupt.bin");
+
+            assertTrue(repo.randomQuote().isEmpty());
+        }
+
+        @Test
+        void should_serveTheBuildCompiledCorpus_withSameQuotesAsTheTextSource() {
+            ClasspathQuoteRepository text = new ClasspathQuoteRepository("quotes.txt");
+            BinaryCorpusQuoteRepository binary = new BinaryCorpusQuoteRepository("quotes.bin");
+
+            assertEquals(text.size(), binary.size());
+            Set<String> expected = new HashSet<>(text.quotes());
+            for (int i = 0; i < 50; i++) {
+                assertTrue(expected.contains(binary.randomQuote().orElseThrow()));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("allocation-free selection")
+    final class AllocationFree {
+
+        @Test
+        void should_returnMinusOne_when_corpusIsEmpty() {
+            assertEquals(-1, new BinaryCorpusQuoteRepository("missing.bin").randomIndex());
+        }
+
+        @Test
+        void should_returnSameInstance_when_quoteIsPickedTwice() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("quotes.bin");
+
+            assertSame(repo.quoteAt(0), repo.quoteAt(0));
+        }
+
+        /**
+         * Measures the repository's own pick rather than a generator chain, so nothing here relies on the
+         * JIT eliminating a temporary object and the count is the same in the interpreter.
+         */
+        @Test
+        void should_notAllocate_when_pickingFromWarmCorpus() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("quotes.bin");
+            for (int i = 0; i < repo.size(); i++) {
+                repo.quoteAt(i);
+            }
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            repo.randomQuoteOrNull();
+            threads.getCurrentThreadAllocatedBytes();
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < 10_000; i++) {
+                repo.randomQuoteOrNull();
+            }
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            assertTrue(allocated < 1024, "allocated " + allocated + " bytes for 10000 quotes");
+        }
+
+        @Test
+        void should_storeQuotesPreTrimmed() {
+            BinaryCorpusQuoteRepository repo = new BinaryCorpusQuoteRepository("quotes.bin");
+
+            for (int i = 0; i < repo.size(); i++) {
+                String quote = repo.quoteAt(i);
+                assertSame(quote, quote.trim());
+                assertFalse(quote.isEmpty());
+            }
+        }
+    }
+}
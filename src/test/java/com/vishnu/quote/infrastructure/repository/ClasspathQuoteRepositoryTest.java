@@ -1,12 +1,20 @@
 package com.vishnu.quote.infrastructure.repository;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -168,6 +176,85 @@ final class ClasspathQuoteRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("size() and reload()")
+    final class SizeAndReload {
+
+        @Test
+        void should_countFilteredQuotes() {
+            withContextClassLoader(new InMemoryClassLoader().withResource("quotes.txt", "# c\nA\n\nB\n"), () -> {
+                ClasspathQuoteRepository repo = new ClasspathQuoteRepository("quotes.txt");
+
+                assertEquals(2, repo.size());
+            });
+        }
+
+        @Test
+        void should_dropRepeatedQuotes_keepingTheFirst() {
+            withContextClassLoader(new InMemoryClassLoader().withResource("quotes.txt", "Keep going.\nB\nkeep going!\n"), () -> {
+                ClasspathQuoteRepository repo = new ClasspathQuoteRepository("quotes.txt");
+
+                assertEquals(2, repo.size());
+                assertEquals("Keep going.", repo.quoteAt(0));
+                assertEquals("B", repo.quoteAt(1));
+            });
+        }
+
+        @Test
+        void should_replaceCachedQuotes_when_reloaded() {
+            CountingInMemoryClassLoader cl = new CountingInMemoryClassLoader().withResource("quotes.txt", "A\n");
+
+            withContextClassLoader(cl, () -> {
+                ClasspathQuoteRepository repo = new ClasspathQuoteRepository("quotes.txt");
+                assertEquals(1, repo.size());
+
+                cl.withResource("quotes.txt", "A\nB\nC\n");
+                repo.reload();
+
+                assertEquals(3, repo.size());
+                assertEquals(2, cl.openCount());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("flight recorder")
+    final class FlightRecorder {
+
+        @Test
+        void should_recordCorpusLoads_withOutcome() throws IOException {
+            InMemoryClassLoader cl = new InMemoryClassLoader().withResource("quotes.txt", "A\nB\nb\n");
+
+            List<RecordedEvent> events = recordLoads(() -> withContextClassLoader(cl, () -> {
+                new ClasspathQuoteRepository("quotes.txt").size();
+                new ClasspathQuoteRepository("missing.txt").size();
+            }));
+
+            assertEquals(2, events.size());
+            assertEquals("quotes.txt", events.get(0).getString("resource"));
+            assertEquals("loaded", events.get(0).getString("outcome"));
+            assertEquals(2, events.get(0).getInt("quotes"));
+            assertEquals(1, events.get(0).getInt("duplicates"));
+            assertEquals("missing", events.get(1).getString("outcome"));
+        }
+
+        private List<RecordedEvent> recordLoads(Runnable action) throws IOException {
+            Path file = Files.createTempFile("corpus-load", ".jfr");
+            try (Recording recording = new Recording()) {
+                recording.enable("com.vishnu.quote.CorpusLoad");
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                        .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                        .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
     private static void withContextClassLoader(ClassLoader cl, Runnable action) {
         ClassLoader original = Thread.currentThread().getContextClassLoader();
         Thread.currentThread().setContextClassLoader(cl);
@@ -0,0 +1,281 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+import com.vishnu.quote.infrastructure.journal.QuoteJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CompositeQuoteRepository")
+final class CompositeQuoteRepositoryTest {
+
+    @Nested
+    @DisplayName("factories")
+    final class Factories {
+
+        @Test
+        void should_throwIllegalArgumentException_when_noSources() {
+            assertThrows(IllegalArgumentException.class, () -> CompositeQuoteRepository.uniform(List.of()));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_weightIsNotPositive() {
+            QuoteRepository repo = mock(QuoteRepository.class);
+
+            assertThrows(IllegalArgumentException.class, () -> new CompositeQuoteRepository.Source(repo, 0.0));
+            assertThrows(IllegalArgumentException.class, () -> new CompositeQuoteRepository.Source(repo, Double.NaN));
+        }
+
+        @Test
+        void should_notTouchChildren_until_firstUse() {
+            QuoteRepository child = mock(QuoteRepository.class);
+
+            CompositeQuoteRepository.uniform(List.of(child));
+
+            verifyNoInteractions(child);
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuote()")
+    final class RandomQuote {
+
+        @Test
+        void should_returnEmpty_when_allChildrenAreEmpty() {
+            QuoteRepository a = fixed("a", 0);
+            QuoteRepository b = fixed("b", 0);
+
+            assertTrue(CompositeQuoteRepository.uniform(List.of(a, b)).randomQuote().isEmpty());
+            verify(a, never()).randomQuote();
+            verify(b, never()).randomQuote();
+        }
+
+        @Test
+        void should_sampleSourcesInProportionToTheirSize_when_uniform() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                    fixed("small", 1_000), fixed("empty", 0), fixed("large", 3_000)
+            ));
+
+            Map<String, Integer> counts = sample(composite, 40_000);
+
+            assertEquals(4_000, composite.size());
+            assertNull(counts.get("empty"));
+            assertEquals(0.25, counts.get("small") / 40_000.0, 0.02);
+            assertEquals(0.75, counts.get("large") / 40_000.0, 0.02);
+        }
+
+        @Test
+        void should_sampleSourcesByConfiguredWeight_when_weighted() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.weighted(List.of(
+                    new CompositeQuoteRepository.Source(fixed("base", 10), 1.0),
+                    new CompositeQuoteRepository.Source(fixed("archive", 1_000_000), 1.0)
+            ));
+
+            Map<String, Integer> counts = sample(composite, 20_000);
+
+            assertEquals(0.5, counts.get("base") / 20_000.0, 0.02);
+        }
+
+        @Test
+        void should_pickUpChildSizeChanges_without_refresh() {
+            QuoteRepository growing = fixed("growing", 0);
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(growing));
+            assertTrue(composite.randomQuote().isEmpty());
+
+            when(growing.size()).thenReturn(5);
+            assertEquals(Optional.of("growing"), composite.randomQuote());
+            assertEquals(5, composite.size());
+        }
+
+        @Test
+        void should_sampleJournalAppends_when_journalStartsEmpty(@TempDir Path dir) {
+            try (QuoteJournal journal = QuoteJournal.open(dir, 128 * 1024, 16)) {
+                CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                        new IndexedQuoteRepository("corpus", List.of("c0")),
+                        journal
+                ));
+                assertEquals(1, composite.size());
+
+                for (int i = 0; i < 99; i++) {
+                    journal.append("j" + i).join();
+                }
+
+                assertEquals(100, composite.size());
+                int fromJournal = 0;
+                for (int i = 0; i < 1_000; i++) {
+                    if (composite.randomQuote().orElseThrow().startsWith("j")) fromJournal++;
+                }
+                assertTrue(fromJournal > 900, "journal picks: " + fromJournal);
+                assertEquals("j98", composite.quoteAt(99));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("quoteAt()")
+    final class QuoteAt {
+
+        @Test
+        void should_mapGlobalIndexOntoChildren_inOrder() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                    new IndexedQuoteRepository("a", List.of("a0", "a1")),
+                    new IndexedQuoteRepository("empty", List.of()),
+                    new IndexedQuoteRepository("b", List.of("b0"))
+            ));
+
+            assertEquals("a0", composite.quoteAt(0));
+            assertEquals("a1", composite.quoteAt(1));
+            assertEquals("b0", composite.quoteAt(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> composite.quoteAt(3));
+        }
+    }
+
+    @Nested
+    @DisplayName("randomIndex()")
+    final class RandomIndex {
+
+        @Test
+        void should_returnMinusOne_when_allChildrenAreEmpty() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                    new IndexedQuoteRepository("empty", List.of())
+            ));
+
+            assertEquals(-1, composite.randomIndex());
+        }
+
+        @Test
+        void should_honourWeights_andStayInsideTheChosenSource() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.weighted(List.of(
+                    new CompositeQuoteRepository.Source(new IndexedQuoteRepository("a", List.of("a0", "a1")), 1.0),
+                    new CompositeQuoteRepository.Source(new IndexedQuoteRepository("empty", List.of()), 5.0),
+                    new CompositeQuoteRepository.Source(new IndexedQuoteRepository("b", List.of("b0", "b1", "b2", "b3")), 1.0)
+            ));
+
+            int fromA = 0;
+            for (int i = 0; i < 20_000; i++) {
+                String quote = composite.quoteAt(composite.randomIndex());
+                if (quote.startsWith("a")) fromA++;
+            }
+
+            assertEquals(0.5, fromA / 20_000.0, 0.02);
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuoteOrNull()")
+    final class RandomQuoteOrNull {
+
+        @Test
+        void should_readFromTheChildsCurrentQuotes_when_childReloadsSmallerMidPick() {
+            ShrinkingQuoteRepository child = new ShrinkingQuoteRepository(
+                    List.of("q0", "q1", "q2", "q3", "q4", "q5", "q6", "q7", "q8", "q9"), List.of("only"));
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(child));
+
+            for (int i = 0; i < 100; i++) {
+                assertEquals("only", composite.randomQuoteOrNull());
+            }
+            assertEquals(1, composite.size());
+        }
+
+        @Test
+        void should_returnNull_when_allChildrenAreEmpty() {
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                    new IndexedQuoteRepository("empty", List.of())
+            ));
+
+            assertNull(composite.randomQuoteOrNull());
+        }
+    }
+
+    @Nested
+    @DisplayName("preload()")
+    final class Preload {
+
+        @Test
+        void should_loadEveryChild_onTheGivenExecutor() throws Exception {
+            QuoteRepository a = fixed("a", 1);
+            QuoteRepository b = fixed("b", 2);
+            CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(a, b));
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                composite.preload(executor).get(5, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            verify(a, atLeastOnce()).size();
+            verify(b, atLeastOnce()).size();
+            assertEquals(3, composite.size());
+        }
+    }
+
+    @Test
+    void should_describeAllChildren() {
+        CompositeQuoteRepository composite = CompositeQuoteRepository.uniform(List.of(
+                new ClasspathQuoteRepository("a.txt"), new ClasspathQuoteRepository("b.txt")
+        ));
+
+        assertEquals("composite:[classpath:a.txt, classpath:b.txt]", composite.description());
+    }
+
+    private static QuoteRepository fixed(String quote, int size) {
+        QuoteRepository repo = mock(QuoteRepository.class);
+        lenient().when(repo.size()).thenReturn(size);
+        lenient().when(repo.randomQuote()).thenReturn(Optional.of(quote));
+        return repo;
+    }
+
+    /**
+     * Swaps to a smaller corpus right after reporting its size, the way a reload racing a pick would.
+     */
+    private static final class ShrinkingQuoteRepository implements QuoteRepository {
+
+        private final List<String> after;
+        private volatile List<String> quotes;
+
+        ShrinkingQuoteRepository(List<String> before, List<String> after) {
+            this.quotes = before;
+            this.after = after;
+        }
+
+        @Override
+        public int size() {
+            int n = quotes.size();
+            quotes = after;
+            return n;
+        }
+
+        @Override
+        public String quoteAt(int index) {
+            return quotes.get(index);
+        }
+
+        @Override
+        public String randomQuoteOrNull() {
+            List<String> current = quotes;
+            return current.isEmpty() ? null : current.get(ThreadLocalRandom.current().nextInt(current.size()));
+        }
+    }
+
+    private static Map<String, Integer> sample(QuoteRepository repo, int n) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            counts.merge(repo.randomQuote().orElseThrow(), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,87 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompressedQuoteRepository")
+final class CompressedQuoteRepositoryTest {
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_quotesIsNull() {
+            NullPointerException ex = assertThrows(NullPointerException.class, () -> new CompressedQuoteRepository("test", null));
+            assertEquals("quotes", ex.getMessage());
+        }
+
+        @Test
+        void should_loadQuotesFromClasspath_when_builtFromResource() {
+            CompressedQuoteRepository repo = CompressedQuoteRepository.fromClasspath("quotes/quotes-nonempty.txt");
+
+            assertEquals(3, repo.size());
+            assertEquals("compressed:classpath:quotes/quotes-nonempty.txt", repo.description());
+        }
+    }
+
+    @Nested
+    @DisplayName("quoteAt()")
+    final class QuoteAt {
+
+        @Test
+        void should_decodeEveryQuoteExactly() {
+            List<String> quotes = SyntheticCorpus.quotes(5_000, 7);
+            CompressedQuoteRepository repo = new CompressedQuoteRepository("synthetic", quotes);
+
+            for (int i = 0; i < quotes.size(); i++) {
+                assertEquals(quotes.get(i), repo.quoteAt(i));
+            }
+        }
+
+        @Test
+        void should_roundTripBytesOutsideTheSymbolTable_throughEscapes() {
+            List<String> quotes = List.of("Keep going.", "Ünïcödé — ∑ 🚀 survives escaping.", "");
+            CompressedQuoteRepository repo = new CompressedQuoteRepository("mixed", quotes);
+
+            for (int i = 0; i < quotes.size(); i++) {
+                assertEquals(quotes.get(i), repo.quoteAt(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("compressionRatio()")
+    final class CompressionRatio {
+
+        @Test
+        void should_compressShortRepetitiveSentences_atLeastTwofold() {
+            CompressedQuoteRepository repo = new CompressedQuoteRepository("synthetic", SyntheticCorpus.quotes(20_000, 11));
+
+            assertTrue(repo.compressionRatio() > 2.0, "ratio was " + repo.compressionRatio());
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuote()")
+    final class RandomQuote {
+
+        @Test
+        void should_returnEmpty_when_corpusIsEmpty() {
+            assertTrue(new CompressedQuoteRepository("empty", List.of()).randomQuote().isEmpty());
+        }
+
+        @Test
+        void should_returnOneOfTheQuotes() {
+            List<String> quotes = SyntheticCorpus.quotes(100, 3);
+            CompressedQuoteRepository repo = new CompressedQuoteRepository("synthetic", quotes);
+
+            assertTrue(quotes.contains(repo.randomQuote().orElseThrow()));
+        }
+    }
+}
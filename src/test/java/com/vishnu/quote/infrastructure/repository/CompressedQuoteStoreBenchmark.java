@@ -0,0 +1,76 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decode cost of one random quote from the packed UTF-8 store versus the symbol-table compressed store.
+ * The compression ratio of the corpus is printed during setup so both sides of the trade-off land in
+ * the same report: {@code mvn test-compile exec:exec@jmh -Djmh.args=CompressedQuoteStoreBenchmark}.
+ *
+ * <p>The ratio depends entirely on how repetitive the text is, so it is measured on real quotes: by default
+ * a sample of distinct AI-style quotes from the test resources. Pass {@code -p corpus=<file>} to measure a
+ * corpus written by {@code build-corpus} instead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompressedQuoteStoreBenchmark {
+
+    @Param("quotes/ai-sample.txt")
+    public String corpus;
+
+    private PackedQuoteStore packed;
+    private CompressedQuoteRepository compressed;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<String> quotes = load(corpus);
+        packed = BinaryCorpusFormat.decode(BinaryCorpusFormat.encode(quotes));
+        compressed = new CompressedQuoteRepository(corpus, quotes);
+        System.out.printf("%n# corpus=%s quotes=%d packed=%d bytes compression ratio=%.2f%n",
+                corpus, quotes.size(), packed.sizeInBytes(), compressed.compressionRatio());
+    }
+
+    private static List<String> load(String corpus) throws IOException {
+        Path file = Path.of(corpus);
+        if (!Files.isRegularFile(file)) {
+            return ClasspathQuoteRepository.load(corpus);
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return QuoteText.parse(reader);
+        }
+    }
+
+    @Benchmark
+    public String packedRandomQuote() {
+        return packed.quoteAt(ThreadLocalRandom.current().nextInt(packed.size()));
+    }
+
+    @Benchmark
+    public String compressedRandomQuote() {
+        return compressed.quoteAt(ThreadLocalRandom.current().nextInt(compressed.size()));
+    }
+}
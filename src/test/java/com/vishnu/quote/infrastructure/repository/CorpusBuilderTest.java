@@ -0,0 +1,214 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.openai.client.OpenAIClient;
+import com.openai.models.ChatModel;
+import com.vishnu.quote.application.QuoteGenerators;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.infrastructure.openai.LatencyDistribution;
+import com.vishnu.quote.infrastructure.openai.OpenAiResponsesTextClient;
+import com.vishnu.quote.infrastructure.openai.StubResponsesServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CorpusBuilder - against the local Responses API stub")
+final class CorpusBuilderTest {
+
+    private static final List<String> QUOTES = IntStream.rangeClosed(1, 12)
+            .mapToObj(i -> "Step number " + i + " still counts.")
+            .toList();
+
+    @TempDir
+    Path dir;
+
+    private StubResponsesServer server;
+    private OpenAIClient openAi;
+    private QuoteGenerator generator;
+    private Path output;
+
+    @BeforeEach
+    void setUp() {
+        server = StubResponsesServer.start(profile(QUOTES));
+        openAi = server.client();
+        generator = QuoteGenerators.validatedAiOnly(
+                new OpenAiResponsesTextClient(openAi, ChatModel.GPT_4_1_MINI, 0.7, 60));
+        output = dir.resolve("quotes.txt");
+    }
+
+    @AfterEach
+    void tearDown() {
+        openAi.close();
+        server.close();
+    }
+
+    private static StubResponsesServer.Profile profile(List<String> quotes) {
+        return new StubResponsesServer.Profile(
+                LatencyDistribution.fixed(Duration.ZERO), 0, 0, Duration.ZERO, 0, quotes);
+    }
+
+    private static CorpusBuilder.Policy policy(long maxRequests) {
+        // Generous, so a slow machine does not turn requests into timeouts and change the counts.
+        return new CorpusBuilder.Policy(4, 1000, Duration.ofSeconds(30), 1, maxRequests);
+    }
+
+    private List<String> lines() throws IOException {
+        return Files.readAllLines(output, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("build()")
+    final class Build {
+
+        @Test
+        void should_writeDistinctQuotes_untilTargetIsReached() throws IOException {
+            CorpusBuilder.Result result = new CorpusBuilder(generator, policy(100)).build(output, 8);
+
+            assertTrue(result.complete());
+            assertEquals(8, result.quotes());
+            assertEquals(8, result.added());
+            assertEquals(8, new HashSet<>(lines()).size());
+            assertTrue(QUOTES.containsAll(lines()));
+            assertFalse(Files.exists(CorpusBuilder.checkpointPath(output)));
+        }
+
+        @Test
+        void should_dropDuplicates_andStopAtMaxRequests() throws IOException {
+            server.profile(StubResponsesServer.Profile.fast());
+
+            CorpusBuilder.Result result = new CorpusBuilder(generator, policy(12)).build(output, 10);
+
+            assertFalse(result.complete());
+            assertEquals(12, result.requests());
+            assertEquals(8, result.duplicates());
+            assertEquals(4, lines().size());
+            assertEquals(new HashSet<>(StubResponsesServer.DEFAULT_QUOTES), new HashSet<>(lines()));
+            assertTrue(Files.exists(CorpusBuilder.checkpointPath(output)));
+        }
+
+        @Test
+        void should_skipQuotesAlreadyInFile() throws IOException {
+            server.profile(StubResponsesServer.Profile.fast());
+            String first = StubResponsesServer.DEFAULT_QUOTES.getFirst();
+            Files.writeString(output, "# seed\n" + first.toUpperCase());
+
+            CorpusBuilder.Result result = new CorpusBuilder(generator, policy(8)).build(output, 4);
+
+            assertTrue(result.complete());
+            assertEquals(3, result.added());
+            assertEquals(first.toUpperCase(), lines().get(1));
+            assertEquals(5, lines().size());
+        }
+
+        @Test
+        void should_countFailures_when_stubFails() throws IOException {
+            server.profile(profile(QUOTES).withFailures(1, 0));
+
+            CorpusBuilder.Result result = new CorpusBuilder(generator, policy(3)).build(output, 5);
+
+            assertEquals(3, result.failures());
+            assertEquals(0, result.quotes());
+            assertEquals(List.of(), lines());
+        }
+
+        @Test
+        void should_paceRequests_atRequestsPerSecond() throws IOException {
+            CorpusBuilder.Policy paced = new CorpusBuilder.Policy(4, 20, Duration.ofSeconds(30), 1, 100);
+
+            CorpusBuilder.Result result = new CorpusBuilder(generator, paced).build(output, 6);
+
+            assertEquals(6, result.quotes());
+            assertTrue(result.elapsed().compareTo(Duration.ofMillis(240)) >= 0, result.elapsed().toString());
+        }
+    }
+
+    @Nested
+    @DisplayName("resume")
+    final class Resume {
+
+        @Test
+        void should_continueFromCheckpoint_andDropWritesAfterIt() throws IOException {
+            CorpusBuilder.Result first = new CorpusBuilder(generator, policy(3)).build(output, 8);
+            assertFalse(first.complete());
+            assertEquals(3, first.requests());
+            assertEquals(first.quotes(), lines().size());
+            // A crash can leave a half-written line behind the last checkpoint.
+            Files.writeString(output, "Half a quo", StandardOpenOption.APPEND);
+
+            CorpusBuilder.Result second = new CorpusBuilder(generator, policy(100)).build(output, 8);
+
+            assertTrue(second.complete());
+            assertEquals(8 - first.quotes(), second.added());
+            assertTrue(second.requests() >= 3 + second.added());
+            assertEquals(8, new HashSet<>(lines()).size());
+            assertTrue(QUOTES.containsAll(lines()));
+            assertFalse(Files.exists(CorpusBuilder.checkpointPath(output)));
+        }
+
+        @Test
+        void should_cancelInFlightRequests_andCheckpoint_when_interrupted() throws Exception {
+            server.profile(profile(QUOTES).withLatency(LatencyDistribution.fixed(Duration.ofSeconds(20))));
+            CorpusBuilder.Policy slow = new CorpusBuilder.Policy(1, 1000, Duration.ofSeconds(30), 1, 100);
+            AtomicReference<CorpusBuilder.Result> result = new AtomicReference<>();
+            AtomicBoolean interrupted = new AtomicBoolean();
+            Thread builder = new Thread(() -> {
+                try {
+                    result.set(new CorpusBuilder(generator, slow).build(output, 8));
+                    interrupted.set(Thread.currentThread().isInterrupted());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            builder.start();
+            while (server.requests() == 0) {
+                Thread.sleep(5);
+            }
+
+            long start = System.nanoTime();
+            builder.interrupt();
+            builder.join(TimeUnit.SECONDS.toMillis(10));
+
+            assertFalse(builder.isAlive());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+            assertTrue(interrupted.get());
+            assertEquals(0, result.get().quotes());
+            assertTrue(Files.exists(CorpusBuilder.checkpointPath(output)));
+        }
+
+        @Test
+        void should_failFast_when_fileIsShorterThanCheckpoint() throws IOException {
+            new CorpusBuilder(generator, policy(3)).build(output, 8);
+            Files.writeString(output, "");
+
+            assertThrows(IOException.class, () -> new CorpusBuilder(generator, policy(3)).build(output, 8));
+        }
+    }
+
+    @Test
+    void should_throwIllegalArgumentException_when_policyIsInvalid() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CorpusBuilder.Policy(0, 1, Duration.ofSeconds(1), 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CorpusBuilder.Policy(1, 0, Duration.ofSeconds(1), 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CorpusBuilder.Policy(1, 1, Duration.ZERO, 1, 1));
+    }
+}
@@ -0,0 +1,170 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CorpusRegistry")
+final class CorpusRegistryTest {
+
+    private final AtomicInteger loaderCalls = new AtomicInteger();
+    private final CorpusRegistry registry = new CorpusRegistry(name -> {
+        loaderCalls.incrementAndGet();
+        return List.of(name + " one", name + " two");
+    });
+
+    @Nested
+    @DisplayName("acquire(String)")
+    final class Acquire {
+
+        @Test
+        void should_throwIllegalArgumentException_when_resourceNameIsBlank() {
+            assertThrows(IllegalArgumentException.class, () -> registry.acquire(" "));
+        }
+
+        @Test
+        void should_notLoad_until_firstUse() {
+            try (CorpusRegistry.Lease lease = registry.acquire("quotes.txt")) {
+                assertEquals(0, registry.loads());
+                assertEquals(1, registry.references("quotes.txt"));
+
+                assertEquals(2, lease.size());
+                assertEquals(1, registry.loads());
+            }
+        }
+
+        @Test
+        void should_shareOneSnapshot_between_leasesOnSameResource() {
+            try (CorpusRegistry.Lease first = registry.acquire("quotes.txt");
+                 CorpusRegistry.Lease second = registry.acquire("quotes.txt")) {
+
+                assertSame(first.quotes(), second.quotes());
+                assertSame(first.quoteAt(0), second.quoteAt(0));
+                assertEquals(2, registry.references("quotes.txt"));
+                assertEquals(1, loaderCalls.get());
+            }
+        }
+
+        @Test
+        void should_loadSeparately_when_resourcesDiffer() {
+            try (CorpusRegistry.Lease a = registry.acquire("a.txt");
+                 CorpusRegistry.Lease b = registry.acquire("b.txt")) {
+
+                assertEquals("a.txt one", a.quoteAt(0));
+                assertEquals("b.txt one", b.quoteAt(0));
+                assertEquals(Set.of("a.txt", "b.txt"), registry.resources());
+                assertEquals(2, registry.loads());
+            }
+        }
+
+        @Test
+        void should_loadOnce_when_firstUsesRace() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CorpusRegistry slow = new CorpusRegistry(name -> {
+                loaderCalls.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of("shared");
+            });
+            List<CorpusRegistry.Lease> leases = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                leases.add(slow.acquire("quotes.txt"));
+            }
+            try (ExecutorService pool = Executors.newFixedThreadPool(8)) {
+                List<Future<List<String>>> results = new ArrayList<>();
+                for (CorpusRegistry.Lease lease : leases) {
+                    results.add(pool.submit(lease::quotes));
+                }
+                release.countDown();
+                for (Future<List<String>> result : results) {
+                    assertSame(results.get(0).get(), result.get());
+                }
+            }
+            assertEquals(1, loaderCalls.get());
+            assertEquals(1, slow.loads());
+        }
+    }
+
+    @Nested
+    @DisplayName("Lease.close()")
+    final class Close {
+
+        @Test
+        void should_forgetCorpus_when_lastLeaseIsClosed() {
+            CorpusRegistry.Lease first = registry.acquire("quotes.txt");
+            CorpusRegistry.Lease second = registry.acquire("quotes.txt");
+            first.size();
+
+            first.close();
+            assertEquals(1, registry.references("quotes.txt"));
+            second.close();
+
+            assertEquals(0, registry.references("quotes.txt"));
+            assertEquals(Set.of(), registry.resources());
+        }
+
+        @Test
+        void should_releaseOnlyOnce_when_closedTwice() {
+            CorpusRegistry.Lease first = registry.acquire("quotes.txt");
+            CorpusRegistry.Lease second = registry.acquire("quotes.txt");
+
+            first.close();
+            first.close();
+
+            assertEquals(1, registry.references("quotes.txt"));
+            second.close();
+        }
+
+        @Test
+        void should_reload_when_acquiredAgainAfterRelease() {
+            try (CorpusRegistry.Lease lease = registry.acquire("quotes.txt")) {
+                lease.size();
+            }
+            try (CorpusRegistry.Lease lease = registry.acquire("quotes.txt")) {
+                lease.size();
+            }
+
+            assertEquals(2, registry.loads());
+        }
+
+        @Test
+        void should_keepServing_after_close() {
+            CorpusRegistry.Lease lease = registry.acquire("quotes.txt");
+            lease.size();
+
+            lease.close();
+
+            assertTrue(lease.randomQuote().isPresent());
+        }
+    }
+
+    @Nested
+    @DisplayName("shared()")
+    final class Shared {
+
+        @Test
+        void should_readClasspathResources() {
+            try (CorpusRegistry.Lease lease = CorpusRegistry.shared().acquire("quotes/quotes-nonempty.txt");
+                 CorpusRegistry.Lease empty = CorpusRegistry.shared().acquire("quotes/quotes-empty.txt")) {
+
+                assertTrue(lease.size() > 0);
+                assertEquals("classpath:quotes/quotes-nonempty.txt", lease.description());
+                assertTrue(empty.randomQuote().isEmpty());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Load throughput of a multi-file corpus directory per fork-join parallelism. The {@code megabytes}
+ * counter is reported per second, i.e. in MB/s:
+ * {@code mvn test-compile exec:exec@jmh -Djmh.args=DirectoryLoadBenchmark}. Files come from the page
+ * cache after the first iteration, so this measures parsing and packing rather than the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectoryLoadBenchmark {
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"200"})
+    public int files;
+
+    @Param({"5000"})
+    public int quotesPerFile;
+
+    private Path dir;
+    private ForkJoinPool pool;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+        public double megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("corpus-dir");
+        for (int i = 0; i < files; i++) {
+            Path file = dir.resolve("part-" + (i % 10)).resolve("quotes-" + i + ".txt");
+            Files.createDirectories(file.getParent());
+            Files.write(file, SyntheticCorpus.quotes(quotesPerFile, i));
+        }
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.close();
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int load(Throughput throughput) {
+        DirectoryQuoteRepository repo = DirectoryQuoteRepository.load(dir, "**/*.txt", pool);
+        throughput.megabytes += repo.loadedBytes() / 1e6;
+        return repo.size();
+    }
+
+    /**
+     * The single-threaded reader path the classpath corpus uses, as a baseline.
+     */
+    @Benchmark
+    public int bufferedReaderBaseline(Throughput throughput) throws IOException {
+        int quotes = 0;
+        long bytes = 0;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path file : walk.filter(Files::isRegularFile).sorted().toList()) {
+                try (var reader = Files.newBufferedReader(file)) {
+                    List<String> parsed = QuoteText.parse(reader);
+                    quotes += parsed.size();
+                }
+                bytes += Files.size(file);
+            }
+        }
+        throughput.megabytes += bytes / 1e6;
+        return quotes;
+    }
+}
@@ -0,0 +1,134 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DirectoryQuoteRepository")
+final class DirectoryQuoteRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<String> all(DirectoryQuoteRepository repo) {
+        List<String> quotes = new ArrayList<>(repo.size());
+        for (int i = 0; i < repo.size(); i++) {
+            quotes.add(repo.quoteAt(i));
+        }
+        return quotes;
+    }
+
+    private static List<String> split(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        PackedQuoteStore store = PackedQuoteStore.packUtf8(List.of(DirectoryQuoteRepository.split(bytes, 0, bytes.length)));
+        List<String> quotes = new ArrayList<>(store.size());
+        for (int i = 0; i < store.size(); i++) {
+            quotes.add(store.quoteAt(i));
+        }
+        return quotes;
+    }
+
+    @Nested
+    @DisplayName("split(byte[], int, int)")
+    final class Split {
+
+        @Test
+        void should_parseLikeClasspathCorpus() {
+            String text = "  # comment\r\nFirst quote.  \n\n\t\nSecond, with ünïcödé 😀\r\rThird # not a comment\n# last";
+
+            assertEquals(QuoteText.parse(new BufferedReader(new StringReader(text))), split(text));
+            assertEquals(List.of("First quote.", "Second, with ünïcödé 😀", "Third # not a comment"), split(text));
+        }
+
+        @Test
+        void should_keepLastLine_when_fileHasNoTrailingNewline() {
+            assertEquals(List.of("a", "b"), split("a\nb"));
+        }
+
+        @Test
+        void should_findBreaks_at_everyPositionOfAWord() {
+            for (int position = 0; position < 20; position++) {
+                byte[] bytes = "x".repeat(20).getBytes(StandardCharsets.US_ASCII);
+                bytes[position] = '\n';
+
+                assertEquals(position, DirectoryQuoteRepository.nextBreak(bytes, 0, bytes.length));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("load(Path, String)")
+    final class Load {
+
+        @Test
+        void should_mergeMatchingFiles_inPathOrder() throws IOException {
+            Files.createDirectories(dir.resolve("b/nested"));
+            Files.writeString(dir.resolve("b/nested/two.txt"), "Three\n");
+            Files.writeString(dir.resolve("a.txt"), "# header\nOne\nTwo\n");
+            Files.writeString(dir.resolve("notes.md"), "Not a quote\n");
+
+            DirectoryQuoteRepository repo = DirectoryQuoteRepository.load(dir, "{*.txt,**/*.txt}");
+
+            assertEquals(List.of("One", "Two", "Three"), all(repo));
+            assertEquals(2, repo.files());
+            assertEquals(Files.size(dir.resolve("a.txt")) + Files.size(dir.resolve("b/nested/two.txt")), repo.loadedBytes());
+        }
+
+        @Test
+        void should_beEmpty_when_nothingMatches() {
+            DirectoryQuoteRepository repo = DirectoryQuoteRepository.load(dir, "*.txt");
+
+            assertEquals(0, repo.size());
+            assertTrue(repo.randomQuote().isEmpty());
+            assertEquals(-1, repo.randomIndex());
+        }
+
+        @Test
+        void should_splitLargeFile_withoutLosingOrReorderingLines() throws IOException {
+            StringBuilder text = new StringBuilder();
+            int lines = 0;
+            while (text.length() <= 2 * DirectoryQuoteRepository.SPLIT_BYTES + 1) {
+                text.append("Quote number ").append(lines++).append('\n');
+            }
+            Files.writeString(dir.resolve("big.txt"), text);
+
+            DirectoryQuoteRepository repo;
+            try (ForkJoinPool pool = new ForkJoinPool(4)) {
+                repo = DirectoryQuoteRepository.load(dir, "*.txt", pool);
+            }
+
+            assertEquals(lines, repo.size());
+            for (int i = 0; i < lines; i++) {
+                assertEquals("Quote number " + i, repo.quoteAt(i));
+            }
+            assertEquals(text.length(), repo.loadedBytes());
+        }
+
+        @Test
+        void should_returnSameString_when_quotePickedTwice() throws IOException {
+            Files.writeString(dir.resolve("a.txt"), "Only\n");
+            DirectoryQuoteRepository repo = DirectoryQuoteRepository.load(dir, "*.txt");
+
+            assertSame(repo.quoteAt(0), repo.quoteAt(0));
+        }
+
+        @Test
+        void should_throwUncheckedIOException_when_directoryIsMissing() {
+            assertThrows(UncheckedIOException.class, () -> DirectoryQuoteRepository.load(dir.resolve("missing"), "*.txt"));
+        }
+    }
+}
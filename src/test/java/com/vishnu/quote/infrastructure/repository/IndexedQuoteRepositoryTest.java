@@ -0,0 +1,166 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteQuery;
+import com.vishnu.quote.domain.QuoteSearchResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IndexedQuoteRepository")
+final class IndexedQuoteRepositoryTest {
+
+    private static final List<String> QUOTES = List.of(
+            "Focus on progress, not perfection.",
+            "Discipline beats motivation when motivation fades.",
+            "Stay focused on the next action.",
+            "Small steps, taken daily, become massive change.",
+            "Your future self is built by what you do today."
+    );
+
+    private final IndexedQuoteRepository repo = new IndexedQuoteRepository("test", QUOTES);
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwNullPointerException_when_sourceIsNull() {
+            NullPointerException ex = assertThrows(NullPointerException.class, () -> new IndexedQuoteRepository(null, QUOTES));
+            assertEquals("source", ex.getMessage());
+        }
+
+        @Test
+        void should_throwNullPointerException_when_quotesIsNull() {
+            NullPointerException ex = assertThrows(NullPointerException.class, () -> new IndexedQuoteRepository("test", null));
+            assertEquals("quotes", ex.getMessage());
+        }
+
+        @Test
+        void should_loadQuotesFromClasspath_when_builtFromResource() {
+            IndexedQuoteRepository fromClasspath = IndexedQuoteRepository.fromClasspath("quotes/quotes-nonempty.txt");
+
+            QuoteSearchResult result = fromClasspath.search(QuoteQuery.tokens("discipline"), 0, 10);
+
+            assertEquals(List.of("Discipline beats motivation."), result.quotes());
+            assertEquals("indexed:classpath:quotes/quotes-nonempty.txt", fromClasspath.description());
+        }
+    }
+
+    @Nested
+    @DisplayName("search()")
+    final class Search {
+
+        @Test
+        void should_matchSubstringCaseInsensitively() {
+            QuoteSearchResult result = repo.search(QuoteQuery.substring("FOCUS"), 0, 10);
+
+            assertEquals(List.of(QUOTES.get(0), QUOTES.get(2)), result.quotes());
+            assertEquals(2, result.totalMatches());
+            assertFalse(result.hasMore());
+        }
+
+        @Test
+        void should_matchWholeTokensOnly_when_queryIsTokenQuery() {
+            QuoteSearchResult result = repo.search(QuoteQuery.tokens("focus"), 0, 10);
+
+            assertEquals(List.of(QUOTES.get(0)), result.quotes());
+        }
+
+        @Test
+        void should_requireAllTokens_when_queryHasSeveralTokens() {
+            QuoteSearchResult result = repo.search(QuoteQuery.tokens("motivation discipline"), 0, 10);
+
+            assertEquals(List.of(QUOTES.get(1)), result.quotes());
+            assertTrue(repo.search(QuoteQuery.tokens("motivation progress"), 0, 10).quotes().isEmpty());
+        }
+
+        @Test
+        void should_rejectTrigramFalsePositives_when_trigramsMatchButSubstringDoesNot() {
+            QuoteSearchResult result = repo.search(QuoteQuery.substring("motivation fades today"), 0, 10);
+
+            assertEquals(0, result.totalMatches());
+        }
+
+        @Test
+        void should_scan_when_substringIsShorterThanATrigram() {
+            QuoteSearchResult result = repo.search(QuoteQuery.substring("y,"), 0, 10);
+
+            assertEquals(List.of(QUOTES.get(3)), result.quotes());
+        }
+
+        @Test
+        void should_returnRequestedPage_andReportTotal() {
+            List<String> many = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                many.add("Quote number " + i + (i % 3 == 0 ? " about focus" : " about grit"));
+            }
+            IndexedQuoteRepository big = new IndexedQuoteRepository("big", many);
+
+            QuoteSearchResult page = big.search(QuoteQuery.tokens("focus"), 100, 50);
+
+            assertEquals(334, page.totalMatches());
+            assertEquals(50, page.quotes().size());
+            assertEquals("Quote number 300 about focus", page.quotes().get(0));
+            assertTrue(page.hasMore());
+        }
+
+        @Test
+        void should_returnEmptyPage_when_offsetIsPastLastMatch() {
+            QuoteSearchResult result = repo.search(QuoteQuery.substring("focus"), 5, 10);
+
+            assertTrue(result.quotes().isEmpty());
+            assertEquals(2, result.totalMatches());
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_limitIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> repo.search(QuoteQuery.substring("focus"), 0, 0));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_offsetIsNegative() {
+            assertThrows(IllegalArgumentException.class, () -> repo.search(QuoteQuery.substring("focus"), -1, 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("randomMatch()")
+    final class RandomMatch {
+
+        @Test
+        void should_returnAMatchingQuote() {
+            for (int i = 0; i < 20; i++) {
+                Optional<String> result = repo.randomMatch(QuoteQuery.substring("focus"));
+
+                assertTrue(result.isPresent());
+                assertTrue(result.get().toLowerCase().contains("focus"));
+            }
+        }
+
+        @Test
+        void should_returnEmpty_when_nothingMatches() {
+            assertTrue(repo.randomMatch(QuoteQuery.tokens("serendipity")).isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuote()")
+    final class RandomQuote {
+
+        @Test
+        void should_returnEmpty_when_corpusIsEmpty() {
+            assertTrue(new IndexedQuoteRepository("empty", List.of()).randomQuote().isEmpty());
+        }
+
+        @Test
+        void should_returnOneOfTheQuotes() {
+            assertTrue(QUOTES.contains(repo.randomQuote().orElseThrow()));
+        }
+    }
+}
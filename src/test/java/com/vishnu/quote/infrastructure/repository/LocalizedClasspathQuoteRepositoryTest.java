@@ -0,0 +1,178 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import com.vishnu.quote.domain.QuoteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LocalizedClasspathQuoteRepository")
+final class LocalizedClasspathQuoteRepositoryTest {
+
+    private static final String RESOURCE = "quotes/locales/motivation.txt";
+    private static final long LARGE_BUDGET = 1 << 20;
+
+    private static LocalizedClasspathQuoteRepository repository(long budget) {
+        return new LocalizedClasspathQuoteRepository(RESOURCE, budget);
+    }
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwIllegalArgumentException_when_budgetIsNotPositive() {
+            assertThrows(IllegalArgumentException.class, () -> repository(0));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_resourceNameIsBlank() {
+            assertThrows(IllegalArgumentException.class, () -> new LocalizedClasspathQuoteRepository(" ", LARGE_BUDGET));
+        }
+
+        @Test
+        void should_notLoadAnything_when_created() {
+            LocalizedClasspathQuoteRepository repo = repository(LARGE_BUDGET);
+
+            assertEquals(0, repo.loads());
+            assertEquals(Set.of(), repo.residentResources());
+        }
+    }
+
+    @Nested
+    @DisplayName("forLocale(Locale)")
+    final class ForLocale {
+
+        @Test
+        void should_nameResourcesLikeResourceBundles() {
+            LocalizedClasspathQuoteRepository repo = repository(LARGE_BUDGET);
+
+            assertEquals("quotes/locales/motivation_de_AT.txt", repo.resourceName(Locale.forLanguageTag("de-AT")));
+            assertEquals("quotes/locales/motivation.txt", repo.resourceName(Locale.ROOT));
+        }
+
+        @Test
+        void should_useMostSpecificCorpus_when_itExists() {
+            QuoteRepository corpus = repository(LARGE_BUDGET).forLocale(Locale.forLanguageTag("de-AT"));
+
+            assertEquals("classpath:quotes/locales/motivation_de_AT.txt", corpus.description());
+            assertEquals(List.of("Nur net hudeln."), List.of(corpus.quoteAt(0)));
+        }
+
+        @Test
+        void should_fallBackToLanguage_when_countryCorpusIsMissingOrEmpty() {
+            LocalizedClasspathQuoteRepository repo = repository(LARGE_BUDGET);
+
+            assertEquals("classpath:quotes/locales/motivation_de.txt",
+                    repo.forLocale(Locale.forLanguageTag("de-DE")).description());
+            assertEquals("classpath:quotes/locales/motivation_de.txt",
+                    repo.forLocale(Locale.forLanguageTag("de-CH")).description());
+        }
+
+        @Test
+        void should_fallBackToRoot_when_languageHasNoCorpus() {
+            QuoteRepository corpus = repository(LARGE_BUDGET).forLocale(Locale.JAPANESE);
+
+            assertEquals("classpath:quotes/locales/motivation.txt", corpus.description());
+            assertEquals(2, corpus.size());
+        }
+
+        @Test
+        void should_returnEmptyRepository_when_noCorpusExists() {
+            LocalizedClasspathQuoteRepository repo = new LocalizedClasspathQuoteRepository("quotes/missing.txt", LARGE_BUDGET);
+
+            assertEquals(0, repo.forLocale(Locale.GERMAN).size());
+            assertEquals(-1, repo.forLocale(Locale.GERMAN).randomIndex());
+            assertEquals(Optional.empty(), repo.randomQuote(Locale.GERMAN));
+        }
+
+        @Test
+        void should_loadEachCorpusOnce_when_requestedRepeatedly() {
+            LocalizedClasspathQuoteRepository repo = repository(LARGE_BUDGET);
+
+            for (int i = 0; i < 100; i++) {
+                repo.randomQuote(Locale.forLanguageTag("de-DE")).orElseThrow();
+            }
+
+            assertEquals(2, repo.loads());
+            assertEquals(Set.of("quotes/locales/motivation_de_DE.txt", "quotes/locales/motivation_de.txt"),
+                    repo.residentResources());
+        }
+
+        @Test
+        void should_loadOnce_when_manyThreadsAskForSameLocaleAtOnce() throws Exception {
+            LocalizedClasspathQuoteRepository repo = repository(LARGE_BUDGET);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<QuoteRepository>> results = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 64; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return repo.forLocale(Locale.FRENCH);
+                    }));
+                }
+                start.countDown();
+                for (Future<QuoteRepository> result : results) {
+                    assertEquals("Continue, tout simplement.", result.get().quoteAt(0));
+                }
+            }
+
+            assertEquals(1, repo.loads());
+        }
+    }
+
+    @Nested
+    @DisplayName("memory budget")
+    final class MemoryBudget {
+
+        @Test
+        void should_evictLeastRecentlyUsedCorpus_when_overBudget() {
+            LocalizedClasspathQuoteRepository repo = repository(250);
+            repo.forLocale(Locale.ROOT);
+            repo.forLocale(Locale.GERMAN);
+            repo.forLocale(Locale.GERMAN);
+
+            repo.forLocale(Locale.FRENCH);
+
+            assertEquals(Set.of("quotes/locales/motivation_de.txt", "quotes/locales/motivation_fr.txt"),
+                    repo.residentResources());
+            assertEquals(1, repo.evictions());
+            assertTrue(repo.residentBytes() <= 250);
+        }
+
+        @Test
+        void should_reloadEvictedCorpus_when_usedAgain() {
+            LocalizedClasspathQuoteRepository repo = repository(250);
+            repo.forLocale(Locale.ROOT);
+            repo.forLocale(Locale.GERMAN);
+            repo.forLocale(Locale.FRENCH);
+
+            QuoteRepository root = repo.forLocale(Locale.ROOT);
+
+            assertEquals(2, root.size());
+            assertEquals(4, repo.loads());
+        }
+
+        @Test
+        void should_keepNewestCorpus_when_itAloneExceedsBudget() {
+            LocalizedClasspathQuoteRepository repo = repository(1);
+            repo.forLocale(Locale.ROOT);
+
+            QuoteRepository french = repo.forLocale(Locale.FRENCH);
+
+            assertEquals(Set.of("quotes/locales/motivation_fr.txt"), repo.residentResources());
+            assertEquals("Continue, tout simplement.", french.quoteAt(0));
+        }
+    }
+}
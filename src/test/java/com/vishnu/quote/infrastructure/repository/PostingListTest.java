@@ -0,0 +1,58 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PostingList")
+final class PostingListTest {
+
+    @Test
+    void should_decodeAllDocsInOrder_acrossSeveralBlocks() {
+        int[] docs = randomSortedDocs(1_000);
+        PostingList.Cursor cursor = PostingList.cursor(PostingList.encode(docs, docs.length));
+
+        for (int doc : docs) {
+            assertEquals(doc, cursor.next());
+        }
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.next());
+    }
+
+    @Test
+    void should_advanceToFirstDocAtOrAfterTarget() {
+        int[] docs = randomSortedDocs(5_000);
+        PostingList.Cursor cursor = PostingList.cursor(PostingList.encode(docs, docs.length));
+
+        for (int i = 1; i < docs.length; i += 37) {
+            assertEquals(docs[i], cursor.advance(docs[i - 1] + 1));
+        }
+        assertEquals(PostingList.NO_MORE_DOCS, cursor.advance(docs[docs.length - 1] + 1));
+    }
+
+    @Test
+    void should_compressDenseListsBelowFourBytesPerDoc() {
+        int[] docs = new int[10_000];
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = i * 3;
+        }
+
+        byte[] encoded = PostingList.encode(docs, docs.length);
+
+        assertEquals(docs.length, PostingList.count(encoded));
+        assertTrue(encoded.length < docs.length * 2, "dense postings should take ~1 byte per doc");
+    }
+
+    private static int[] randomSortedDocs(int n) {
+        Random random = new Random(42);
+        int[] docs = new int[n];
+        int doc = 0;
+        for (int i = 0; i < n; i++) {
+            doc += 1 + random.nextInt(500);
+            docs[i] = doc;
+        }
+        return docs;
+    }
+}
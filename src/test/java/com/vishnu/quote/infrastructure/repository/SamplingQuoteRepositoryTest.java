@@ -0,0 +1,117 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SamplingQuoteRepository")
+final class SamplingQuoteRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file(String content) throws IOException {
+        return Files.writeString(dir.resolve("quotes.txt"), content);
+    }
+
+    @Nested
+    @DisplayName("constructor")
+    final class Constructor {
+
+        @Test
+        void should_throwUncheckedIOException_when_fileDoesNotExist() {
+            assertThrows(UncheckedIOException.class, () -> new SamplingQuoteRepository(dir.resolve("missing.txt")));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_maxLineBytesIsBelowAlignment() throws IOException {
+            Path quotes = file("Keep going.\n");
+
+            assertThrows(IllegalArgumentException.class, () -> new SamplingQuoteRepository(quotes, 32, 16));
+        }
+    }
+
+    @Nested
+    @DisplayName("randomQuote()")
+    final class RandomQuote {
+
+        @Test
+        void should_returnEmpty_when_fileIsEmpty() throws IOException {
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(file(""))) {
+                assertEquals(Optional.empty(), repo.randomQuote());
+            }
+        }
+
+        @Test
+        void should_returnEmpty_when_fileHasOnlyBlankLinesAndComments() throws IOException {
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(file("\n# header\n   \n#\n"))) {
+                assertEquals(Optional.empty(), repo.randomQuote());
+            }
+        }
+
+        @Test
+        void should_returnTrimmedLines_andSkipCommentsAndBlanks() throws IOException {
+            Path quotes = file("# comment line that is long enough to be hit\n\n  Keep going.  \r\nStart small.\nRest, then rise.");
+            Set<String> seen = new HashSet<>();
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(quotes, 4, 256)) {
+                for (int i = 0; i < 2_000; i++) {
+                    seen.add(repo.randomQuote().orElseThrow());
+                }
+            }
+
+            assertEquals(Set.of("Keep going.", "Start small.", "Rest, then rise."), seen);
+        }
+
+        @Test
+        void should_sampleLinesUniformly_when_lineLengthsDiffer() throws IOException {
+            StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 50; i++) {
+                content.append("short ").append(String.format("%03d", i)).append(" ..........\n");
+                content.append("long ").append(String.format("%03d", i)).append(" ").append("x".repeat(300)).append('\n');
+            }
+            int shortHits = 0;
+            int samples = 20_000;
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(file(content.toString()))) {
+                for (int i = 0; i < samples; i++) {
+                    if (repo.randomQuote().orElseThrow().startsWith("short")) shortHits++;
+                }
+            }
+
+            assertEquals(0.5, shortHits / (double) samples, 0.03);
+        }
+
+        @Test
+        void should_skipLines_when_longerThanMaxLineBytes() throws IOException {
+            Path quotes = file("Keep going.\n" + "y".repeat(500) + "\nStart small.\n");
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(quotes, 8, 64)) {
+                for (int i = 0; i < 1_000; i++) {
+                    assertTrue(repo.randomQuote().orElseThrow().length() < 64);
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("description()")
+    final class Description {
+
+        @Test
+        void should_describeFile() throws IOException {
+            Path quotes = file("Keep going.\n");
+            try (SamplingQuoteRepository repo = new SamplingQuoteRepository(quotes)) {
+                assertEquals("file-sampling:" + quotes, repo.description());
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.vishnu.quote.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class SyntheticCorpus {
+
+    private static final String[] OPENINGS = {
+            "Small steps", "Discipline", "Consistency", "Every day", "Your effort", "Focus",
+            "Patience", "Hard work", "A clear goal", "Courage", "Progress", "Your future self"
+    };
+    private static final String[] MIDDLES = {
+            " taken daily", " beats motivation", " compounds over time", " builds momentum",
+            " turns into habit", " outlasts talent", " opens new doors", " makes the difference"
+    };
+    private static final String[] ENDINGS = {
+            " when motivation fades.", ", not perfection.", " if you keep going.", " one day at a time.",
+            " when nobody is watching.", " so start today.", " and the rest will follow.", "."
+    };
+
+    private SyntheticCorpus() {
+    }
+
+    static List<String> quotes(int count, long seed) {
+        Random random = new Random(seed);
+        List<String> quotes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            quotes.add(OPENINGS[random.nextInt(OPENINGS.length)]
+                    + MIDDLES[random.nextInt(MIDDLES.length)]
+                    + ENDINGS[random.nextInt(ENDINGS.length)]);
+        }
+        return quotes;
+    }
+}
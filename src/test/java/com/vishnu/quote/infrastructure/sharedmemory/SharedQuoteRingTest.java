@@ -0,0 +1,238 @@
+package com.vishnu.quote.infrastructure.sharedmemory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SharedQuoteRing")
+final class SharedQuoteRingTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("open()")
+    final class Open {
+
+        @Test
+        void should_throwIllegalArgumentException_when_capacityIsNotPowerOfTwo() {
+            assertThrows(IllegalArgumentException.class, () -> SharedQuoteRing.open(dir.resolve("ring"), 3, 64));
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_slotBytesIsNotAligned() {
+            assertThrows(IllegalArgumentException.class, () -> SharedQuoteRing.open(dir.resolve("ring"), 4, 60));
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_existingRingHasDifferentGeometry() {
+            Path path = dir.resolve("ring");
+            SharedQuoteRing.open(path, 4, 64).close();
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class, () -> SharedQuoteRing.open(path, 8, 64));
+            assertTrue(ex.getMessage().contains("has capacity 4"));
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_fileIsNotARing() throws Exception {
+            Path path = dir.resolve("ring");
+            Files.writeString(path, "not a ring at all");
+
+            assertThrows(IllegalStateException.class, () -> SharedQuoteRing.open(path, 4, 64));
+        }
+
+        @Test
+        void should_initialize_when_creatorDiedBeforeWritingHeader() throws Exception {
+            Path path = dir.resolve("ring");
+            Files.write(path, new byte[192 + 4 * 64]);
+
+            try (SharedQuoteRing ring = SharedQuoteRing.open(path, 4, 64)) {
+                assertTrue(ring.offer("Recovered."));
+                assertEquals(Optional.of("Recovered."), ring.poll());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("offer() and poll()")
+    final class OfferAndPoll {
+
+        @Test
+        void should_returnQuotesInFifoOrder() {
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 4, 64)) {
+                assertTrue(ring.offer("Keep going."));
+                assertTrue(ring.offer("Stay focused."));
+
+                assertEquals(2, ring.size());
+                assertEquals(Optional.of("Keep going."), ring.poll());
+                assertEquals(Optional.of("Stay focused."), ring.poll());
+                assertEquals(Optional.empty(), ring.poll());
+            }
+        }
+
+        @Test
+        void should_rejectOffer_when_ringIsFull() {
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 2, 64)) {
+                assertTrue(ring.offer("a"));
+                assertTrue(ring.offer("b"));
+
+                assertFalse(ring.offer("c"));
+
+                ring.poll();
+                assertTrue(ring.offer("c"));
+            }
+        }
+
+        @Test
+        void should_rejectOffer_when_quoteDoesNotFitInASlot() {
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 2, 16)) {
+                assertFalse(ring.offer("This quote is longer than four bytes."));
+                assertEquals(0, ring.size());
+            }
+        }
+
+        @Test
+        void should_shareQuotes_betweenIndependentMappingsOfTheSameFile() {
+            Path path = dir.resolve("ring");
+            try (SharedQuoteRing producer = SharedQuoteRing.open(path, 8, 128);
+                 SharedQuoteRing consumer = SharedQuoteRing.open(path, 8, 128)) {
+                producer.offer("Ünïcödé travels between processes.");
+
+                assertEquals(Optional.of("Ünïcödé travels between processes."), consumer.poll());
+                assertEquals(Optional.empty(), producer.poll());
+            }
+        }
+
+        @Test
+        void should_deliverEveryQuoteExactlyOnce_withConcurrentProducersAndConsumers() throws Exception {
+            Path path = dir.resolve("ring");
+            int producers = 4;
+            int perProducer = 5_000;
+            Set<String> received = ConcurrentHashMap.newKeySet();
+            AtomicInteger duplicates = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(producers);
+            ExecutorService pool = Executors.newFixedThreadPool(producers + 2);
+
+            try (SharedQuoteRing a = SharedQuoteRing.open(path, 64, 64);
+                 SharedQuoteRing b = SharedQuoteRing.open(path, 64, 64)) {
+                for (int p = 0; p < producers; p++) {
+                    SharedQuoteRing ring = p % 2 == 0 ? a : b;
+                    int id = p;
+                    pool.submit(() -> {
+                        for (int i = 0; i < perProducer; i++) {
+                            while (!ring.offer(id + ":" + i)) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                        done.countDown();
+                    });
+                }
+                for (SharedQuoteRing ring : new SharedQuoteRing[]{a, b}) {
+                    pool.submit(() -> {
+                        while (done.getCount() > 0 || ring.size() > 0) {
+                            ring.poll().ifPresent(q -> {
+                                if (!received.add(q)) duplicates.incrementAndGet();
+                            });
+                        }
+                    });
+                }
+                pool.shutdown();
+                assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+            }
+
+            assertEquals(0, duplicates.get());
+            assertEquals(producers * perProducer, received.size());
+        }
+    }
+
+    @Nested
+    @DisplayName("recovery")
+    final class Recovery {
+
+        private static final Duration RECLAIM_AFTER = Duration.ofMillis(50);
+
+        @Test
+        void should_skipSlot_when_producerDiedBeforePublishing() throws Exception {
+            Path path = dir.resolve("ring");
+            try (SharedQuoteRing ring = SharedQuoteRing.open(path, 4, 64, RECLAIM_AFTER)) {
+                poke(path, header -> header.putLong(64, 1L)); // claimed position 0, never published
+
+                assertEquals(Optional.empty(), ring.poll());
+                Thread.sleep(RECLAIM_AFTER.toMillis() * 2);
+                assertEquals(Optional.empty(), ring.poll());
+
+                assertTrue(ring.offer("After the gap."));
+                assertEquals(Optional.of("After the gap."), ring.poll());
+            }
+        }
+
+        @Test
+        void should_freeSlot_when_consumerDiedBeforeReleasing() throws Exception {
+            Path path = dir.resolve("ring");
+            try (SharedQuoteRing ring = SharedQuoteRing.open(path, 2, 64, RECLAIM_AFTER)) {
+                ring.offer("a");
+                ring.offer("b");
+                poke(path, header -> header.putLong(128, 1L)); // claimed "a", never released
+                assertEquals(Optional.of("b"), ring.poll());
+
+                assertFalse(ring.offer("c"));
+                Thread.sleep(RECLAIM_AFTER.toMillis() * 2);
+                assertTrue(ring.offer("c"));
+
+                assertEquals(Optional.of("c"), ring.poll());
+            }
+        }
+
+        @Test
+        void should_dropSlot_when_lengthIsOutOfRange() throws Exception {
+            Path path = dir.resolve("ring");
+            try (SharedQuoteRing ring = SharedQuoteRing.open(path, 4, 64)) {
+                ring.offer("a");
+                ring.offer("b");
+                poke(path, header -> header.putInt(192 + 8, Integer.MAX_VALUE));
+
+                assertEquals(Optional.empty(), ring.poll());
+                assertEquals(Optional.of("b"), ring.poll());
+            }
+        }
+
+        @Test
+        void should_throwIllegalArgumentException_when_reclaimAfterIsNotPositive() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> SharedQuoteRing.open(dir.resolve("ring"), 4, 64, Duration.ZERO));
+        }
+
+        /**
+         * Writes to the file through a separate mapping, as another process would.
+         */
+        private static void poke(Path path, Consumer<MappedByteBuffer> write) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+                buffer.order(ByteOrder.nativeOrder());
+                write.accept(buffer);
+                buffer.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.vishnu.quote.infrastructure.sharedmemory;
+
+import com.vishnu.quote.domain.QuoteGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("SharedRingQuoteGenerator and SharedQuotePoolFiller")
+final class SharedRingQuoteGeneratorTest {
+
+    @TempDir
+    Path dir;
+
+    @Nested
+    @DisplayName("generate()")
+    final class Generate {
+
+        @Test
+        void should_throwNullPointerException_when_ringIsNull() {
+            NullPointerException ex = assertThrows(NullPointerException.class, () -> new SharedRingQuoteGenerator(null));
+            assertEquals("ring", ex.getMessage());
+        }
+
+        @Test
+        void should_returnPooledQuote() {
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 4, 64)) {
+                ring.offer("Keep going.");
+
+                assertEquals("Keep going.", new SharedRingQuoteGenerator(ring).generate());
+            }
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_poolIsEmpty() {
+            Path path = dir.resolve("ring");
+            try (SharedQuoteRing ring = SharedQuoteRing.open(path, 4, 64)) {
+                IllegalStateException ex = assertThrows(IllegalStateException.class, new SharedRingQuoteGenerator(ring)::generate);
+
+                assertEquals("Shared quote pool is empty: " + path, ex.getMessage());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("SharedQuotePoolFiller.topUp()")
+    final class TopUp {
+
+        @Test
+        void should_publishUpToFreeCapacity_andTrimQuotes() {
+            QuoteGenerator source = mock(QuoteGenerator.class);
+            when(source.generate()).thenReturn("  Stay focused.  ");
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 4, 64)) {
+                ring.offer("Already here.");
+
+                int published = new SharedQuotePoolFiller(source, ring, 10).topUp();
+
+                assertEquals(3, published);
+                assertEquals(4, ring.size());
+                verify(source, times(3)).generate();
+                ring.poll();
+                assertEquals("Stay focused.", ring.poll().orElseThrow());
+            }
+        }
+
+        @Test
+        void should_skipBlankQuotes_and_stopOnSourceFailure() {
+            QuoteGenerator source = mock(QuoteGenerator.class);
+            when(source.generate()).thenReturn(" ", "Keep going.").thenThrow(new RuntimeException("ai unavailable"));
+            try (SharedQuoteRing ring = SharedQuoteRing.open(dir.resolve("ring"), 8, 64)) {
+                int published = new SharedQuotePoolFiller(source, ring, 5).topUp();
+
+                assertEquals(1, published);
+                verify(source, times(3)).generate();
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.vishnu.quote.infrastructure.socket;
+
+import com.vishnu.quote.application.QuoteService;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteSocketServer")
+final class QuoteSocketServerTest {
+
+    @TempDir
+    Path dir;
+
+    private QuoteSocketServer server;
+    private QuoteSocketClient client;
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) client.close();
+        if (server != null) server.close();
+    }
+
+    private void start(QuoteGenerator generator) {
+        server = QuoteSocketServer.start(dir.resolve("quotes.sock"), new QuoteService(generator));
+        client = QuoteSocketClient.connect(server.path());
+    }
+
+    private static QuoteGenerator echoTopic() {
+        return new QuoteGenerator() {
+            @Override
+            public String generate() {
+                return "any quote";
+            }
+
+            @Override
+            public String generate(QuoteRequest request) {
+                return "about " + request.topic() + "/" + request.tone() + "/" + request.maxLength();
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("requests")
+    final class Requests {
+
+        @Test
+        void should_returnQuote_when_requestIsUnconstrained() {
+            start(echoTopic());
+
+            assertEquals("any quote", client.randomQuote(QuoteRequest.any()));
+        }
+
+        @Test
+        void should_passRequestFields_when_requestIsConstrained() {
+            start(echoTopic());
+
+            String quote = client.randomQuote(QuoteRequest.about("Grit").withTone("calm").withMaxLength(80));
+
+            assertEquals("about grit/calm/80", quote);
+        }
+
+        @Test
+        void should_answerPing_when_serverIsUp() {
+            start(echoTopic());
+
+            assertDoesNotThrow(client::ping);
+        }
+
+        @Test
+        void should_throwIllegalStateException_when_generatorFails() {
+            start(() -> {
+                throw new IllegalStateException("no quotes left");
+            });
+
+            IllegalStateException ex = assertThrows(IllegalStateException.class,
+                    () -> client.randomQuote(QuoteRequest.any()));
+            assertEquals("no quotes left", ex.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("pipelining")
+    final class Pipelining {
+
+        @Test
+        void should_matchEveryAnswerToItsRequest_when_manyRequestsArePipelined() {
+            start(echoTopic());
+            List<CompletableFuture<String>> answers = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                answers.add(client.randomQuoteAsync(QuoteRequest.about("t" + i)));
+            }
+
+            for (int i = 0; i < answers.size(); i++) {
+                assertEquals("about t" + i + "/null/0", answers.get(i).join());
+            }
+        }
+
+        @Test
+        void should_answerLaterRequest_when_earlierRequestIsSlow() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            start(new QuoteGenerator() {
+                @Override
+                public String generate() {
+                    return "fast";
+                }
+
+                @Override
+                public String generate(QuoteRequest request) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "slow";
+                }
+            });
+
+            CompletableFuture<String> slow = client.randomQuoteAsync(QuoteRequest.about("slow"));
+            CompletableFuture<String> fast = client.randomQuoteAsync(QuoteRequest.any());
+
+            assertEquals("fast", fast.get(5, TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+            release.countDown();
+            assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+        }
+
+        @Test
+        void should_capRequestsRunningPerConnection_when_clientPipelinesFasterThanServer() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            start(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return "done";
+            });
+            List<CompletableFuture<String>> answers = new ArrayList<>();
+            for (int i = 0; i < QuoteSocketServer.MAX_IN_FLIGHT * 2; i++) {
+                answers.add(client.randomQuoteAsync(QuoteRequest.any()));
+            }
+
+            long waitUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (running.get() < QuoteSocketServer.MAX_IN_FLIGHT && System.nanoTime() < waitUntil) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+            assertEquals(QuoteSocketServer.MAX_IN_FLIGHT, peak.get());
+            release.countDown();
+            for (CompletableFuture<String> answer : answers) {
+                assertEquals("done", answer.get(5, TimeUnit.SECONDS));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("lifecycle")
+    final class Lifecycle {
+
+        @Test
+        void should_replaceStaleSocketFile_when_starting() throws IOException {
+            Path stale = Files.writeString(dir.resolve("quotes.sock"), "left over");
+
+            start(echoTopic());
+
+            assertEquals(stale, server.path());
+            assertEquals("any quote", client.randomQuote(QuoteRequest.any()));
+        }
+
+        @Test
+        void should_removeSocketFile_when_closed() {
+            start(echoTopic());
+
+            server.close();
+            server = null;
+
+            assertFalse(Files.exists(dir.resolve("quotes.sock")));
+        }
+
+        @Test
+        void should_dropConnection_when_frameIsTooLarge() throws IOException {
+            start(echoTopic());
+            try (SocketChannel raw = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                raw.connect(UnixDomainSocketAddress.of(server.path()));
+                raw.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE));
+
+                assertEquals(-1, raw.read(ByteBuffer.allocate(16)));
+            }
+            assertEquals("any quote", client.randomQuote(QuoteRequest.any()));
+        }
+
+        @Test
+        void should_answerBadRequest_when_stringLengthRunsPastFrame() throws IOException {
+            start(echoTopic());
+            try (SocketChannel raw = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+                raw.connect(UnixDomainSocketAddress.of(server.path()));
+                ByteBuffer frame = ByteBuffer.allocate(64);
+                frame.putInt(0).putInt(7).put(QuoteSocketProtocol.OP_RANDOM).putShort((short) 1000).put("abc".getBytes());
+                frame.putInt(0, frame.position() - Integer.BYTES).flip();
+                raw.write(frame);
+
+                ByteBuffer response = ByteBuffer.allocate(64);
+                while (response.position() < Integer.BYTES * 2 + 1) {
+                    assertNotEquals(-1, raw.read(response));
+                }
+                assertEquals(7, response.getInt(Integer.BYTES));
+                assertEquals(QuoteSocketProtocol.STATUS_BAD_REQUEST, response.get(Integer.BYTES * 2));
+            }
+        }
+
+        @Test
+        void should_failPendingCalls_when_clientIsClosed() {
+            CountDownLatch never = new CountDownLatch(1);
+            start(() -> {
+                try {
+                    never.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "late";
+            });
+            CompletableFuture<String> answer = client.randomQuoteAsync(QuoteRequest.any());
+
+            client.close();
+            client = null;
+
+            assertTrue(answer.isCompletedExceptionally());
+        }
+    }
+}
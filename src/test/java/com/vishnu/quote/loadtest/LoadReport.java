@@ -0,0 +1,59 @@
+package com.vishnu.quote.loadtest;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Outcome of one {@link QuoteLoadGenerator} run. {@code latency} is measured from each request's intended
+ * start time, so a stalled client or saturated service shows up as queueing delay instead of being hidden
+ * (coordinated omission); {@code serviceTime} is measured from when the request actually started.
+ */
+public record LoadReport(
+        double targetRate,
+        Duration elapsed,
+        long requests,
+        long errors,
+        long fallbacks,
+        boolean fallbacksKnown,
+        LatencyRecorder latency,
+        LatencyRecorder serviceTime
+) {
+
+    public double throughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : (requests - errors) / seconds;
+    }
+
+    public double errorRate() {
+        return requests == 0 ? 0 : (double) errors / requests;
+    }
+
+    public double fallbackRate() {
+        long served = requests - errors;
+        return served == 0 ? 0 : (double) fallbacks / served;
+    }
+
+    public String format() {
+        return String.format(Locale.ROOT,
+                "target rate      %.1f req/s%n"
+                        + "requests         %d in %.1f s (%d errors, %.2f%%)%n"
+                        + "throughput       %.1f req/s%n"
+                        + "fallback rate    %s%n"
+                        + "latency          %s%n"
+                        + "service time     %s%n",
+                targetRate, requests, elapsed.toNanos() / 1e9, errors, errorRate() * 100,
+                throughput(),
+                fallbacksKnown ? String.format(Locale.ROOT, "%.2f%%", fallbackRate() * 100) : "n/a",
+                percentiles(latency), percentiles(serviceTime));
+    }
+
+    private static String percentiles(LatencyRecorder recorder) {
+        return String.format(Locale.ROOT, "p50=%s p90=%s p99=%s p99.9=%s max=%s",
+                millis(recorder.percentile(0.50)), millis(recorder.percentile(0.90)),
+                millis(recorder.percentile(0.99)), millis(recorder.percentile(0.999)), millis(recorder.max()));
+    }
+
+    private static String millis(Duration duration) {
+        return String.format(Locale.ROOT, "%.1fms", duration.toNanos() / 1e6);
+    }
+}
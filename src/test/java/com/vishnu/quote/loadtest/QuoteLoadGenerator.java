@@ -0,0 +1,172 @@
+package com.vishnu.quote.loadtest;
+
+import com.openai.client.OpenAIClient;
+import com.openai.models.ChatModel;
+import com.vishnu.quote.application.QuoteService;
+import com.vishnu.quote.domain.QuoteGenerator;
+import com.vishnu.quote.domain.QuoteRequest;
+import com.vishnu.quote.generator.FallbackQuoteGenerator;
+import com.vishnu.quote.generator.MotivationalQuoteGenerator;
+import com.vishnu.quote.generator.QuoteValidator;
+import com.vishnu.quote.generator.RepositoryMotivationalQuoteGenerator;
+import com.vishnu.quote.infrastructure.openai.LatencyDistribution;
+import com.vishnu.quote.infrastructure.openai.OpenAiResponsesTextClient;
+import com.vishnu.quote.infrastructure.openai.StubResponsesServer;
+import com.vishnu.quote.infrastructure.repository.ClasspathQuoteRepository;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator: requests are issued at a fixed arrival rate, each on its own virtual thread,
+ * whether or not earlier ones have finished. Latency is taken from the time a request was scheduled to
+ * start, so it includes any time the generator itself fell behind.
+ *
+ * <p>Run through the {@code loadtest} exec execution, for example
+ * {@code mvn test-compile exec:exec@loadtest -Dloadtest.args="--rate=200 --duration=30s --latency=lognormal:600ms:0.6"}.
+ * By default it drives an in-process {@link QuoteService} wired to a local {@link StubResponsesServer};
+ * {@code --url=http://host:port/quote/random} drives a running server instead.
+ */
+public final class QuoteLoadGenerator {
+
+    /**
+     * One request. Returns {@code true} if the quote came from the fallback.
+     */
+    @FunctionalInterface
+    public interface Call {
+        boolean execute() throws Exception;
+    }
+
+    private final Call call;
+    private final boolean fallbacksKnown;
+
+    public QuoteLoadGenerator(Call call, boolean fallbacksKnown) {
+        this.call = Objects.requireNonNull(call, "call");
+        this.fallbacksKnown = fallbacksKnown;
+    }
+
+    /**
+     * Issues {@code ratePerSecond * (warmup + duration)} requests. Requests scheduled during the warmup are
+     * sent but not recorded. Returns once every request has completed.
+     */
+    public LoadReport run(double ratePerSecond, Duration duration, Duration warmup) {
+        if (!(ratePerSecond > 0)) {
+            throw new IllegalArgumentException("ratePerSecond must be > 0");
+        }
+        long interval = (long) (1e9 / ratePerSecond);
+        long warmupRequests = warmup.toNanos() / interval;
+        long measuredRequests = Math.max(1, duration.toNanos() / interval);
+
+        LatencyRecorder latency = new LatencyRecorder();
+        LatencyRecorder serviceTime = new LatencyRecorder();
+        LongAdder errors = new LongAdder();
+        LongAdder fallbacks = new LongAdder();
+
+        long start = System.nanoTime();
+        long measuredStart = start + warmupRequests * interval;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < warmupRequests + measuredRequests; i++) {
+                long intended = start + i * interval;
+                boolean measured = i >= warmupRequests;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                executor.execute(() -> {
+                    long begin = System.nanoTime();
+                    boolean failed = false;
+                    boolean fromFallback = false;
+                    try {
+                        fromFallback = call.execute();
+                    } catch (Exception e) {
+                        failed = true;
+                    }
+                    long end = System.nanoTime();
+                    if (measured) {
+                        latency.record(end - intended);
+                        serviceTime.record(end - begin);
+                        if (failed) errors.increment();
+                        if (fromFallback) fallbacks.increment();
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - measuredStart);
+        return new LoadReport(ratePerSecond, elapsed, latency.count(), errors.sum(), fallbacks.sum(),
+                fallbacksKnown, latency, serviceTime);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = options(args);
+        double rate = Double.parseDouble(options.getOrDefault("rate", "50"));
+        Duration duration = LatencyDistribution.duration(options.getOrDefault("duration", "30s"));
+        Duration warmup = LatencyDistribution.duration(options.getOrDefault("warmup", "5s"));
+
+        if (options.containsKey("url")) {
+            try (HttpClient http = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build()) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(options.get("url"))).GET().build();
+                QuoteLoadGenerator generator = new QuoteLoadGenerator(() -> {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("HTTP " + response.statusCode());
+                    }
+                    return false;
+                }, false);
+                System.out.print(generator.run(rate, duration, warmup).format());
+            }
+            return;
+        }
+
+        StubResponsesServer.Profile profile = StubResponsesServer.Profile.fast()
+                .withLatency(LatencyDistribution.parse(options.getOrDefault("latency", "lognormal:600ms:0.5")))
+                .withFailures(Double.parseDouble(options.getOrDefault("errors", "0.01")),
+                        Double.parseDouble(options.getOrDefault("throttle", "0.01")))
+                .withStreamChunkDelay(LatencyDistribution.duration(options.getOrDefault("chunk-delay", "0ms")))
+                .withMessyRate(Double.parseDouble(options.getOrDefault("messy", "0")));
+        Duration aiBudget = LatencyDistribution.duration(options.getOrDefault("budget", "8s"));
+
+        try (StubResponsesServer server = StubResponsesServer.start(profile)) {
+            OpenAIClient openAi = server.client();
+            ThreadLocal<Boolean> servedByFallback = ThreadLocal.withInitial(() -> false);
+            QuoteGenerator repository = new RepositoryMotivationalQuoteGenerator(
+                    new ClasspathQuoteRepository("quotes.txt"));
+            QuoteGenerator fallback = () -> {
+                servedByFallback.set(true);
+                return repository.generate();
+            };
+            QuoteGenerator primary = MotivationalQuoteGenerator.validating(
+                    new OpenAiResponsesTextClient(openAi, ChatModel.GPT_4_1_MINI, 0.9, 60), QuoteValidator.defaults());
+            QuoteService service = new QuoteService(new FallbackQuoteGenerator(primary, fallback, aiBudget));
+
+            QuoteLoadGenerator generator = new QuoteLoadGenerator(() -> {
+                servedByFallback.set(false);
+                service.motivationalQuote(QuoteRequest.any());
+                return servedByFallback.get();
+            }, true);
+            System.out.print(generator.run(rate, duration, warmup).format());
+            openAi.close();
+        }
+    }
+
+    private static Map<String, String> options(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,113 @@
+package com.vishnu.quote.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("QuoteLoadGenerator - open-loop load harness")
+final class QuoteLoadGeneratorTest {
+
+    @Nested
+    @DisplayName("LatencyRecorder")
+    final class Recorder {
+
+        @Test
+        void should_reportExactValues_when_belowLinearRange() {
+            LatencyRecorder recorder = new LatencyRecorder();
+            for (long v = 1; v <= 100; v++) {
+                recorder.record(v);
+            }
+
+            assertEquals(50, recorder.percentile(0.5).toNanos());
+            assertEquals(99, recorder.percentile(0.99).toNanos());
+            assertEquals(100, recorder.max().toNanos());
+        }
+
+        @Test
+        void should_stayWithinTwoPercent_when_valuesAreLarge() {
+            LatencyRecorder recorder = new LatencyRecorder();
+            for (long ms = 1; ms <= 1000; ms++) {
+                recorder.record(Duration.ofMillis(ms).toNanos());
+            }
+
+            assertEquals(500, recorder.percentile(0.5).toNanos() / 1e6, 10);
+            assertEquals(990, recorder.percentile(0.99).toNanos() / 1e6, 20);
+            assertEquals(Duration.ofMillis(1000), recorder.max());
+        }
+
+        @Test
+        void should_returnZero_when_nothingRecorded() {
+            assertEquals(Duration.ZERO, new LatencyRecorder().percentile(0.99));
+        }
+
+        @Test
+        void should_keepBucketsMonotonic_when_valuesGrow() {
+            int previous = -1;
+            for (long v = 0; v < 1 << 20; v += 7) {
+                int index = LatencyRecorder.index(v);
+                assertTrue(index >= previous);
+                previous = index;
+            }
+            assertTrue(LatencyRecorder.index(Long.MAX_VALUE) > previous);
+        }
+    }
+
+    @Nested
+    @DisplayName("run")
+    final class Run {
+
+        @Test
+        void should_issueRequestsAtTargetRate_when_callsAreFast() {
+            AtomicInteger calls = new AtomicInteger();
+            QuoteLoadGenerator generator = new QuoteLoadGenerator(() -> {
+                calls.incrementAndGet();
+                return false;
+            }, true);
+
+            LoadReport report = generator.run(200, Duration.ofMillis(500), Duration.ofMillis(100));
+
+            assertEquals(100, report.requests());
+            assertEquals(120, calls.get());
+            assertEquals(0, report.errors());
+            assertTrue(report.throughput() > 100);
+        }
+
+        @Test
+        void should_countErrorsAndFallbacks_when_callsFailOrFallBack() {
+            AtomicInteger calls = new AtomicInteger();
+            QuoteLoadGenerator generator = new QuoteLoadGenerator(() -> {
+                int n = calls.getAndIncrement();
+                if (n % 4 == 0) throw new IllegalStateException("boom");
+                return n % 4 == 1;
+            }, true);
+
+            LoadReport report = generator.run(400, Duration.ofMillis(100), Duration.ZERO);
+
+            assertEquals(40, report.requests());
+            assertEquals(10, report.errors());
+            assertEquals(10, report.fallbacks());
+            assertEquals(1.0 / 3, report.fallbackRate(), 1e-9);
+            assertTrue(report.format().contains("fallback rate    33.33%"));
+        }
+
+        @Test
+        void should_measureFromIntendedStart_when_callsOverlap() {
+            QuoteLoadGenerator generator = new QuoteLoadGenerator(() -> {
+                Thread.sleep(50);
+                return false;
+            }, false);
+
+            LoadReport report = generator.run(100, Duration.ofMillis(200), Duration.ZERO);
+
+            assertEquals(20, report.requests());
+            assertTrue(report.latency().percentile(0.5).toMillis() >= 50);
+            assertTrue(report.latency().percentile(0.5).toMillis() < 500);
+            assertTrue(report.format().contains("fallback rate    n/a"));
+        }
+    }
+}